@@ -46,6 +46,13 @@ export const jpaUserService = {
     })
   },
   
+  // 커서 기반 페이징 조회 (after: 이전 응답의 nextCursor, 첫 페이지는 '')
+  getUsersByCursor(after = '', size = 10, sortBy = 'createdAt') {
+    return api.get('/users/paged', {
+      params: { after, size, sortBy }
+    })
+  },
+  
   // ID로 사용자 조회
   getUserById(id) {
     return api.get(`/users/${id}`)
@@ -70,9 +77,18 @@ export const jpaUserService = {
     })
   },
   
+  // 이메일 도메인별 사용자 수 (사용자 수 내림차순)
+  getEmailDomainCounts(limit = 20) {
+    return api.get('/users/domains', {
+      params: { limit }
+    })
+  },
+  
   // 최근 사용자 조회
-  getRecentUsers() {
-    return api.get('/users/recent')
+  getRecentUsers(limit = 10) {
+    return api.get('/users/recent', {
+      params: { limit }
+    })
   },
   
   // 활성 사용자 수 조회
@@ -83,6 +99,13 @@ export const jpaUserService = {
   // 사용자 생성
   createUser(user) {
     return api.post('/users', user)
+  },
+  
+  // 사용자 비활성화 (version 을 주면 다른 요청이 먼저 수정했을 때 409)
+  deactivateUser(id, version = null) {
+    return api.post(`/users/${id}/deactivate`, null, {
+      params: version != null ? { version } : {}
+    })
   }
 }
 
@@ -100,6 +123,13 @@ export const mybatisUserService = {
     })
   },
   
+  // 커서 기반 페이징 조회 (after: 이전 응답의 nextCursor, 첫 페이지는 '')
+  getUsersByCursor(after = '', size = 10, sortBy = 'createdAt') {
+    return api.get('/mybatis/users/paged', {
+      params: { after, size, sortBy }
+    })
+  },
+  
   // ID로 사용자 조회
   getUserById(id) {
     return api.get(`/mybatis/users/${id}`)
@@ -124,9 +154,18 @@ export const mybatisUserService = {
     })
   },
   
+  // 이메일 도메인별 사용자 수 (사용자 수 내림차순)
+  getEmailDomainCounts(limit = 20) {
+    return api.get('/mybatis/users/domains', {
+      params: { limit }
+    })
+  },
+  
   // 최근 사용자 조회
-  getRecentUsers() {
-    return api.get('/mybatis/users/recent')
+  getRecentUsers(limit = 10) {
+    return api.get('/mybatis/users/recent', {
+      params: { limit }
+    })
   },
   
   // 활성 사용자 수 조회
@@ -157,4 +196,34 @@ export const mybatisUserService = {
   }
 }
 
+// 사용자 변경 피드 (Server-Sent Events, JPA/MyBatis 공통)
+export const userChangeFeed = {
+  // 변경(user)/재동기화(resync) 이벤트 구독, 반환된 함수로 구독 해제
+  // 연결이 끊기면 EventSource 가 Last-Event-ID 로 재연결해 놓친 이벤트를 받는다
+  subscribe({ onChange, onResync, onStatus = () => {} }) {
+    const source = new EventSource('/api/users/changes')
+    source.addEventListener('user', event => onChange(JSON.parse(event.data)))
+    source.addEventListener('resync', () => onResync())
+    source.onopen = () => onStatus(true)
+    source.onerror = () => onStatus(false)
+    return () => source.close()
+  }
+}
+
+// JPA/MyBatis 일관성 비교 API 서비스
+export const consistencyService = {
+  // 서버에서 id 구간 해시로 두 경로를 비교해 불일치 사용자만 반환
+  getUserDiff(params = {}) {
+    return api.get('/consistency/users/diff', { params })
+  }
+}
+
+// 벤치마크 API 서비스
+export const benchmarkService = {
+  // JMH 벤치마크 결과 조회 (JPA vs MyBatis)
+  getResults() {
+    return api.get('/benchmark/results')
+  }
+}
+
 export default api
\ No newline at end of file
@@ -0,0 +1,114 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.dto.UserJsonSerializer;
+import com.example.helloworld.dto.UserListResponse;
+import com.example.helloworld.dto.UserListSerializer;
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사용자 목록 응답 표현 비교 벤치마크 (ContentNegotiationConfig 의 Accept 별 표현)
+ * - format: json, columnar(application/vnd.users.columnar+json), cbor, smile
+ * - gzip: Tomcat 응답 압축(server.compression)과 같은 기본 압축 수준의 gzip 을 거쳐 쓰는지 여부
+ *
+ * 응답 크기(압축 전/후)는 @Setup 에서 한 번 출력한다.
+ *   mvn -Pbenchmark verify -Djmh.args="ResponseFormatBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ResponseFormatBenchmark {
+
+    @Param({"100", "10000"})
+    public int listSize;
+
+    @Param({"json", "columnar", "cbor", "smile"})
+    public String format;
+
+    @Param({"false", "true"})
+    public boolean gzip;
+
+    private final OutputStream discard = OutputStream.nullOutputStream();
+    private ObjectWriter writer;
+    private UserListResponse response;
+
+    @Setup
+    public void setUp() throws IOException {
+        JsonFactory factory = switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+        ObjectMapper mapper = new ObjectMapper(factory)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(User.class, new UserJsonSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        writer = "columnar".equals(format)
+                ? mapper.writer().withAttribute(UserListSerializer.LAYOUT_ATTRIBUTE, UserListSerializer.COLUMNAR)
+                : mapper.writer();
+
+        List<User> users = new ArrayList<>(listSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < listSize; i++) {
+            User user = new User("user" + i, "user" + i + "@d" + (i % 20) + ".example.com", "User " + i);
+            user.setId((long) i + 1);
+            user.setCreatedAt(now.minusMinutes(i));
+            user.setUpdatedAt(now);
+            user.setIsActive(i % 5 != 0);
+            users.add(user);
+        }
+        response = UserListResponse.of("MyBatis로 사용자 목록 조회 성공", users, "MyBatis");
+
+        ByteArrayOutputStream plain = new ByteArrayOutputStream();
+        writer.writeValue(plain, response);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            writer.writeValue(out, response);
+        }
+        System.out.printf("%n[%s, %d건] %d bytes, gzip %d bytes%n",
+                format, listSize, plain.size(), compressed.size());
+    }
+
+    @Benchmark
+    public void write() throws IOException {
+        if (gzip) {
+            GZIPOutputStream out = new GZIPOutputStream(discard);
+            writer.writeValue(out, response);
+            out.finish();
+        } else {
+            writer.writeValue(discard, response);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.dto.UserListResponse;
+import com.example.helloworld.dto.UserJsonSerializer;
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 목록 응답 직렬화 비교 벤치마크
+ * - hashMapEnvelope: 기존 방식 (HashMap envelope + BeanSerializer 기반 User 직렬화)
+ * - recordEnvelope: UserListResponse record + UserJsonSerializer/UserListSerializer
+ *
+ * 응답당 할당량까지 보려면 gc 프로파일러를 함께 실행한다 (gc.alloc.rate.norm = 응답당 바이트):
+ *   mvn -Pbenchmark verify -Djmh.args="ResponseSerializationBenchmark -prof gc -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class ResponseSerializationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    public int listSize;
+
+    private final OutputStream discard = OutputStream.nullOutputStream();
+    private ObjectMapper defaultMapper;
+    private ObjectMapper optimizedMapper;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 기본 설정과 같이 날짜를 ISO-8601 문자열로 쓰고, 응답 스트림처럼 출력 대상을 닫지 않는다
+        defaultMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        optimizedMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule().addSerializer(User.class, new UserJsonSerializer()))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+
+        users = new ArrayList<>(listSize);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < listSize; i++) {
+            User user = new User("user" + i, "user" + i + "@example.com", "User " + i);
+            user.setId((long) i + 1);
+            user.setCreatedAt(now.minusMinutes(i));
+            user.setUpdatedAt(now);
+            user.setIsActive(i % 5 != 0);
+            users.add(user);
+        }
+    }
+
+    @Benchmark
+    public void hashMapEnvelope() throws IOException {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "MyBatis로 사용자 목록 조회 성공");
+        response.put("data", users);
+        response.put("count", users.size());
+        response.put("dataSource", "MyBatis");
+        defaultMapper.writeValue(discard, response);
+    }
+
+    @Benchmark
+    public void recordEnvelope() throws IOException {
+        optimizedMapper.writeValue(discard, UserListResponse.of("MyBatis로 사용자 목록 조회 성공", users, "MyBatis"));
+    }
+}
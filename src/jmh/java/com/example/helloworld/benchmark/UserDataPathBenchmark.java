@@ -0,0 +1,216 @@
+package com.example.helloworld.benchmark;
+
+import com.example.helloworld.HelloWorldApplication;
+import com.example.helloworld.entity.User;
+import com.example.helloworld.service.UserMybatisService;
+import com.example.helloworld.service.UserSearchCriteria;
+import com.example.helloworld.service.UserService;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JPA(UserService) 와 MyBatis(UserMybatisService) 데이터 경로 비교 벤치마크
+ *
+ * 실행: mvn -Pbenchmark verify
+ * 빠른 확인: mvn -Pbenchmark verify -Djmh.args="-p rowCount=1000 -f 1 -wi 1 -i 2"
+ * 결과는 target/jmh-result.json 에 저장되며 GET /api/benchmark/results 로 제공된다.
+ *
+ * 메서드 이름은 {jpa|mybatis}{Operation} 규칙을 따른다 (결과 API 가 이 규칙으로 데이터 소스를 구분).
+ * 사용자 캐시(user-cache)는 끄고 실행하므로 findById/수정 결과는 캐시 적중이 아닌 DB 조회 시간이다.
+ * 적재는 JDBC 로 하므로 적재 후 users 스냅샷(통계, Bloom 필터, n-gram/필터 색인, 분석 스냅샷)을 한 번의 스캔으로 다시 구축한다.
+ * 그래서 페이징의 전체 건수와 생성 시 중복 확인은 실제 운영과 같은 경로를 탄다.
+ * 최근 사용자 버퍼는 기동 시에만 채우므로 끄고 실행한다.
+ * 요청 합치기(request-coalescing)는 켜 둔다. 벤치마크는 스레드 하나로 실행해 합쳐지는 호출이 없으므로
+ * @Coalesced 조회에는 키 등록/해제 비용만 더해지며, 이 비용은 JPA 와 MyBatis 에 같게 든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class UserDataPathBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rowCount;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private UserMybatisService userMybatisService;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HelloWorldApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        // application.properties 의 SQL 로깅을 끄기 위해 커맨드라인 인자로 전달
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        // 캐시 적중 시간이 아니라 JPA/MyBatis 조회 경로를 비교하도록 사용자 캐시를 끔
+                        "--user-cache.enabled=false",
+                        // 기동 시 빈 테이블로 채운 버퍼가 적재한 행을 모른 채 /recent 에 응답하지 않도록 끔
+                        "--recent-users.enabled=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.helloworld=WARN",
+                        "--logging.level.org.springframework=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        userService = context.getBean(UserService.class);
+        userMybatisService = context.getBean(UserMybatisService.class);
+        seed(context.getBean(JdbcTemplate.class), rowCount);
+        // 적재는 서비스 계층을 거치지 않아 변경 이벤트가 없으므로, 모든 users 스냅샷을 다시 구축해 적재한 행을 반영
+        context.getBean(UserSnapshotRebuilder.class)
+                .rebuild(List.copyOf(context.getBeansOfType(UserSnapshotTarget.class).values()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * JDBC 배치로 rowCount 건의 사용자 적재 (서비스 계층을 거치지 않음)
+     */
+    private static void seed(JdbcTemplate jdbcTemplate, int rowCount) {
+        String sql = "INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active) VALUES (?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        for (int start = 0; start < rowCount; start += SEED_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = start; i < Math.min(start + SEED_BATCH_SIZE, rowCount); i++) {
+                Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+                batch.add(new Object[]{
+                        "user" + i, "user" + i + "@domain" + (i % 50) + ".com", "domain" + (i % 50) + ".com", "Full Name " + i,
+                        createdAt, createdAt, i % 10 != 0});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rowCount + 1);
+    }
+
+    private String randomUsernameFragment() {
+        return "user" + ThreadLocalRandom.current().nextInt(rowCount);
+    }
+
+    private User newUser() {
+        long n = sequence.incrementAndGet();
+        return new User("bench" + n, "bench" + n + "@bench.com", "Bench User " + n);
+    }
+
+    // findAll
+
+    @Benchmark
+    public List<User> jpaFindAll() {
+        return userService.getAllUsers();
+    }
+
+    @Benchmark
+    public List<User> mybatisFindAll() {
+        return userMybatisService.getAllUsers();
+    }
+
+    // findById
+
+    @Benchmark
+    public Object jpaFindById() {
+        return userService.getUserById(randomId());
+    }
+
+    @Benchmark
+    public Object mybatisFindById() {
+        return userMybatisService.getUserById(randomId());
+    }
+
+    // 페이징 (OFFSET 기반, 임의의 페이지)
+
+    @Benchmark
+    public Object jpaPaged() {
+        int page = ThreadLocalRandom.current().nextInt(Math.max(1, rowCount / PAGE_SIZE));
+        return userService.getAllUsers(page, PAGE_SIZE, "createdAt");
+    }
+
+    @Benchmark
+    public Object mybatisPaged() {
+        int page = ThreadLocalRandom.current().nextInt(Math.max(1, rowCount / PAGE_SIZE));
+        return userMybatisService.getAllUsers(page, PAGE_SIZE, "createdAt");
+    }
+
+    // 검색
+
+    @Benchmark
+    public List<User> jpaSearch() {
+        return userService.searchUsersByUsername(randomUsernameFragment());
+    }
+
+    @Benchmark
+    public List<User> mybatisSearch() {
+        return userMybatisService.searchUsersByUsername(randomUsernameFragment());
+    }
+
+    @Benchmark
+    public List<User> mybatisAdvancedSearch() {
+        return userMybatisService.searchUsers(
+                new UserSearchCriteria(randomUsernameFragment(), "domain1", null, true, null, null, null));
+    }
+
+    // 생성
+
+    @Benchmark
+    public User jpaCreateUser() {
+        return userService.createUser(newUser());
+    }
+
+    @Benchmark
+    public User mybatisCreateUser() {
+        return userMybatisService.createUser(newUser());
+    }
+
+    // 수정
+
+    @Benchmark
+    public User jpaUpdateUser() {
+        User user = userService.getUserById(randomId()).orElseThrow();
+        user.setFullName("Updated " + sequence.incrementAndGet());
+        return userService.updateUser(user);
+    }
+
+    @Benchmark
+    public User mybatisUpdateUser() {
+        User user = userMybatisService.getUserById(randomId()).orElseThrow();
+        user.setFullName("Updated " + sequence.incrementAndGet());
+        return userMybatisService.updateUser(user);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.helloworld.loadtest;
+
+import com.example.helloworld.HelloWorldApplication;
+import com.example.helloworld.coalescing.RequestCoalescer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 동일 읽기 합치기(request-coalescing) 켬/끔 부하 비교
+ * 같은 핫 키(/active, JPA/MyBatis)에 동시 요청을 걸어 처리량, DB 실행 수, 합류 수를 비교하고,
+ * 켠 상태에서 사용자 생성 직후의 조회가 새 사용자를 포함하는지(커밋 이전 실행에 합류하지 않는지) 확인한다.
+ *
+ * 실행:
+ *   mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.helloworld.loadtest.RequestCoalescingLoadTest
+ *
+ * 옵션 (시스템 프로퍼티):
+ *   loadtest.concurrency  동시 클라이언트 수 (기본 100)
+ *   loadtest.seconds      모드별 측정 시간 (기본 10)
+ *   loadtest.dbDelayMs    커넥션마다 점유할 시간 (기본 20, 원격 DB 지연 모사)
+ */
+public class RequestCoalescingLoadTest {
+
+    private static final List<String> PATHS = List.of("/api/users/active", "/api/mybatis/users/active");
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 100);
+        int seconds = Integer.getInteger("loadtest.seconds", 10);
+        int dbDelayMs = Integer.getInteger("loadtest.dbDelayMs", 20);
+
+        System.out.printf("%n%-10s %12s %10s %12s %12s %10s%n",
+                "coalescing", "requests/s", "errors", "executed", "coalesced", "fresh");
+        for (boolean enabled : new boolean[]{false, true}) {
+            run(enabled, concurrency, seconds, dbDelayMs);
+        }
+    }
+
+    private static void run(boolean enabled, int concurrency, int seconds, int dbDelayMs) throws Exception {
+        String mode = enabled ? "on" : "off";
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HelloWorldApplication.class)
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext)
+                        .registerBean(ThreadModeLoadTest.DbLatencyPostProcessor.class,
+                                () -> new ThreadModeLoadTest.DbLatencyPostProcessor(dbDelayMs)))
+                .run(
+                        "--server.port=0",
+                        "--request-coalescing.enabled=" + enabled,
+                        "--server.tomcat.threads.max=" + (concurrency * 2),
+                        "--spring.datasource.url=jdbc:h2:mem:coalescing-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String base = "http://localhost:" + port;
+            ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, concurrency / 25));
+            HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+            AtomicLong requests = new AtomicLong();
+            AtomicLong errors = new AtomicLong();
+            ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+            List<Future<?>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < concurrency; i++) {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(base + PATHS.get(i % PATHS.size()))).GET().build();
+                futures.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        try {
+                            if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                        requests.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            // 부하 중 생성한 사용자가 생성 응답 이후의 조회에 보이는지 확인
+            boolean fresh = true;
+            for (int i = 0; i < 5; i++) {
+                Thread.sleep(seconds * 1000L / 6);
+                String username = "fresh" + i;
+                client.send(HttpRequest.newBuilder(URI.create(base + "/api/users"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(
+                                "{\"username\":\"" + username + "\",\"email\":\"" + username + "@example.com\"}"))
+                        .build(), HttpResponse.BodyHandlers.discarding());
+                for (String path : PATHS) {
+                    String body = client.send(HttpRequest.newBuilder(URI.create(base + path)).GET().build(),
+                            HttpResponse.BodyHandlers.ofString()).body();
+                    fresh &= body.contains(username);
+                }
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            workers.shutdown();
+            clientExecutor.shutdown();
+
+            RequestCoalescer.CoalescingStats stats = context.getBean(RequestCoalescer.class).getStats(10);
+            System.out.printf("%-10s %12.1f %10d %12d %12d %10s%n", mode, requests.get() / elapsedSeconds,
+                    errors.get(), stats.getExecuted(), stats.getCoalesced(), fresh);
+            for (RequestCoalescer.KeyStats key : stats.getKeys()) {
+                System.out.printf("    %-45s executed=%d coalesced=%d%n", key.getKey(), key.getExecuted(), key.getCoalesced());
+            }
+        } finally {
+            context.close();
+        }
+    }
+}
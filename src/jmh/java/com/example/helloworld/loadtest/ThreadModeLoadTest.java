@@ -0,0 +1,198 @@
+package com.example.helloworld.loadtest;
+
+import com.example.helloworld.HelloWorldApplication;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 요청 처리 모드 부하 테스트
+ * 각 모드로 애플리케이션을 임의 포트에 띄우고 같은 부하를 걸어 처리량과 p50/p99 지연 시간을 비교한다.
+ *
+ * 실행 (가상 스레드는 Java 21 런타임 필요):
+ *   mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.helloworld.loadtest.ThreadModeLoadTest \
+ *       -Dloadtest.concurrency=400 -Dloadtest.seconds=20
+ *
+ * 옵션 (시스템 프로퍼티):
+ *   loadtest.concurrency  동시 클라이언트 수 (기본 400)
+ *   loadtest.seconds      모드별 측정 시간 (기본 20)
+ *   loadtest.path         요청 경로 (기본 /api/mybatis/users/count/active)
+ *   loadtest.tomcatThreads 플랫폼 모드 Tomcat 최대 스레드 수 (기본 200)
+ *   loadtest.dbDelayMs    커넥션마다 점유할 시간 (기본 20, 원격 DB 지연 모사)
+ */
+public class ThreadModeLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("loadtest.concurrency", 400);
+        int seconds = Integer.getInteger("loadtest.seconds", 20);
+        String path = System.getProperty("loadtest.path", "/api/mybatis/users/count/active");
+        int tomcatThreads = Integer.getInteger("loadtest.tomcatThreads", 200);
+        int dbDelayMs = Integer.getInteger("loadtest.dbDelayMs", 20);
+
+        List<Result> results = new ArrayList<>();
+        results.add(run("platform", false, concurrency, seconds, path, tomcatThreads, dbDelayMs));
+        if (Runtime.version().feature() >= 21) {
+            results.add(run("virtual", true, concurrency, seconds, path, tomcatThreads, dbDelayMs));
+        } else {
+            System.out.println("Java " + Runtime.version() + " 에서는 가상 스레드 모드를 건너뜁니다 (Java 21 필요).");
+        }
+
+        System.out.printf("%n%-10s %12s %10s %10s %10s %10s%n", "mode", "requests/s", "p50(ms)", "p99(ms)", "max(ms)", "errors");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.1f %10.1f %10.1f %10.1f %10d%n",
+                    result.mode, result.throughput, result.p50, result.p99, result.max, result.errors);
+        }
+    }
+
+    private static Result run(String mode, boolean virtual, int concurrency, int seconds, String path,
+                              int tomcatThreads, int dbDelayMs) throws Exception {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HelloWorldApplication.class)
+                .initializers(applicationContext -> ((GenericApplicationContext) applicationContext)
+                        .registerBean(DbLatencyPostProcessor.class, () -> new DbLatencyPostProcessor(dbDelayMs)))
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + tomcatThreads,
+                        "--server.tomcat.accept-count=" + (concurrency * 2),
+                        "--server.tomcat.max-connections=" + (concurrency * 2),
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest-" + mode + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + path);
+            return load(mode, uri, concurrency, seconds);
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result load(String mode, URI uri, int concurrency, int seconds) throws Exception {
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(Math.max(4, concurrency / 50));
+        HttpClient client = HttpClient.newBuilder()
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        // 워밍업
+        for (int i = 0; i < 200; i++) {
+            client.send(request, HttpResponse.BodyHandlers.discarding());
+        }
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(seconds).toNanos();
+        AtomicLong errors = new AtomicLong();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<long[]>> futures = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                long[] latencies = new long[1024];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                    if (count == latencies.length) {
+                        latencies = Arrays.copyOf(latencies, count * 2);
+                    }
+                    latencies[count++] = System.nanoTime() - begin;
+                }
+                return Arrays.copyOf(latencies, count);
+            }));
+        }
+
+        List<long[]> all = new ArrayList<>();
+        int total = 0;
+        for (Future<long[]> future : futures) {
+            long[] latencies = future.get();
+            all.add(latencies);
+            total += latencies.length;
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        workers.shutdown();
+        clientExecutor.shutdown();
+
+        long[] merged = new long[total];
+        int position = 0;
+        for (long[] latencies : all) {
+            System.arraycopy(latencies, 0, merged, position, latencies.length);
+            position += latencies.length;
+        }
+        Arrays.sort(merged);
+        return new Result(mode, total / elapsedSeconds, percentile(merged, 0.50), percentile(merged, 0.99),
+                merged.length > 0 ? merged[merged.length - 1] / 1e6 : 0, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    /**
+     * 원격 DB 왕복 지연 모사: 커넥션을 얻은 뒤 dbDelayMs 동안 커넥션(과 동시 접근 허가)을 점유한다.
+     * 순서가 없는 BeanPostProcessor 이므로 ThreadingConfig 의 동시 접근 제한 래핑 이후에 적용된다.
+     */
+    static class DbLatencyPostProcessor implements BeanPostProcessor {
+        private final long delayMillis;
+
+        DbLatencyPostProcessor(long delayMillis) {
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || delayMillis <= 0) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    Connection connection = super.getConnection();
+                    try {
+                        Thread.sleep(delayMillis);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return connection;
+                }
+            };
+        }
+    }
+
+    private record Result(String mode, double throughput, double p50, double p99, double max, long errors) {
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.helloworld.startup;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 빠른 기동 구성 확인 (기동 시간 회귀 검사)
+ * mvn -Pfast-startup package 로 만든 target/fast-startup 구성을 모드별로 새 JVM 에서 여러 번 기동해
+ * GET /api/startup/report 의 기동 시간(중앙값)과 단계별 시간, 기동 후 첫 요청 시간을 비교한다.
+ *   - 기본: AOT/CDS/지연 초기화 없이
+ *   - 지연 초기화: fast-startup 프로필
+ *   - AOT: fast-startup 프로필 + spring.aot.enabled
+ *   - AOT + CDS: 위에 application.jsa 추가 (-Xshare:on 이라 아카이브가 맞지 않으면 기동 실패)
+ * AOT + CDS 모드가 기본보다 느리거나 startup.max-ready-ms 를 넘거나, 어느 모드에서든 기동에 실패하거나
+ * 기동 시 구축하는 메모리 구조(통계)가 준비되지 않았으면 종료 코드 1 로 끝난다.
+ *
+ * 실행:
+ *   mvn -Pfast-startup package -DskipTests
+ *   mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.helloworld.startup.StartupTimingCheck -Dstartup.runs=3
+ *
+ * 옵션 (시스템 프로퍼티):
+ *   startup.dir           빠른 기동 구성 디렉터리 (기본 target/fast-startup)
+ *   startup.runs          모드별 기동 횟수 (기본 3)
+ *   startup.max-ready-ms  AOT + CDS 모드 기동 시간 중앙값 상한 (기본 0, 검사 안 함)
+ */
+public class StartupTimingCheck {
+
+    private static final String CLASSPATH = "javaHello-app.jar" + File.pathSeparator + "lib/*";
+    private static final String MAIN_CLASS = "com.example.helloworld.HelloWorldApplication";
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static void main(String[] args) throws Exception {
+        Path dir = Path.of(System.getProperty("startup.dir", "target/fast-startup"));
+        int runs = Integer.getInteger("startup.runs", 3);
+        long maxReadyMs = Long.getLong("startup.max-ready-ms", 0);
+        if (!Files.exists(dir.resolve("javaHello-app.jar")) || !Files.exists(dir.resolve("application.jsa"))) {
+            System.out.println(dir + " 에 빠른 기동 구성이 없습니다. 먼저 mvn -Pfast-startup package 를 실행하세요.");
+            System.exit(1);
+        }
+
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("기본", List.of());
+        modes.put("지연 초기화", List.of("-Dspring.profiles.active=fast-startup"));
+        modes.put("AOT", List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true"));
+        modes.put("AOT + CDS", List.of("-Dspring.profiles.active=fast-startup", "-Dspring.aot.enabled=true",
+                "-XX:SharedArchiveFile=application.jsa", "-Xshare:on"));
+
+        boolean passed = true;
+        List<Result> results = new ArrayList<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            Result result = new Result(mode.getKey());
+            for (int i = 0; i < runs; i++) {
+                Boot boot = boot(dir, mode.getValue());
+                if (boot == null) {
+                    passed = false;
+                    break;
+                }
+                result.add(boot);
+                System.out.printf("%-12s #%d 기동 %.0fms, 첫 요청 %.1fms, 통계 준비 %s%n", mode.getKey(), i + 1,
+                        boot.readyMs, boot.firstRequestMs, boot.statisticsReady);
+                passed &= boot.statisticsReady;
+            }
+            results.add(result);
+        }
+
+        printPhases(results);
+        System.out.printf("%n%-12s %12s %14s %12s%n", "mode", "ready(ms)", "첫 요청(ms)", "process(ms)");
+        for (Result result : results) {
+            System.out.printf("%-12s %12.0f %14.1f %12.0f%n", result.mode, result.median(b -> b.readyMs),
+                    result.median(b -> b.firstRequestMs), result.median(b -> b.processMs));
+        }
+
+        // 모드별 기여는 참고용으로 보여 주고, 배포 구성(AOT + CDS)만 기본보다 빠른지 검사한다
+        Result fastest = results.get(results.size() - 1);
+        if (fastest.boots.isEmpty() || fastest.median(b -> b.readyMs) >= results.get(0).median(b -> b.readyMs)) {
+            System.out.println("  " + fastest.mode + " 기동이 기본보다 빠르지 않음");
+            passed = false;
+        }
+        if (maxReadyMs > 0 && (fastest.boots.isEmpty() || fastest.median(b -> b.readyMs) > maxReadyMs)) {
+            System.out.printf("  %s 기동 시간 중앙값이 기준 %dms 를 넘음%n", fastest.mode, maxReadyMs);
+            passed = false;
+        }
+        System.out.println(passed ? "빠른 기동 확인 통과" : "빠른 기동 확인 실패");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 새 JVM 으로 기동해 보고서가 나올 때까지 기다린 뒤 첫 요청 시간과 통계 준비 여부를 확인하고 종료
+     */
+    private static Boot boot(Path dir, List<String> jvmOptions) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(List.of("-cp", CLASSPATH, MAIN_CLASS,
+                "--server.port=" + port,
+                "--spring.jpa.show-sql=false",
+                "--mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"));
+        Path log = Files.createTempFile("startup-check", ".log");
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).directory(dir.toFile())
+                .redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            // 기동 중 요청은 지연 초기화 빈을 요청 스레드에서 만들게 하므로, 보고서 로그가 찍힌 뒤에만 요청한다
+            while (!Files.readString(log, StandardCharsets.ISO_8859_1).contains(StartupTimingReport.class.getSimpleName())) {
+                if (!process.isAlive() || System.nanoTime() - start > Duration.ofMinutes(3).toNanos()) {
+                    System.out.println("  기동 실패: " + String.join(" ", jvmOptions));
+                    List<String> lines = Files.readAllLines(log, StandardCharsets.ISO_8859_1);
+                    lines.subList(Math.max(0, lines.size() - 20), lines.size()).forEach(System.out::println);
+                    return null;
+                }
+                Thread.sleep(50);
+            }
+            double processMs = (System.nanoTime() - start) / 1e6;
+            JsonNode report = get(port, "/api/startup/report");
+            if (report == null) {
+                System.out.println("  기동 시간 보고서 조회 실패: " + String.join(" ", jvmOptions));
+                return null;
+            }
+            long requestStart = System.nanoTime();
+            get(port, "/api/users/count/active");
+            double firstRequestMs = (System.nanoTime() - requestStart) / 1e6;
+            JsonNode statistics = get(port, "/api/statistics/users");
+            boolean statisticsReady = statistics != null && statistics.path("data").path("ready").asBoolean();
+            return new Boot(report.path("data"), processMs, firstRequestMs, statisticsReady);
+        } finally {
+            process.destroy();
+            process.waitFor();
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private static JsonNode get(int port, String path) throws InterruptedException {
+        try {
+            HttpResponse<String> response = CLIENT.send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            return response.statusCode() == 200 ? MAPPER.readTree(response.body()) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 모드별 단계 시간 표 (마지막 기동 기준)
+     */
+    private static void printPhases(List<Result> results) {
+        Map<String, double[]> phases = new LinkedHashMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            List<Boot> boots = results.get(i).boots;
+            if (boots.isEmpty()) {
+                continue;
+            }
+            for (JsonNode phase : boots.get(boots.size() - 1).report.path("phases")) {
+                phases.computeIfAbsent(phase.path("name").asText(), name -> new double[results.size()])[i] =
+                        phase.path("durationMs").asDouble();
+            }
+        }
+        System.out.printf("%n%-60s", "단계 (ms)");
+        results.forEach(result -> System.out.printf(" %12s", result.mode));
+        System.out.println();
+        phases.forEach((name, durations) -> {
+            System.out.printf("%-60s", name);
+            for (double duration : durations) {
+                System.out.printf(" %12.1f", duration);
+            }
+            System.out.println();
+        });
+    }
+
+    private static class Boot {
+        final JsonNode report;
+        final double readyMs;
+        final double processMs;
+        final double firstRequestMs;
+        final boolean statisticsReady;
+
+        Boot(JsonNode report, double processMs, double firstRequestMs, boolean statisticsReady) {
+            this.report = report;
+            this.readyMs = report.path("readyMs").asDouble();
+            this.processMs = processMs;
+            this.firstRequestMs = firstRequestMs;
+            this.statisticsReady = statisticsReady;
+        }
+    }
+
+    private interface Metric {
+        double of(Boot boot);
+    }
+
+    private static class Result {
+        final String mode;
+        final List<Boot> boots = new ArrayList<>();
+
+        Result(String mode) {
+            this.mode = mode;
+        }
+
+        void add(Boot boot) {
+            boots.add(boot);
+        }
+
+        double median(Metric metric) {
+            if (boots.isEmpty()) {
+                return Double.NaN;
+            }
+            double[] values = boots.stream().mapToDouble(metric::of).sorted().toArray();
+            return values[values.length / 2];
+        }
+    }
+}
@@ -1,14 +1,25 @@
 package com.example.helloworld;
 
-import org.springframework.boot.SpringApplication;
+import com.example.helloworld.startup.StartupTimingReport;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
 import org.springframework.boot.web.servlet.support.SpringBootServletInitializer;
 
 @SpringBootApplication
 public class HelloWorldApplication extends SpringBootServletInitializer {
 
     public static void main(String[] args) {
-        SpringApplication.run(HelloWorldApplication.class, args);
+        new SpringApplicationBuilder(HelloWorldApplication.class)
+                .applicationStartup(StartupTimingReport.newApplicationStartup())
+                .run(args);
     }
 
-}
\ No newline at end of file
+    /**
+     * WAR 배포(외부 Tomcat) 시에도 기동 단계를 기록
+     */
+    @Override
+    protected SpringApplicationBuilder configure(SpringApplicationBuilder builder) {
+        return builder.applicationStartup(StartupTimingReport.newApplicationStartup());
+    }
+
+}
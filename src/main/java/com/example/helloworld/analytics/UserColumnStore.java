@@ -0,0 +1,272 @@
+package com.example.helloworld.analytics;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.snapshot.UserSnapshot;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 분석용 users 컬럼형 스냅샷 (/api/users/analytics/*)
+ * 활성 비율, 일자별 가입 수, 도메인 분포를 DB 조회나 User 객체 생성 없이 GC 힙 밖의 컬럼 버퍼(UserColumns)를 스캔해 구한다.
+ *
+ * 기동 시 한 번 구축한 뒤 JPA/MyBatis 쓰기 경로의 UserChangeEvent 를 커밋 후 행 단위로 반영한다.
+ * rebuild-interval-ms 마다 UserSnapshotRebuilder 의 스캔으로 다시 구축해 삭제 표시된 행을 정리하고
+ * 누락된 변경(애플리케이션을 거치지 않은 변경 등)을 바로잡는다.
+ * 컬럼 스캔은 읽기 잠금, 이벤트 반영과 교체는 쓰기 잠금 안에서 수행한다.
+ */
+@Component
+public class UserColumnStore implements UserSnapshotTarget {
+
+    private static final Logger log = LoggerFactory.getLogger(UserColumnStore.class);
+
+    public static final int MAX_SIGNUP_DAYS = 3660;
+    public static final int MAX_DOMAIN_LIMIT = 1000;
+
+    private final UserSnapshotRebuilder rebuilder;
+    private final boolean enabled;
+    private final long rebuildIntervalMs;
+
+    private final UserSnapshot<Rows> snapshot = new UserSnapshot<>(new Rows());
+    private volatile boolean ready;
+
+    public UserColumnStore(UserSnapshotRebuilder rebuilder,
+                           @Value("${user-analytics.enabled:true}") boolean enabled,
+                           @Value("${user-analytics.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.rebuilder = rebuilder;
+        this.enabled = enabled;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    /**
+     * JPA/MyBatis 쓰기 커밋 후 해당 행 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        if (enabled) {
+            snapshot.apply(event);
+        }
+    }
+
+    @Override
+    public boolean isRebuildDue(long now) {
+        return enabled && now - snapshot.getLastRebuiltAt() >= rebuildIntervalMs;
+    }
+
+    @Override
+    public UserSnapshot<?>.Rebuild startRebuild() {
+        return enabled ? snapshot.startRebuild(new Rows(), this::swapped) : null;
+    }
+
+    /**
+     * DB 전체를 다시 읽어 스냅샷만 즉시 재구축 (삭제 표시된 행 정리)
+     */
+    public void rebuild() {
+        rebuilder.rebuild(this);
+    }
+
+    private void swapped(Rows previous, Rows rebuilt) {
+        if (!ready) {
+            ready = true;
+            log.info("사용자 컬럼 스냅샷 구축 완료: {}건, {}KB",
+                    rebuilt.columns.liveRows(), rebuilt.columns.offHeapBytes() / 1024);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 전체/활성 수, 활성 비율, 기준 시각 이후 수정 수
+     * @param updatedSince 수정 수를 셀 기준 시각
+     * @throws IllegalStateException 스냅샷을 사용하지 않거나 구축 전
+     */
+    public ActivitySummary getSummary(LocalDateTime updatedSince) {
+        checkReady();
+        return snapshot.read(rows -> {
+            UserColumns columns = rows.columns;
+            return new ActivitySummary(columns.liveRows(), columns.countActive(), updatedSince,
+                    columns.countUpdatedSince(toSeconds(updatedSince)), columns.deletedRows(), columns.offHeapBytes(),
+                    snapshot.getLastRebuiltAt());
+        });
+    }
+
+    /**
+     * 생성일(created_at 의 날짜)별 가입 수
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함, 시작일부터 MAX_SIGNUP_DAYS 일 이내)
+     * @throws IllegalArgumentException 기간이 잘못된 경우
+     * @throws IllegalStateException 스냅샷을 사용하지 않거나 구축 전
+     */
+    public List<DailySignups> getSignupsByDay(LocalDate from, LocalDate to) {
+        long days = to.toEpochDay() - from.toEpochDay() + 1;
+        if (days < 1 || days > MAX_SIGNUP_DAYS) {
+            throw new IllegalArgumentException("기간은 1일 이상 " + MAX_SIGNUP_DAYS + "일 이하여야 합니다.");
+        }
+        checkReady();
+        long[] totals = new long[(int) days];
+        long[] actives = new long[(int) days];
+        snapshot.read(rows -> {
+            rows.columns.countByCreatedDay(from.toEpochDay(), totals, actives);
+            return null;
+        });
+        List<DailySignups> result = new ArrayList<>(totals.length);
+        for (int i = 0; i < totals.length; i++) {
+            result.add(new DailySignups(from.plusDays(i), totals[i], actives[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 이메일 도메인 분포 (사용자 수 내림차순)
+     * @param limit 최대 도메인 수 (1 ~ MAX_DOMAIN_LIMIT)
+     * @throws IllegalArgumentException limit 범위 초과
+     * @throws IllegalStateException 스냅샷을 사용하지 않거나 구축 전
+     */
+    public List<DomainShare> getDomainDistribution(int limit) {
+        if (limit < 1 || limit > MAX_DOMAIN_LIMIT) {
+            throw new IllegalArgumentException("도메인 수는 1 이상 " + MAX_DOMAIN_LIMIT + " 이하여야 합니다.");
+        }
+        checkReady();
+        List<DomainShare> result = snapshot.read(rows -> {
+            UserColumns columns = rows.columns;
+            List<DomainShare> shares = new ArrayList<>();
+            long total = columns.liveRows();
+            long[] totals = new long[columns.domainCount()];
+            long[] actives = new long[totals.length];
+            columns.countByDomain(totals, actives);
+            for (int code = 0; code < totals.length; code++) {
+                if (totals[code] > 0) {
+                    shares.add(new DomainShare(columns.domainName(code), totals[code], actives[code],
+                            (double) totals[code] / total));
+                }
+            }
+            return shares;
+        });
+        result.sort(Comparator.comparingLong(DomainShare::getCount).reversed()
+                .thenComparing(DomainShare::getDomain));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+    }
+
+    private void checkReady() {
+        if (!isReady()) {
+            throw new IllegalStateException("사용자 분석 스냅샷이 준비되지 않았습니다.");
+        }
+    }
+
+    private static long toSeconds(LocalDateTime time) {
+        return time != null ? time.toEpochSecond(ZoneOffset.UTC) : UserColumns.NO_TIME;
+    }
+
+    /**
+     * 컬럼 버퍼를 UserSnapshot 의 행 단위 구조로 감쌈 (삭제는 삭제 표시, 재구축 시 정리)
+     */
+    private static final class Rows implements UserSnapshot.Rows {
+        private final UserColumns columns = new UserColumns();
+
+        @Override
+        public void put(User user) {
+            if (user.getId() == null) {
+                return;
+            }
+            columns.upsert(user.getId(), toSeconds(user.getCreatedAt()), toSeconds(user.getUpdatedAt()),
+                    User.emailDomainOf(user.getEmail()), Boolean.TRUE.equals(user.getIsActive()));
+        }
+
+        @Override
+        public void remove(Long id) {
+            if (id != null) {
+                columns.delete(id);
+            }
+        }
+    }
+
+    /**
+     * 활성 비율 요약
+     */
+    public static class ActivitySummary {
+        private final long totalCount;
+        private final long activeCount;
+        private final LocalDateTime updatedSince;
+        private final long updatedCount;
+        private final long deletedRows;
+        private final long offHeapBytes;
+        private final long lastRebuiltAt;
+
+        public ActivitySummary(long totalCount, long activeCount, LocalDateTime updatedSince, long updatedCount,
+                               long deletedRows, long offHeapBytes, long lastRebuiltAt) {
+            this.totalCount = totalCount;
+            this.activeCount = activeCount;
+            this.updatedSince = updatedSince;
+            this.updatedCount = updatedCount;
+            this.deletedRows = deletedRows;
+            this.offHeapBytes = offHeapBytes;
+            this.lastRebuiltAt = lastRebuiltAt;
+        }
+
+        public long getTotalCount() { return totalCount; }
+        public long getActiveCount() { return activeCount; }
+        public long getInactiveCount() { return totalCount - activeCount; }
+        public double getActiveRatio() { return totalCount > 0 ? (double) activeCount / totalCount : 0; }
+        public LocalDateTime getUpdatedSince() { return updatedSince; }
+        public long getUpdatedCount() { return updatedCount; }
+        public long getDeletedRows() { return deletedRows; }
+        public long getOffHeapBytes() { return offHeapBytes; }
+        public long getLastRebuiltAt() { return lastRebuiltAt; }
+    }
+
+    /**
+     * 일자별 가입 수
+     */
+    public static class DailySignups {
+        private final LocalDate date;
+        private final long count;
+        private final long activeCount;
+
+        public DailySignups(LocalDate date, long count, long activeCount) {
+            this.date = date;
+            this.count = count;
+            this.activeCount = activeCount;
+        }
+
+        public LocalDate getDate() { return date; }
+        public long getCount() { return count; }
+        public long getActiveCount() { return activeCount; }
+    }
+
+    /**
+     * 도메인별 사용자 수와 전체 대비 비율
+     */
+    public static class DomainShare {
+        private final String domain;
+        private final long count;
+        private final long activeCount;
+        private final double ratio;
+
+        public DomainShare(String domain, long count, long activeCount, double ratio) {
+            this.domain = domain;
+            this.count = count;
+            this.activeCount = activeCount;
+            this.ratio = ratio;
+        }
+
+        public String getDomain() { return domain; }
+        public long getCount() { return count; }
+        public long getActiveCount() { return activeCount; }
+        public double getRatio() { return ratio; }
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.helloworld.analytics;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * users 테이블의 컬럼형 스냅샷 (direct ByteBuffer, GC 힙 밖)
+ *
+ * 행 순서는 id 오름차순이며 컬럼별로 연속된 버퍼에 저장한다.
+ * - id, created_at, updated_at: long (시각은 LocalDateTime 을 UTC 로 본 epoch 초, updated_at 이 없으면 NO_TIME)
+ * - email 도메인: int 사전 번호 (없으면 -1), 사전(도메인 문자열)만 힙에 둔다
+ * - is_active, 행 유효 여부: long 단위 비트셋
+ * 삭제된 행은 유효 비트만 지우고(tombstone) 재구축 시 정리한다.
+ *
+ * 동기화는 호출자(UserColumnStore)가 담당한다.
+ */
+final class UserColumns {
+
+    static final long NO_TIME = Long.MIN_VALUE;
+    static final int NO_DOMAIN = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private int capacity;
+    private int rows;
+    private int deleted;
+
+    private ByteBuffer ids;
+    private ByteBuffer createdAt;
+    private ByteBuffer updatedAt;
+    private ByteBuffer domains;
+    private ByteBuffer activeBits;
+    private ByteBuffer liveBits;
+
+    private final Map<String, Integer> domainCodes = new HashMap<>();
+    private final List<String> domainNames = new ArrayList<>();
+
+    UserColumns() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * 행 추가 또는 갱신 (같은 id 가 있으면 덮어쓰고, 삭제된 행이면 되살린다)
+     * id 가 마지막 행보다 크면 끝에 붙이고, 커밋 순서가 id 순서와 다른 경우에만 뒤쪽 행을 한 칸씩 민다.
+     */
+    void upsert(long id, long createdSeconds, long updatedSeconds, String domain, boolean active) {
+        int row = find(id);
+        if (row < 0) {
+            row = -row - 1;
+            if (rows == capacity) {
+                allocate(capacity * 2);
+            }
+            if (row < rows) {
+                shift(row);
+            }
+            rows++;
+            ids.putLong(row * 8, id);
+        } else if (!bit(liveBits, row)) {
+            deleted--;
+        }
+        createdAt.putLong(row * 8, createdSeconds);
+        updatedAt.putLong(row * 8, updatedSeconds);
+        domains.putInt(row * 4, domainCode(domain));
+        setBit(activeBits, row, active);
+        setBit(liveBits, row, true);
+    }
+
+    /**
+     * 행 삭제 표시
+     */
+    void delete(long id) {
+        int row = find(id);
+        if (row >= 0 && bit(liveBits, row)) {
+            setBit(liveBits, row, false);
+            setBit(activeBits, row, false);
+            deleted++;
+        }
+    }
+
+    int liveRows() {
+        return rows - deleted;
+    }
+
+    int deletedRows() {
+        return deleted;
+    }
+
+    /**
+     * 컬럼 버퍼 전체 크기 (바이트)
+     */
+    long offHeapBytes() {
+        return (long) ids.capacity() + createdAt.capacity() + updatedAt.capacity() + domains.capacity()
+                + activeBits.capacity() + liveBits.capacity();
+    }
+
+    /**
+     * 활성 행 수 (유효 비트와 활성 비트의 AND 를 64행 단위로 popcount)
+     */
+    long countActive() {
+        long count = 0;
+        int words = words(rows);
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(liveBits.getLong(w * 8) & activeBits.getLong(w * 8));
+        }
+        return count;
+    }
+
+    /**
+     * 기준 시각 이후 수정된 유효 행 수
+     */
+    long countUpdatedSince(long sinceSeconds) {
+        long count = 0;
+        int words = words(rows);
+        for (int w = 0; w < words; w++) {
+            long live = liveBits.getLong(w * 8);
+            while (live != 0) {
+                int row = (w << 6) + Long.numberOfTrailingZeros(live);
+                live &= live - 1;
+                if (updatedAt.getLong(row * 8) >= sinceSeconds) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 생성일(UTC epoch day)별 유효 행 수
+     * @param fromDay 시작일 (포함)
+     * @param totals 길이만큼의 일자별 합계 (fromDay 부터)
+     * @param actives 같은 구간의 활성 행 수
+     */
+    void countByCreatedDay(long fromDay, long[] totals, long[] actives) {
+        long fromSeconds = fromDay * 86400;
+        long toSeconds = (fromDay + totals.length) * 86400;
+        int words = words(rows);
+        for (int w = 0; w < words; w++) {
+            long live = liveBits.getLong(w * 8);
+            long active = activeBits.getLong(w * 8);
+            while (live != 0) {
+                int bit = Long.numberOfTrailingZeros(live);
+                live &= live - 1;
+                long created = createdAt.getLong(((w << 6) + bit) * 8);
+                if (created >= fromSeconds && created < toSeconds) {
+                    int day = (int) ((created - fromSeconds) / 86400);
+                    totals[day]++;
+                    actives[day] += (active >>> bit) & 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * 도메인 사전 번호별 유효/활성 행 수 (배열 길이는 domainCount())
+     */
+    void countByDomain(long[] totals, long[] actives) {
+        int words = words(rows);
+        for (int w = 0; w < words; w++) {
+            long live = liveBits.getLong(w * 8);
+            long active = activeBits.getLong(w * 8);
+            while (live != 0) {
+                int bit = Long.numberOfTrailingZeros(live);
+                live &= live - 1;
+                int code = domains.getInt(((w << 6) + bit) * 4);
+                if (code >= 0) {
+                    totals[code]++;
+                    actives[code] += (active >>> bit) & 1;
+                }
+            }
+        }
+    }
+
+    int domainCount() {
+        return domainNames.size();
+    }
+
+    String domainName(int code) {
+        return domainNames.get(code);
+    }
+
+    /**
+     * id 이진 탐색 (없으면 -(삽입 위치) - 1)
+     */
+    private int find(long id) {
+        int low = 0;
+        int high = rows - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long value = ids.getLong(mid * 8);
+            if (value < id) {
+                low = mid + 1;
+            } else if (value > id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * row 부터 끝까지 한 칸 뒤로 이동 (호출 전에 용량 확보)
+     */
+    private void shift(int row) {
+        int count = rows - row;
+        ids.put((row + 1) * 8, ids, row * 8, count * 8);
+        createdAt.put((row + 1) * 8, createdAt, row * 8, count * 8);
+        updatedAt.put((row + 1) * 8, updatedAt, row * 8, count * 8);
+        domains.put((row + 1) * 4, domains, row * 4, count * 4);
+        for (int i = rows; i > row; i--) {
+            setBit(activeBits, i, bit(activeBits, i - 1));
+            setBit(liveBits, i, bit(liveBits, i - 1));
+        }
+    }
+
+    private int domainCode(String domain) {
+        if (domain == null) {
+            return NO_DOMAIN;
+        }
+        Integer code = domainCodes.get(domain);
+        if (code == null) {
+            code = domainNames.size();
+            domainNames.add(domain);
+            domainCodes.put(domain, code);
+        }
+        return code;
+    }
+
+    private void allocate(int newCapacity) {
+        ids = grow(ids, newCapacity * 8);
+        createdAt = grow(createdAt, newCapacity * 8);
+        updatedAt = grow(updatedAt, newCapacity * 8);
+        domains = grow(domains, newCapacity * 4);
+        activeBits = grow(activeBits, words(newCapacity) * 8);
+        liveBits = grow(liveBits, words(newCapacity) * 8);
+        capacity = newCapacity;
+    }
+
+    /**
+     * 새 direct 버퍼에 기존 내용 복사 (이전 버퍼는 참조가 없어지면 해제된다)
+     */
+    private static ByteBuffer grow(ByteBuffer previous, int bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        if (previous != null) {
+            buffer.put(0, previous, 0, previous.capacity());
+        }
+        return buffer;
+    }
+
+    private static int words(int rows) {
+        return (rows + 63) >>> 6;
+    }
+
+    private static boolean bit(ByteBuffer bits, int row) {
+        return (bits.getLong((row >>> 6) * 8) & (1L << row)) != 0;
+    }
+
+    private static void setBit(ByteBuffer bits, int row, boolean value) {
+        int index = (row >>> 6) * 8;
+        long word = bits.getLong(index);
+        bits.putLong(index, value ? word | (1L << row) : word & ~(1L << row));
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.helloworld.cache;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.mapper.UserMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 최근 생성된 사용자 N명을 보관하는 고정 크기 링 버퍼
+ * JPA/MyBatis 생성 경로의 커밋 후 이벤트로 채우며, 가장 오래된 슬롯부터 덮어쓴다.
+ * 수정/비활성화 이벤트는 보관 중인 항목을 교체하고, 삭제 이벤트는 슬롯을 비운다.
+ *
+ * 기동 시 DB 의 최근 N명으로 채우며, 다음 경우에만 메모리에서 응답한다 (그 외에는 empty).
+ * - 요청 건수가 버퍼 크기 이하이고
+ * - 버퍼가 테이블 전체를 담고 있거나, 유효 항목 수가 요청 건수 이상
+ */
+@Component
+public class RecentUserBuffer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentUserBuffer.class);
+
+    private static final Comparator<User> NEWEST_FIRST = Comparator
+            .comparing(User::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(User::getId, Comparator.reverseOrder());
+
+    private final UserMapper userMapper;
+    private final boolean enabled;
+    private final int capacity;
+
+    private final AtomicReferenceArray<User> slots;
+    private final AtomicLong sequence = new AtomicLong();
+    // 버퍼가 테이블의 모든 행을 담고 있는지 (유효 항목이 덮어써지면 false)
+    private volatile boolean holdsAll = true;
+    private volatile boolean ready;
+
+    public RecentUserBuffer(UserMapper userMapper,
+                            @Value("${recent-users.enabled:true}") boolean enabled,
+                            @Value("${recent-users.buffer-size:100}") int capacity) {
+        this.userMapper = userMapper;
+        this.enabled = enabled;
+        this.capacity = Math.max(1, capacity);
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * 모든 싱글톤 생성 후, 웹 서버가 요청을 받기 전에 DB 의 최근 사용자로 채움
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        List<User> recent = userMapper.findRecentUsers(capacity);
+        // 오래된 순서로 넣어야 덮어쓰기 순서가 생성 순서와 같다
+        for (int i = recent.size() - 1; i >= 0; i--) {
+            add(recent.get(i));
+        }
+        holdsAll = recent.size() < capacity;
+        ready = true;
+        log.info("최근 사용자 버퍼 구축 완료: {}건 (크기 {})", recent.size(), capacity);
+    }
+
+    /**
+     * JPA/MyBatis 쓰기 커밋 후 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        switch (event.getType()) {
+            case CREATED:
+                if (event.getUser() != null) {
+                    add(event.getUser());
+                }
+                break;
+            case DELETED:
+                replace(event.getUserId(), null);
+                break;
+            default:
+                if (event.getUser() != null) {
+                    replace(event.getUserId(), new User(event.getUser()));
+                }
+                break;
+        }
+    }
+
+    /**
+     * 최근 생성된 사용자 조회 (생성 시간 내림차순)
+     * @param limit 조회 건수
+     * @return 사용자 목록 (버퍼로 응답할 수 없으면 empty)
+     */
+    public Optional<List<User>> getRecent(int limit) {
+        if (!enabled || !ready || limit > capacity) {
+            return Optional.empty();
+        }
+        List<User> users = new ArrayList<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            User user = slots.get(i);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        if (!holdsAll && users.size() < limit) {
+            return Optional.empty();
+        }
+        users.sort(NEWEST_FIRST);
+        List<User> result = new ArrayList<>(Math.min(limit, users.size()));
+        for (int i = 0; i < limit && i < users.size(); i++) {
+            result.add(new User(users.get(i)));
+        }
+        return Optional.of(result);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private void add(User user) {
+        if (user.getId() == null) {
+            return;
+        }
+        int slot = (int) (sequence.getAndIncrement() % capacity);
+        User evicted = slots.getAndSet(slot, new User(user));
+        if (evicted != null) {
+            holdsAll = false;
+        }
+    }
+
+    private void replace(Long id, User replacement) {
+        if (id == null) {
+            return;
+        }
+        for (int i = 0; i < capacity; i++) {
+            User current = slots.get(i);
+            if (current != null && id.equals(current.getId())) {
+                slots.compareAndSet(i, current, replacement);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.helloworld.cache;
+
+import com.example.helloworld.config.ReadWriteRoutingDataSource;
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * JPA/MyBatis 공용 사용자 읽기 캐시 (read-through)
+ * id 를 기본 키로 하고 username, email 은 id 로 가는 보조 인덱스로 관리한다.
+ * 크기 초과 시 LRU, 만료 시간(TTL) 경과 시 제거하며, 두 서비스의 UserChangeEvent 로 무효화된다.
+ * 읽기/쓰기 라우팅을 사용해도 캐시 적재는 primary 에서 읽는다 (ReadWriteRoutingDataSource.readFromPrimary).
+ */
+@Component
+public class UserCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final boolean enabled;
+
+    private final LinkedHashMap<Long, Entry> entries;
+    private final Map<String, Long> idsByUsername = new HashMap<>();
+    private final Map<String, Long> idsByEmail = new HashMap<>();
+
+    // 로딩 중 무효화가 일어났는지 판단하기 위한 세대 번호
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public UserCache(@Value("${user-cache.enabled:true}") boolean enabled,
+                     @Value("${user-cache.max-size:10000}") int maxSize,
+                     @Value("${user-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > UserCache.this.maxSize) {
+                    removeIndexes(eldest.getValue().user);
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * ID로 조회 (캐시에 없으면 loader 로 조회 후 저장)
+     */
+    public Optional<User> getById(Long id, Supplier<Optional<User>> loader) {
+        if (!enabled || id == null) {
+            return loader.get();
+        }
+        synchronized (this) {
+            User cached = lookup(id);
+            if (cached != null) {
+                return Optional.of(new User(cached));
+            }
+        }
+        return load(loader);
+    }
+
+    /**
+     * 사용자명으로 조회 (캐시에 없으면 loader 로 조회 후 저장)
+     */
+    public Optional<User> getByUsername(String username, Supplier<Optional<User>> loader) {
+        if (!enabled || username == null) {
+            return loader.get();
+        }
+        synchronized (this) {
+            User cached = lookup(idsByUsername.get(username));
+            if (cached != null) {
+                return Optional.of(new User(cached));
+            }
+        }
+        return load(loader);
+    }
+
+    /**
+     * 이메일로 조회 (캐시에 없으면 loader 로 조회 후 저장)
+     */
+    public Optional<User> getByEmail(String email, Supplier<Optional<User>> loader) {
+        if (!enabled || email == null) {
+            return loader.get();
+        }
+        synchronized (this) {
+            User cached = lookup(idsByEmail.get(email));
+            if (cached != null) {
+                return Optional.of(new User(cached));
+            }
+        }
+        return load(loader);
+    }
+
+    /**
+     * ID에 해당하는 항목 제거 (username/email 보조 인덱스 포함)
+     */
+    public synchronized void evict(Long id) {
+        generation.incrementAndGet();
+        if (id == null) {
+            return;
+        }
+        Entry removed = entries.remove(id);
+        if (removed != null) {
+            removeIndexes(removed.user);
+            invalidations.incrementAndGet();
+        }
+    }
+
+    /**
+     * 전체 비우기
+     */
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        entries.clear();
+        idsByUsername.clear();
+        idsByEmail.clear();
+    }
+
+    /**
+     * 쓰기 트랜잭션 완료 후 무효화 (JPA/MyBatis 어느 경로에서 변경되어도 동일하게 제거)
+     * 트랜잭션 중에 채워진 미커밋 값도 함께 제거되도록 완료 시점에 처리한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        evict(event.getUserId());
+    }
+
+    public synchronized CacheStats getStats() {
+        return new CacheStats(enabled, entries.size(), maxSize, ttlMillis / 1000,
+                hits.get(), misses.get(), evictions.get(), expirations.get(), invalidations.get());
+    }
+
+    private Optional<User> load(Supplier<Optional<User>> loader) {
+        misses.incrementAndGet();
+        long startGeneration = generation.get();
+        // TTL 동안 보관하므로 지연된 레플리카의 이전 행을 담지 않도록 primary 에서 적재
+        Optional<User> loaded = ReadWriteRoutingDataSource.readFromPrimary(loader);
+        loaded.ifPresent(user -> put(user, startGeneration));
+        return loaded;
+    }
+
+    private synchronized void put(User user, long startGeneration) {
+        // 로딩 도중 무효화가 있었다면 이전 값일 수 있으므로 저장하지 않는다
+        if (generation.get() != startGeneration || user.getId() == null) {
+            return;
+        }
+        Entry previous = entries.remove(user.getId());
+        if (previous != null) {
+            removeIndexes(previous.user);
+        }
+        User snapshot = new User(user);
+        entries.put(snapshot.getId(), new Entry(snapshot, System.currentTimeMillis() + ttlMillis));
+        if (snapshot.getUsername() != null) {
+            idsByUsername.put(snapshot.getUsername(), snapshot.getId());
+        }
+        if (snapshot.getEmail() != null) {
+            idsByEmail.put(snapshot.getEmail(), snapshot.getId());
+        }
+    }
+
+    private User lookup(Long id) {
+        if (id == null) {
+            return null;
+        }
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            entries.remove(id);
+            removeIndexes(entry.user);
+            expirations.incrementAndGet();
+            purgeExpired();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry.user;
+    }
+
+    /**
+     * 만료된 항목 정리 (접근 순서상 앞쪽부터 확인)
+     */
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt <= now) {
+                iterator.remove();
+                removeIndexes(entry.user);
+                expirations.incrementAndGet();
+            }
+        }
+    }
+
+    private void removeIndexes(User user) {
+        if (user.getUsername() != null) {
+            idsByUsername.remove(user.getUsername(), user.getId());
+        }
+        if (user.getEmail() != null) {
+            idsByEmail.remove(user.getEmail(), user.getId());
+        }
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expiresAt;
+
+        private Entry(User user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public static class CacheStats {
+        private final boolean enabled;
+        private final int size;
+        private final int maxSize;
+        private final long ttlSeconds;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final long invalidations;
+
+        public CacheStats(boolean enabled, int size, int maxSize, long ttlSeconds, long hits, long misses,
+                          long evictions, long expirations, long invalidations) {
+            this.enabled = enabled;
+            this.size = size;
+            this.maxSize = maxSize;
+            this.ttlSeconds = ttlSeconds;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.invalidations = invalidations;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public int getSize() { return size; }
+        public int getMaxSize() { return maxSize; }
+        public long getTtlSeconds() { return ttlSeconds; }
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getEvictions() { return evictions; }
+        public long getExpirations() { return expirations; }
+        public long getInvalidations() { return invalidations; }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total > 0 ? (double) hits / total : 0.0;
+        }
+    }
+}
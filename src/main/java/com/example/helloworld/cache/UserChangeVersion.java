@@ -0,0 +1,62 @@
+package com.example.helloworld.cache;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * users 테이블 변경 버전 (목록 응답의 ETag 용)
+ * JPA/MyBatis 쓰기 경로의 UserChangeEvent 가 커밋될 때마다 1 증가한다.
+ *
+ * 조회 시 버전을 쿼리보다 먼저 읽으므로, 커밋 후 증가해도 이전 버전의 ETag 에 새 데이터가 붙을 수는 있지만
+ * (다음 요청이 다시 받을 뿐) 새 버전의 ETag 에 이전 데이터가 붙지는 않는다.
+ * 재시작 후 같은 버전 번호가 다른 데이터를 가리키지 않도록 ETag 에 기동 시각을 포함한다.
+ * 같은 데이터를 JSON/CBOR/Smile, gzip 등 여러 표현으로 보내므로 weak ETag 를 사용한다
+ * (Tomcat 은 strong ETag 응답을 압축하지 않는다).
+ * 애플리케이션을 거치지 않은 변경(H2 콘솔 등)은 반영되지 않는다.
+ *
+ * 새 ETag 로 이전 데이터가 나가지 않도록 레플리카 쓰기 기준 기록(ReadWriteRoutingConfig)과 실행 중 읽기 정리
+ * (RequestCoalescer)는 더 높은 순서(@Order)로 지정해 이 증가보다 먼저 실행된다.
+ */
+@Component
+public class UserChangeVersion {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 쓰기 커밋 후 버전 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        version.incrementAndGet();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * 목록/집계 응답용 weak ETag (테이블 변경 버전 기준)
+     */
+    public String listETag() {
+        return "W/\"" + epoch + "-" + version.get() + "\"";
+    }
+
+    /**
+     * 단건 응답용 weak ETag (id 와 updatedAt 기준)
+     */
+    public static String userETag(User user) {
+        LocalDateTime updatedAt = user.getUpdatedAt();
+        String stamp = updatedAt != null
+                ? Long.toString(updatedAt.toEpochSecond(ZoneOffset.UTC), 36) + "." + Integer.toString(updatedAt.getNano(), 36)
+                : "0";
+        return "W/\"" + user.getId() + "-" + stamp + "\"";
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.helloworld.coalescing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동시에 들어온 같은 읽기 호출(같은 메서드, 같은 인자)을 한 번의 실행으로 합친다 (single-flight, RequestCoalescer)
+ * 기다린 호출자는 먼저 실행한 호출의 결과 객체를 그대로 받으므로, 호출자가 반환값을 수정하지 않는 읽기 메서드에만 붙인다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+}
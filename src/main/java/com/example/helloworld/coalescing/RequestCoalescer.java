@@ -0,0 +1,247 @@
+package com.example.helloworld.coalescing;
+
+import com.example.helloworld.event.UserChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 동일 읽기 합치기 (single-flight)
+ * @Coalesced 메서드 호출을 (메서드, 인자) 키로 묶어, 같은 키의 호출이 실행 중이면 새로 실행하지 않고 그 결과(또는 예외)를 함께 받는다.
+ *
+ * 트랜잭션 인터셉터보다 바깥에서 실행되므로(CoalescingConfig) 기다리는 호출자는 트랜잭션을 열거나 커넥션을 잡지 않는다.
+ * 쓰기 트랜잭션 안의 호출은 자기 미커밋 변경을 읽어야 하므로 합치지 않는다.
+ * 실행 중인 호출의 결과가 쓰기 커밋 이전 데이터일 수 있으므로, UserChangeEvent 커밋 후에는 실행 중 목록을 비워
+ * 커밋 이후 도착한 호출이 커밋 이전에 시작된 실행에 합류하지 않게 한다.
+ * 목록 ETag 버전(UserChangeVersion)은 이 정리 뒤에 올라가므로, 새 ETag 를 받은 호출은 커밋 이후 시작된 실행에만 합류한다.
+ *
+ * 지표: Micrometer 는 메서드 단위(user.coalescing.calls, role=executed/coalesced/bypassed),
+ * 키(메서드 + 인자) 단위 합류 수는 최근 max-tracked-keys 개 키만 메모리에 유지해 GET /api/coalescing/stats 로 제공한다.
+ */
+@Component
+public class RequestCoalescer implements MethodInterceptor {
+
+    private static final String ROLE_EXECUTED = "executed";
+    private static final String ROLE_COALESCED = "coalesced";
+    private static final String ROLE_BYPASSED = "bypassed";
+
+    private final boolean enabled;
+    private final int maxTrackedKeys;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<FlightKey, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    // 키별 통계 (접근 순서 LRU, 크기 초과 시 가장 오래 쓰이지 않은 키 제거)
+    private final LinkedHashMap<String, KeyCounts> keyCounts;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong bypassed = new AtomicLong();
+
+    public RequestCoalescer(MeterRegistry meterRegistry,
+                            @Value("${request-coalescing.enabled:true}") boolean enabled,
+                            @Value("${request-coalescing.max-tracked-keys:1000}") int maxTrackedKeys) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxTrackedKeys = maxTrackedKeys;
+        this.keyCounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, KeyCounts> eldest) {
+                return size() > RequestCoalescer.this.maxTrackedKeys;
+            }
+        };
+        Gauge.builder("user.coalescing.in-flight", inFlight, Map::size)
+                .description("실행 중인 합치기 대상 호출 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getMethod();
+        String operation = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        if (!enabled || inWriteTransaction()) {
+            bypassed.incrementAndGet();
+            counter(operation, ROLE_BYPASSED).increment();
+            return invocation.proceed();
+        }
+
+        FlightKey key = new FlightKey(method, Arrays.asList(invocation.getArguments().clone()));
+        Flight flight = new Flight(Thread.currentThread());
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (existing.leader == Thread.currentThread()) {
+                // 실행 중인 호출 안에서 같은 키로 다시 호출된 경우 (자기 결과를 기다리면 교착)
+                return invocation.proceed();
+            }
+            coalesced.incrementAndGet();
+            counter(operation, ROLE_COALESCED).increment();
+            record(operation, key, true);
+            return existing.await();
+        }
+
+        executed.incrementAndGet();
+        counter(operation, ROLE_EXECUTED).increment();
+        record(operation, key, false);
+        try {
+            Object result = invocation.proceed();
+            flight.result.complete(result);
+            return result;
+        } catch (Throwable e) {
+            flight.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 쓰기 커밋 후 실행 중 목록 비우기 (이미 합류한 호출자는 그대로 기존 결과를 받음)
+     * 목록 ETag 버전 증가보다 먼저, 레플리카 쓰기 기준 기록 바로 다음에 실행한다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        inFlight.clear();
+    }
+
+    /**
+     * 합치기 통계
+     * @param limit 합류 수가 많은 순으로 반환할 최대 키 수
+     */
+    public CoalescingStats getStats(int limit) {
+        List<KeyStats> keys = new ArrayList<>();
+        synchronized (keyCounts) {
+            for (Map.Entry<String, KeyCounts> entry : keyCounts.entrySet()) {
+                KeyCounts counts = entry.getValue();
+                keys.add(new KeyStats(entry.getKey(), counts.executed, counts.coalesced));
+            }
+        }
+        keys.sort(Comparator.comparingLong(KeyStats::getCoalesced).reversed()
+                .thenComparing(Comparator.comparingLong(KeyStats::getExecuted).reversed()));
+        return new CoalescingStats(enabled, inFlight.size(), executed.get(), coalesced.get(), bypassed.get(),
+                keys.size(), keys.subList(0, Math.min(limit, keys.size())));
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private Counter counter(String operation, String role) {
+        return counters.computeIfAbsent(operation + "#" + role, k -> Counter.builder("user.coalescing.calls")
+                .description("합치기 대상 읽기 호출 수 (executed: DB 실행, coalesced: 실행 중 호출에 합류, bypassed: 합치지 않음)")
+                .tag("operation", operation)
+                .tag("role", role)
+                .register(meterRegistry));
+    }
+
+    private void record(String operation, FlightKey key, boolean joined) {
+        String name = operation + key.args;
+        synchronized (keyCounts) {
+            KeyCounts counts = keyCounts.computeIfAbsent(name, k -> new KeyCounts());
+            if (joined) {
+                counts.coalesced++;
+            } else {
+                counts.executed++;
+            }
+        }
+    }
+
+    private record FlightKey(Method method, List<Object> args) {
+    }
+
+    private static final class Flight {
+        private final Thread leader;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Flight(Thread leader) {
+            this.leader = leader;
+        }
+
+        private Object await() throws Throwable {
+            try {
+                return result.join();
+            } catch (CompletionException e) {
+                throw e.getCause() != null ? e.getCause() : e;
+            }
+        }
+    }
+
+    private static final class KeyCounts {
+        private long executed;
+        private long coalesced;
+    }
+
+    /**
+     * 키(메서드 + 인자)별 통계
+     */
+    public static class KeyStats {
+        private final String key;
+        private final long executed;
+        private final long coalesced;
+
+        public KeyStats(String key, long executed, long coalesced) {
+            this.key = key;
+            this.executed = executed;
+            this.coalesced = coalesced;
+        }
+
+        public String getKey() { return key; }
+        public long getExecuted() { return executed; }
+        public long getCoalesced() { return coalesced; }
+    }
+
+    /**
+     * 전체 통계 (keys 는 합류 수 내림차순)
+     */
+    public static class CoalescingStats {
+        private final boolean enabled;
+        private final int inFlight;
+        private final long executed;
+        private final long coalesced;
+        private final long bypassed;
+        private final int trackedKeys;
+        private final List<KeyStats> keys;
+
+        public CoalescingStats(boolean enabled, int inFlight, long executed, long coalesced, long bypassed,
+                               int trackedKeys, List<KeyStats> keys) {
+            this.enabled = enabled;
+            this.inFlight = inFlight;
+            this.executed = executed;
+            this.coalesced = coalesced;
+            this.bypassed = bypassed;
+            this.trackedKeys = trackedKeys;
+            this.keys = keys;
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public int getInFlight() { return inFlight; }
+        public long getExecuted() { return executed; }
+        public long getCoalesced() { return coalesced; }
+        public long getBypassed() { return bypassed; }
+        public int getTrackedKeys() { return trackedKeys; }
+        public List<KeyStats> getKeys() { return keys; }
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.helloworld.config;
+
+import com.example.helloworld.coalescing.Coalesced;
+import com.example.helloworld.coalescing.RequestCoalescer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * 동시 동일 읽기 합치기 설정 (@Coalesced 메서드에 RequestCoalescer 적용)
+ *
+ * 트랜잭션 어드바이저(기본 순서 LOWEST_PRECEDENCE)보다 먼저 실행되도록 가장 높은 우선순위로 등록한다.
+ * 합류한 호출자는 트랜잭션 시작(커넥션 획득) 전에 기다리므로, 같은 키의 동시 요청이 몰려도 커넥션은 하나만 쓴다.
+ */
+@Configuration
+public class CoalescingConfig {
+
+    /**
+     * 어드바이저는 자동 프록시 생성기가 일찍 만들므로, RequestCoalescer(MeterRegistry 의존)는 첫 호출 때 조회한다
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor requestCoalescingAdvisor(ObjectProvider<RequestCoalescer> coalescer) {
+        SingletonSupplier<RequestCoalescer> target = SingletonSupplier.of(coalescer::getObject);
+        MethodInterceptor interceptor = invocation -> target.obtain().invoke(invocation);
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Coalesced.class), interceptor);
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
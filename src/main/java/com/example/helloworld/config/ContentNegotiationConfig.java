@@ -0,0 +1,117 @@
+package com.example.helloworld.config;
+
+import com.example.helloworld.dto.UserListSerializer;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * API 응답 표현 협상 (Accept 헤더)
+ * - application/json: 기본
+ * - application/vnd.users.columnar+json: 사용자 목록(data)을 열 단위 배열 객체로 쓰는 JSON (UserListSerializer)
+ * - application/cbor, application/x-jackson-smile: 같은 구조의 바이너리 인코딩
+ *
+ * CBOR/Smile 은 Spring Boot 의 Jackson 설정(@JsonComponent 직렬화기, spring.jackson.*)을 그대로 쓰도록
+ * 기본 변환기를 같은 자리(JSON 뒤)에서 교체한다. Accept 가 없거나 모든 유형을 허용하면 JSON 을 선택한다.
+ * 응답 압축(gzip)은 server.compression.* 로 Tomcat 이 처리하며, 표현이 Accept 에 따라 달라지므로 Vary: Accept 를 붙인다.
+ */
+@Configuration
+public class ContentNegotiationConfig implements WebMvcConfigurer {
+
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType("application/vnd.users.columnar+json");
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public ContentNegotiationConfig(ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        ObjectMapper cborMapper = objectMapperBuilder.getObject().factory(new CBORFactory()).build();
+        ObjectMapper smileMapper = objectMapperBuilder.getObject().factory(new SmileFactory()).build();
+        replaceOrAdd(converters, MappingJackson2CborHttpMessageConverter.class,
+                new MappingJackson2CborHttpMessageConverter(cborMapper));
+        replaceOrAdd(converters, MappingJackson2SmileHttpMessageConverter.class,
+                new MappingJackson2SmileHttpMessageConverter(smileMapper));
+
+        // 기본 JSON 변환기도 application/*+json 을 쓸 수 있으므로 그보다 앞에 둔다
+        int json = indexOf(converters, MappingJackson2HttpMessageConverter.class);
+        converters.add(Math.max(json, 0), new ColumnarJsonHttpMessageConverter(objectMapperBuilder.getObject().build()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+
+    private static void replaceOrAdd(List<HttpMessageConverter<?>> converters,
+                                     Class<?> type, HttpMessageConverter<?> replacement) {
+        int index = indexOf(converters, type);
+        if (index >= 0) {
+            converters.set(index, replacement);
+        } else {
+            converters.add(replacement);
+        }
+    }
+
+    private static int indexOf(List<HttpMessageConverter<?>> converters, Class<?> type) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == type) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 열 단위 JSON 변환기
+     * Accept 로 명시적으로 요청한 경우에만 쓰며(생성 가능 유형 목록에 나타나지 않음), 그 외 응답 객체는 일반 JSON 과 같다.
+     */
+    public static class ColumnarJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+        public ColumnarJsonHttpMessageConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+            setSupportedMediaTypes(List.of(COLUMNAR_JSON));
+        }
+
+        @Override
+        protected boolean canWrite(MediaType mediaType) {
+            return mediaType != null && COLUMNAR_JSON.equalsTypeAndSubtype(mediaType);
+        }
+
+        @Override
+        protected boolean canRead(MediaType mediaType) {
+            return false;
+        }
+
+        @Override
+        protected ObjectWriter customizeWriter(ObjectWriter writer, JavaType javaType, MediaType contentType) {
+            return writer.withAttribute(UserListSerializer.LAYOUT_ATTRIBUTE, UserListSerializer.COLUMNAR);
+        }
+    }
+}
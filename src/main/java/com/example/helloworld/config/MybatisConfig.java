@@ -0,0 +1,82 @@
+package com.example.helloworld.config;
+
+import org.apache.ibatis.mapping.DatabaseIdProvider;
+import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.mybatis.spring.mapper.MapperFactoryBean;
+import org.mybatis.spring.mapper.MapperScannerConfigurer;
+import org.springframework.beans.factory.aot.BeanRegistrationAotContribution;
+import org.springframework.beans.factory.aot.BeanRegistrationAotProcessor;
+import org.springframework.beans.factory.aot.BeanRegistrationExcludeFilter;
+import org.springframework.beans.factory.support.RegisteredBean;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
+import org.springframework.beans.factory.support.MergedBeanDefinitionPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+
+import java.util.Properties;
+
+/**
+ * MyBatis 데이터베이스 식별자 설정
+ * UserMapper.xml 에서 databaseId="h2" / "postgresql" 로 DB 전용 문장(UPDATE ... RETURNING 등)을 고른다.
+ * 그 외 DB 는 databaseId 가 없으므로 DB 전용 문장은 등록되지 않고 공통 문장만 사용한다.
+ *
+ * AOT 처리(mvn -Pfast-startup)용 매퍼 설정도 둔다. 빌드 때 @Mapper 스캔으로 찾은 매퍼 정의가 생성 코드에 들어가므로
+ * 실행 시 MapperScannerConfigurer 가 다시 스캔하지 않게 하고, 매퍼 정의에 매퍼 인터페이스 타입을 남긴다.
+ */
+@Configuration
+public class MybatisConfig {
+
+    @Bean
+    public DatabaseIdProvider databaseIdProvider() {
+        Properties vendors = new Properties();
+        vendors.setProperty("H2", "h2");
+        vendors.setProperty("PostgreSQL", "postgresql");
+        VendorDatabaseIdProvider provider = new VendorDatabaseIdProvider();
+        provider.setProperties(vendors);
+        return provider;
+    }
+
+    /**
+     * AOT 생성 코드에서 MapperScannerConfigurer 제외 (실행 시 다시 스캔하면 생성된 userMapper 정의와 이름이 충돌)
+     */
+    @Bean
+    public static MapperScannerAotExcludeFilter mapperScannerAotExcludeFilter() {
+        return new MapperScannerAotExcludeFilter();
+    }
+
+    /**
+     * 스캔한 MapperFactoryBean 정의의 타입을 MapperFactoryBean&lt;매퍼&gt; 로, 생성자 인자를 매퍼 클래스로 지정
+     * 스캐너가 남기는 factoryBeanObjectType 속성은 AOT 생성 코드에 옮겨지지 않으므로 제네릭 타입으로 남겨야
+     * AOT 실행에서도 매퍼를 만들지 않고 UserMapper 타입 주입 대상을 찾을 수 있고,
+     * 클래스 이름 문자열 인자는 생성 코드의 생성자 호출(Class 인자)로 변환되지 않는다.
+     */
+    @Bean
+    public static MergedBeanDefinitionPostProcessor mapperFactoryBeanTypePostProcessor() {
+        return (beanDefinition, beanType, beanName) -> {
+            if (MapperFactoryBean.class.isAssignableFrom(beanType)
+                    && beanDefinition.getPropertyValues().get("mapperInterface") instanceof Class<?> mapperInterface) {
+                ConstructorArgumentValues arguments = new ConstructorArgumentValues();
+                arguments.addGenericArgumentValue(mapperInterface);
+                beanDefinition.setConstructorArgumentValues(arguments);
+                beanDefinition.setTargetType(ResolvableType.forClassWithGenerics(beanType, mapperInterface));
+            }
+        };
+    }
+
+    /**
+     * AOT 처리 인터페이스를 함께 구현해야 제외 필터로 쓰이며, 이 빈 자신도 생성 코드에서 빠진다
+     */
+    static class MapperScannerAotExcludeFilter implements BeanRegistrationAotProcessor, BeanRegistrationExcludeFilter {
+
+        @Override
+        public BeanRegistrationAotContribution processAheadOfTime(RegisteredBean registeredBean) {
+            return null;
+        }
+
+        @Override
+        public boolean isExcludedFromAotProcessing(RegisteredBean registeredBean) {
+            return MapperScannerConfigurer.class.isAssignableFrom(registeredBean.getBeanClass());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.helloworld.config;
+
+import com.example.helloworld.event.UserChangeEvent;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (db.routing.enabled=true 일 때)
+ *
+ * 기존 dataSource 빈(primary 풀, 동시 접근 제한 포함)을 ReadWriteRoutingDataSource 로 감싸
+ * readOnly 트랜잭션은 db.routing.replica-urls 의 레플리카 풀로, 그 외는 primary 로 보낸다.
+ * 레플리카 풀은 db.admission.enabled 이면 primary 와 같은 방식으로 동시 접근을 제한한다.
+ * 레플리카 계정은 지정하지 않으면 spring.datasource.username/password 를 사용한다.
+ *
+ * 자기 쓰기 읽기(read-your-writes) 계약:
+ * - 이 인스턴스의 사용자 변경이 커밋되면, 그 변경을 복제한 레플리카만 readOnly 읽기에 사용한다 (ReplicaDataSource).
+ *   목록 ETag(UserChangeVersion)보다 먼저 기록하므로 새 ETag 로 이전 행이 나가지 않는다.
+ * - 사용자 캐시 적재는 readFromPrimary 로 항상 primary 에서 읽는다.
+ * - 메모리 구조(통계, Bloom 필터, 검색 색인, 컬럼 스냅샷)의 구축/재조정 스캔은 readOnly 가 아닌 트랜잭션으로 primary 를 읽는다.
+ * - 다른 인스턴스나 애플리케이션 밖의 쓰기는 max-lag-ms 이내로 늦게 보일 수 있다.
+ *
+ * 로컬 확인 (H2 두 인스턴스): replica-urls 에 primary 와 같은 메모리 DB(jdbc:h2:mem:testdb)를 주면
+ * 별도 풀의 동기 레플리카로, heartbeat 가 갱신되지 않는 다른 메모리 DB 를 주면 지연된 레플리카로 동작한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingConfig.class);
+
+    /**
+     * dataSource 빈을 라우팅 DataSource 로 교체 (동시 접근 제한 래핑 이후에 적용)
+     */
+    @Bean
+    public static BeanPostProcessor readWriteRoutingPostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource primary)
+                        || bean instanceof ReadWriteRoutingDataSource) {
+                    return bean;
+                }
+                List<ReplicaDataSource.Replica> replicas = createReplicas(environment);
+                if (replicas.isEmpty()) {
+                    log.warn("db.routing.replica-urls 가 비어 있어 읽기/쓰기 라우팅을 사용하지 않습니다.");
+                    return bean;
+                }
+                long maxLagMillis = environment.getProperty("db.routing.max-lag-ms", Long.class, 5000L);
+                log.info("읽기/쓰기 라우팅: 레플리카 {}개, 허용 복제 지연 {}ms", replicas.size(), maxLagMillis);
+                return new ReadWriteRoutingDataSource(primary, new ReplicaDataSource(replicas, primary, maxLagMillis));
+            }
+        };
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(DataSource dataSource) {
+        return new ReplicaLagMonitor(dataSource);
+    }
+
+    @Bean
+    public WriteFenceRecorder writeFenceRecorder(DataSource dataSource) {
+        return new WriteFenceRecorder(dataSource);
+    }
+
+    private static List<ReplicaDataSource.Replica> createReplicas(Environment environment) {
+        String[] urls = environment.getProperty("db.routing.replica-urls", String[].class, new String[0]);
+        String username = environment.getProperty("db.routing.replica-username",
+                environment.getProperty("spring.datasource.username", ""));
+        String password = environment.getProperty("db.routing.replica-password",
+                environment.getProperty("spring.datasource.password", ""));
+        int poolSize = environment.getProperty("db.routing.replica-pool-size", Integer.class, 10);
+        boolean admission = environment.getProperty("db.admission.enabled", Boolean.class, false);
+        long timeoutMillis = environment.getProperty("db.admission.timeout-ms", Long.class, 30000L);
+
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>();
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariConfig config = new HikariConfig();
+            config.setPoolName(name);
+            config.setJdbcUrl(url.trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            // 레플리카가 내려가 있어도 기동은 계속하고, 지연 확인에서 제외한다
+            config.setInitializationFailTimeout(-1);
+            DataSource pool = new HikariDataSource(config);
+            if (admission) {
+                pool = new ConnectionAdmissionDataSource(pool, poolSize, timeoutMillis);
+            }
+            replicas.add(new ReplicaDataSource.Replica(name, pool));
+        }
+        return replicas;
+    }
+
+    /**
+     * 레플리카 복제 지연 주기 확인 (레플리카는 기동 후 두 번째 확인부터 사용)
+     */
+    public static class ReplicaLagMonitor implements SmartInitializingSingleton {
+
+        private final ReplicaDataSource replicaDataSource;
+
+        public ReplicaLagMonitor(DataSource dataSource) {
+            this.replicaDataSource = dataSource instanceof ReadWriteRoutingDataSource routing
+                    ? routing.getReplicaDataSource() : null;
+        }
+
+        /**
+         * Flyway 마이그레이션(heartbeat 테이블) 이후 첫 heartbeat 기록
+         */
+        @Override
+        public void afterSingletonsInstantiated() {
+            check();
+        }
+
+        @Scheduled(initialDelayString = "${db.routing.lag-check-interval-ms:1000}",
+                fixedDelayString = "${db.routing.lag-check-interval-ms:1000}")
+        public void check() {
+            if (replicaDataSource != null) {
+                replicaDataSource.checkLag();
+            }
+        }
+    }
+
+    /**
+     * 사용자 변경 커밋 시각 기록 (그 변경을 복제할 때까지 레플리카 대신 primary 에서 읽음)
+     * 목록 ETag 를 올리는 UserChangeVersion 보다 먼저 실행되어야 하므로 가장 앞 순서로 둔다.
+     */
+    public static class WriteFenceRecorder {
+
+        private final ReplicaDataSource replicaDataSource;
+
+        public WriteFenceRecorder(DataSource dataSource) {
+            this.replicaDataSource = dataSource instanceof ReadWriteRoutingDataSource routing
+                    ? routing.getReplicaDataSource() : null;
+        }
+
+        @Order(Ordered.HIGHEST_PRECEDENCE)
+        @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+        public void onUserChange(UserChangeEvent event) {
+            if (replicaDataSource != null) {
+                replicaDataSource.recordWrite();
+            }
+        }
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.helloworld.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.function.Supplier;
+
+/**
+ * 읽기/쓰기 라우팅 DataSource (JPA/MyBatis 공용 dataSource 빈)
+ * 커넥션을 첫 문장 실행 시점까지 미루고, 그 시점에 커넥션이 read-only 로 설정되어 있으면
+ * (@Transactional(readOnly = true), readOnly TransactionTemplate) 레플리카에서, 아니면 primary 에서 커넥션을 얻는다.
+ * JpaTransactionManager 는 트랜잭션 시작 시 커넥션을 얻으므로, 실제 커넥션을 미뤄야 readOnly 여부를 보고 고를 수 있다.
+ * MyBatis 는 같은 트랜잭션의 커넥션을 공유하므로 함께 라우팅된다.
+ *
+ * readFromPrimary 안에서 얻는 커넥션은 readOnly 여부와 관계없이 primary 에서 얻는다.
+ * 결과를 오래 보관하는 읽기(캐시 적재)처럼 복제 지연을 허용할 수 없는 읽기에 사용하며,
+ * 커넥션은 첫 문장 실행 시점에 얻으므로 트랜잭션의 첫 문장이 이 안에서 실행되어야 한다.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final ReplicaDataSource replicaDataSource;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaDataSource replicaDataSource) {
+        super(primary);
+        this.replicaDataSource = replicaDataSource;
+        setReadOnlyDataSource(replicaDataSource);
+    }
+
+    public ReplicaDataSource getReplicaDataSource() {
+        return replicaDataSource;
+    }
+
+    /**
+     * 레플리카 대신 primary 에서 읽기 (라우팅을 사용하지 않으면 그대로 실행)
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        if (Boolean.TRUE.equals(PRIMARY_READ.get())) {
+            return action.get();
+        }
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_READ.remove();
+        }
+    }
+
+    static boolean isPrimaryRead() {
+        return Boolean.TRUE.equals(PRIMARY_READ.get());
+    }
+
+    /**
+     * 컨텍스트 종료 시 primary 와 레플리카 풀 종료 (dataSource 빈의 추론된 destroy 메서드)
+     */
+    @Override
+    public void close() throws SQLException {
+        for (ReplicaDataSource.Replica replica : replicaDataSource.getReplicas()) {
+            closePool(replica.getDataSource());
+        }
+        closePool(getTargetDataSource());
+    }
+
+    private static void closePool(DataSource dataSource) throws SQLException {
+        if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+            dataSource.unwrap(HikariDataSource.class).close();
+        }
+    }
+}
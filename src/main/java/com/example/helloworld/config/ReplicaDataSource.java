@@ -0,0 +1,210 @@
+package com.example.helloworld.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 읽기 전용 트랜잭션용 DataSource (레플리카 부하 분산 + 복제 지연 시 primary 로 대체)
+ * 복제 지연이 max-lag 이하이고 마지막 확인에 성공한 레플리카만 라운드 로빈으로 사용하며,
+ * 사용할 레플리카가 없거나 모두 커넥션 획득에 실패하면 primary 커넥션을 반환한다.
+ *
+ * 복제 지연은 replication_heartbeat 테이블로 측정한다 (checkLag).
+ * 각 레플리카에서 heartbeat 를 읽어 직전에 primary 에 쓴 값과 비교한 뒤, primary 에 새 값을 쓴다.
+ * 직전 값을 이미 복제한 레플리카는 지연 0, 아니면 (직전 값 - 레플리카 값) 으로 보므로 해상도는 확인 주기와 같다.
+ *
+ * 자기 쓰기 읽기(read-your-writes): 이 인스턴스의 사용자 변경이 커밋되면 recordWrite 로 그 시각을 남기고,
+ * 레플리카가 마지막으로 복제한 heartbeat 가 그 시각보다 나중일 때까지 해당 레플리카를 사용하지 않는다.
+ * heartbeat 는 primary 에 커밋 순서대로 기록되므로, 그보다 나중 heartbeat 를 복제한 레플리카는 변경도 복제한 상태다.
+ * 커밋 직후 목록 ETag 가 바뀐 뒤 지연된 레플리카의 이전 행이 새 ETag 로 나가지 않도록 하며,
+ * 쓰기 후 최대 (확인 주기 + 복제 지연) 동안은 primary 에서 읽는다. 다른 인스턴스의 쓰기는 대상이 아니다.
+ */
+public class ReplicaDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private static final String READ_HEARTBEAT = "SELECT beat_millis FROM replication_heartbeat WHERE id = 1";
+    private static final String WRITE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1";
+
+    private final List<Replica> replicas;
+    private final DataSource primary;
+    private final long maxLagMillis;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicLong primaryFallbacks = new AtomicLong();
+    private final AtomicLong primaryReads = new AtomicLong();
+    // 이 인스턴스의 마지막 쓰기 커밋 시각 (이후 heartbeat 를 복제한 레플리카만 사용)
+    private volatile long writeFence;
+    // 직전 확인에서 primary 에 쓴 heartbeat (아직 쓰지 않았으면 -1)
+    private long lastBeat = -1;
+
+    public ReplicaDataSource(List<Replica> replicas, DataSource primary, long maxLagMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.primary = primary;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadWriteRoutingDataSource.isPrimaryRead()) {
+            primaryReads.incrementAndGet();
+            return primary.getConnection();
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        long fence = writeFence;
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.isEligible(maxLagMillis, fence)) {
+                continue;
+            }
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                replica.connections.incrementAndGet();
+                return connection;
+            } catch (SQLException e) {
+                replica.markFailed(e);
+                log.warn("레플리카 {} 커넥션 실패, 다음 확인까지 제외: {}", replica.name, e.getMessage());
+            }
+        }
+        primaryFallbacks.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    /**
+     * 계정을 지정한 커넥션은 레플리카 계정과 같다고 보장할 수 없으므로 primary 로 위임
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * 이 인스턴스의 쓰기 커밋 기록 (이후 heartbeat 를 복제할 때까지 레플리카 대신 primary 에서 읽음)
+     */
+    public void recordWrite() {
+        writeFence = System.currentTimeMillis();
+    }
+
+    /**
+     * 레플리카별 복제 지연 측정 후 primary 에 새 heartbeat 기록
+     * 읽기에 실패한 레플리카(접속 불가, heartbeat 테이블 없음)는 다음 확인까지 제외한다.
+     */
+    public synchronized void checkLag() {
+        if (lastBeat >= 0) {
+            for (Replica replica : replicas) {
+                try (Connection connection = replica.dataSource.getConnection();
+                     PreparedStatement ps = connection.prepareStatement(READ_HEARTBEAT);
+                     ResultSet rs = ps.executeQuery()) {
+                    long beat = rs.next() ? rs.getLong(1) : 0;
+                    replica.update(Math.max(0, lastBeat - beat), beat);
+                } catch (SQLException e) {
+                    replica.markFailed(e);
+                }
+            }
+        }
+        long beat = System.currentTimeMillis();
+        try (Connection connection = primary.getConnection();
+             PreparedStatement ps = connection.prepareStatement(WRITE_HEARTBEAT)) {
+            if (!connection.getAutoCommit()) {
+                connection.setAutoCommit(true);
+            }
+            ps.setLong(1, beat);
+            ps.executeUpdate();
+            lastBeat = beat;
+        } catch (SQLException e) {
+            log.warn("primary heartbeat 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 라우팅 상태 (레플리카별 지연/사용 여부/커넥션 수, primary 대체 횟수)
+     */
+    public Map<String, Object> getStatus() {
+        List<Map<String, Object>> replicaStatus = new ArrayList<>();
+        for (Replica replica : replicas) {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("name", replica.name);
+            status.put("healthy", replica.healthy);
+            status.put("lagMillis", replica.lagMillis);
+            status.put("appliedBeatMillis", replica.appliedBeat);
+            status.put("eligible", replica.isEligible(maxLagMillis, writeFence));
+            status.put("connections", replica.connections.get());
+            status.put("lastError", replica.lastError);
+            replicaStatus.add(status);
+        }
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("maxLagMillis", maxLagMillis);
+        status.put("primaryFallbacks", primaryFallbacks.get());
+        status.put("primaryReads", primaryReads.get());
+        status.put("writeFenceMillis", writeFence);
+        status.put("replicas", replicaStatus);
+        return status;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public long getPrimaryFallbacks() {
+        return primaryFallbacks.get();
+    }
+
+    /**
+     * readFromPrimary 로 primary 에서 얻은 커넥션 수
+     */
+    public long getPrimaryReads() {
+        return primaryReads.get();
+    }
+
+    /**
+     * 레플리카 하나 (첫 지연 확인 전에는 사용하지 않음)
+     */
+    public static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final AtomicLong connections = new AtomicLong();
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1;
+        // 레플리카에서 마지막으로 읽은 heartbeat (primary 에 기록된 시각)
+        private volatile long appliedBeat = -1;
+        private volatile String lastError;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isEligible(long maxLagMillis, long writeFence) {
+            return healthy && lagMillis >= 0 && lagMillis <= maxLagMillis && appliedBeat > writeFence;
+        }
+
+        void update(long lagMillis, long appliedBeat) {
+            this.lagMillis = lagMillis;
+            this.appliedBeat = appliedBeat;
+            this.healthy = true;
+            this.lastError = null;
+        }
+
+        void markFailed(SQLException e) {
+            this.healthy = false;
+            this.lastError = e.getMessage();
+        }
+
+        public String getName() { return name; }
+        public DataSource getDataSource() { return dataSource; }
+        public long getConnections() { return connections.get(); }
+        public long getLagMillis() { return lagMillis; }
+    }
+}
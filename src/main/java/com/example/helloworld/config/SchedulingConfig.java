@@ -0,0 +1,12 @@
+package com.example.helloworld.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (사용자 통계 재계산 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
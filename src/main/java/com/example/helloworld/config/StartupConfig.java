@@ -0,0 +1,27 @@
+package com.example.helloworld.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+
+/**
+ * 빠른 기동(fast-startup 프로필, spring.main.lazy-initialization=true) 설정
+ *
+ * 요청 처리에 바로 필요하지 않은 빈은 첫 사용 때 만들되, JPA 리포지토리는 기동 중에 만든다.
+ * 리포지토리 생성(쿼리 메서드 해석, @Query JPQL 검증)이 수 초 걸려 지연하면 첫 JPA 요청이 그만큼 늦어지기 때문이다.
+ *
+ * 다음 빈은 Spring Boot 가 이미 지연 초기화에서 제외하므로 여기서 따로 등록하지 않는다.
+ * - SmartInitializingSingleton: 기동 시 메모리 구조(통계, 색인, 분석 스냅샷 등)를 구축하는 UserSnapshotRebuilder 와
+ *   ReplicaLagMonitor. UserSnapshotRebuilder 는 구축할 때 대상 빈도 함께 만든다.
+ * - @Scheduled 메서드가 있는 빈 (ScheduledBeanLazyInitializationExcludeFilter, @EnableScheduling 일 때 등록):
+ *   UserPathComparator 의 말단 표본 비교, UserChangeFeed 의 heartbeat 등은 첫 사용을 기다리지 않고 기동 직후부터 실행된다.
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter repositoryLazyInitializationExcludeFilter() {
+        return LazyInitializationExcludeFilter.forBeanTypes(Repository.class);
+    }
+}
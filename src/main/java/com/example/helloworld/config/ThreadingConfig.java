@@ -0,0 +1,66 @@
+package com.example.helloworld.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+/**
+ * 요청 처리 스레드 모드 설정
+ *
+ * spring.threads.virtual.enabled=true 이면 Spring Boot 가 Tomcat 요청 처리와 비동기 작업(applicationTaskExecutor)을
+ * Java 21 가상 스레드로 실행하며, @Transactional 서비스 호출도 같은 가상 스레드에서 실행된다.
+ * (Java 21 미만 런타임에서는 무시되고 플랫폼 스레드로 동작)
+ *
+ * 가상 스레드는 요청 수만큼 생성되므로 DB 커넥션 획득을 db.admission.max-concurrent 로 제한한다.
+ * 풀 크기 지침: 동시 허용 수 = spring.datasource.hikari.maximum-pool-size ≈ (DB 코어 수 * 2) + 디스크 수.
+ * 동시 허용 수를 풀 크기보다 크게 두면 Hikari 대기열에서 기다리게 되므로 풀 크기 이하로 제한한다.
+ */
+@Configuration
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    @Bean
+    @ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        return new OrderedBeanPostProcessor() {
+            // 읽기/쓰기 라우팅(ReadWriteRoutingConfig)이 감싸기 전에 primary 풀에 적용
+            @Override
+            public int getOrder() {
+                return Ordered.LOWEST_PRECEDENCE - 1;
+            }
+
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int poolSize = hikari.getMaximumPoolSize();
+                int maxConcurrent = environment.getProperty("db.admission.max-concurrent", Integer.class, poolSize);
+                long timeoutMillis = environment.getProperty("db.admission.timeout-ms", Long.class, 30000L);
+                if (maxConcurrent > poolSize) {
+                    log.warn("db.admission.max-concurrent({})가 커넥션 풀 크기({})보다 커서 풀 크기로 제한합니다.",
+                            maxConcurrent, poolSize);
+                    maxConcurrent = poolSize;
+                }
+                boolean virtual = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+                if (virtual && Runtime.version().feature() < 21) {
+                    log.warn("가상 스레드 모드는 Java 21 이상에서만 동작합니다. 현재 런타임: {}", Runtime.version());
+                }
+                log.info("DB 커넥션 동시 접근 제한: {} (풀 크기 {}, 대기 {}ms, 가상 스레드 {})",
+                        maxConcurrent, poolSize, timeoutMillis, virtual);
+                return new ConnectionAdmissionDataSource(hikari, maxConcurrent, timeoutMillis);
+            }
+        };
+    }
+
+    private interface OrderedBeanPostProcessor extends BeanPostProcessor, Ordered {
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.helloworld.consistency;
+
+/**
+ * id 구간 하나의 요약 (행 수, 행 해시 합)
+ * 행 해시를 더해서 합치므로 하위 구간 요약의 합이 상위 구간 요약과 같다.
+ * JPA 는 JPQL 생성자 표현식, MyBatis 는 constructor 매핑으로 생성한다.
+ */
+public class IdRangeDigest {
+    private final long bucket;
+    private final long rowCount;
+    private final long rowHash;
+
+    public IdRangeDigest(long bucket, long rowCount, long rowHash) {
+        this.bucket = bucket;
+        this.rowCount = rowCount;
+        this.rowHash = rowHash;
+    }
+
+    /**
+     * 구간 안의 하위 구간 번호 ((id - 구간 시작) / 하위 구간 폭)
+     */
+    public long getBucket() { return bucket; }
+    public long getRowCount() { return rowCount; }
+    public long getRowHash() { return rowHash; }
+
+    public boolean matches(IdRangeDigest other) {
+        return other != null && rowCount == other.rowCount && rowHash == other.rowHash;
+    }
+}
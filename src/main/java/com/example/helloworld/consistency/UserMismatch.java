@@ -0,0 +1,50 @@
+package com.example.helloworld.consistency;
+
+import java.util.List;
+
+/**
+ * JPA/MyBatis 경로 간 불일치 사용자 하나
+ */
+public class UserMismatch {
+
+    public enum Type {
+        JPA_ONLY, MYBATIS_ONLY, DIFFERENT
+    }
+
+    private final long id;
+    private final Type type;
+    private final List<FieldDifference> fields;
+
+    public UserMismatch(long id, Type type, List<FieldDifference> fields) {
+        this.id = id;
+        this.type = type;
+        this.fields = fields;
+    }
+
+    public long getId() { return id; }
+    public Type getType() { return type; }
+
+    /**
+     * 값이 다른 필드 (JPA_ONLY/MYBATIS_ONLY 는 빈 목록)
+     */
+    public List<FieldDifference> getFields() { return fields; }
+
+    /**
+     * 필드 하나의 경로별 값
+     */
+    public static class FieldDifference {
+        private final String field;
+        private final Object jpa;
+        private final Object mybatis;
+
+        public FieldDifference(String field, Object jpa, Object mybatis) {
+            this.field = field;
+            this.jpa = jpa;
+            this.mybatis = mybatis;
+        }
+
+        public String getField() { return field; }
+        public Object getJpa() { return jpa; }
+        public Object getMybatis() { return mybatis; }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.helloworld.consistency;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * JPA/MyBatis 경로 일관성 비교 (id 구간 해시, Merkle 방식)
+ *
+ * 전체 id 범위를 fanout 개의 하위 구간으로 나누고, 각 경로로 하위 구간별 (행 수, 행 해시 합)을 한 번의 GROUP BY 로 구한다.
+ * 요약이 다른 하위 구간만 다시 나누어 내려가고, 폭이 leafSize 이하인 구간에서만 두 경로로 행을 읽어 필드를 비교한다.
+ * 행 해시는 DB 함수로 계산하므로(JPA 는 엔티티 매핑을 거친 JPQL, MyBatis 는 매퍼 SQL) 애플리케이션으로 오는 데이터와
+ * 쿼리 수는 테이블 크기가 아니라 불일치 수 × 깊이에 비례한다.
+ *
+ * 두 경로는 같은 트랜잭션(같은 커넥션)에서 읽지만, 격리 수준이 read committed 이면 비교 중 커밋된 변경이 불일치로 보일 수 있다.
+ *
+ * 한계: 구간 해시는 각 경로의 쿼리가 읽은 컬럼 값을 DB 에서 해시하므로 결과 매핑(MyBatis UserResultMap, 엔티티 필드 변환)을
+ * 거치지 않는다. 매핑 누락이나 null 처리 차이처럼 같은 행이 다른 객체가 되는 불일치는 해시가 같아 찾지 못하고,
+ * 매핑된 객체를 비교하는 말단 구간에서만 드러난다. 그래서 verifyMappedRows 가 주기적으로 id 구간을 돌아가며
+ * 해시와 관계없이 말단 비교를 하고, 불일치가 있으면 경고 로그를 남긴다 (user-path-compare.sample-*).
+ */
+@Service
+public class UserPathComparator {
+
+    public static final int DEFAULT_FANOUT = 16;
+    public static final int DEFAULT_LEAF_SIZE = 64;
+    public static final int MAX_FANOUT = 256;
+    public static final int MAX_LEAF_SIZE = 10000;
+    public static final int MAX_MISMATCHES = 10000;
+
+    private static final Logger log = LoggerFactory.getLogger(UserPathComparator.class);
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final int sampleSize;
+
+    // 다음 말단 표본 비교를 시작할 id (끝에 닿으면 최소 id 부터 다시)
+    private long nextSampleId;
+
+    @Autowired
+    public UserPathComparator(UserRepository userRepository, UserMapper userMapper,
+                              @Value("${user-path-compare.sample-size:1000}") int sampleSize) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.sampleSize = sampleSize;
+    }
+
+    /**
+     * 두 경로 비교
+     * @param fanout 구간당 하위 구간 수 (2..256)
+     * @param leafSize 행을 직접 비교할 구간 폭 (1..10000)
+     * @param maxMismatches 반환할 최대 불일치 수 (1..10000, 넘으면 중단)
+     * @return 불일치 사용자와 비교 비용
+     * @throws IllegalArgumentException 범위를 벗어난 인자
+     */
+    @Transactional(readOnly = true)
+    public UserPathDiff compare(int fanout, int leafSize, int maxMismatches) {
+        if (fanout < 2 || fanout > MAX_FANOUT) {
+            throw new IllegalArgumentException("fanout 은 2 이상 " + MAX_FANOUT + " 이하여야 합니다.");
+        }
+        if (leafSize < 1 || leafSize > MAX_LEAF_SIZE) {
+            throw new IllegalArgumentException("leafSize 는 1 이상 " + MAX_LEAF_SIZE + " 이하여야 합니다.");
+        }
+        if (maxMismatches < 1 || maxMismatches > MAX_MISMATCHES) {
+            throw new IllegalArgumentException("maxMismatches 는 1 이상 " + MAX_MISMATCHES + " 이하여야 합니다.");
+        }
+
+        Long minId = min(userRepository.findMinId(), userMapper.findMinId());
+        Long maxId = max(userRepository.findMaxId(), userMapper.findMaxId());
+        List<UserMismatch> mismatches = new ArrayList<>();
+        if (minId == null) {
+            return new UserPathDiff(mismatches, false, 0, 0, 0, 0, 0);
+        }
+
+        long jpaRowCount = -1;
+        long mybatisRowCount = -1;
+        int rangesCompared = 0;
+        int digestQueries = 0;
+        int rowsLoaded = 0;
+        boolean truncated = false;
+
+        Deque<long[]> ranges = new ArrayDeque<>();
+        ranges.push(new long[]{minId, maxId + 1});
+        while (!ranges.isEmpty()) {
+            if (mismatches.size() >= maxMismatches) {
+                truncated = true;
+                break;
+            }
+            long[] range = ranges.pop();
+            long from = range[0];
+            long to = range[1];
+            if (to - from <= leafSize) {
+                rowsLoaded += compareRows(from, to, mismatches, maxMismatches);
+                continue;
+            }
+            long width = (to - from + fanout - 1) / fanout;
+            Map<Long, IdRangeDigest> jpa = byBucket(userRepository.digestIdRanges(from, to, width));
+            Map<Long, IdRangeDigest> mybatis = byBucket(userMapper.digestIdRanges(from, to, width));
+            digestQueries += 2;
+            if (jpaRowCount < 0) {
+                jpaRowCount = jpa.values().stream().mapToLong(IdRangeDigest::getRowCount).sum();
+                mybatisRowCount = mybatis.values().stream().mapToLong(IdRangeDigest::getRowCount).sum();
+            }
+
+            TreeSet<Long> buckets = new TreeSet<>(jpa.keySet());
+            buckets.addAll(mybatis.keySet());
+            rangesCompared += buckets.size();
+            // 작은 id 구간부터 처리되도록 역순으로 넣는다
+            for (Iterator<Long> it = buckets.descendingIterator(); it.hasNext(); ) {
+                long bucket = it.next();
+                IdRangeDigest digest = jpa.get(bucket);
+                if (digest == null || !digest.matches(mybatis.get(bucket))) {
+                    long childFrom = from + bucket * width;
+                    ranges.push(new long[]{childFrom, Math.min(to, childFrom + width)});
+                }
+            }
+        }
+        if (jpaRowCount < 0) {
+            // 전체 범위가 말단 구간 하나였던 경우
+            jpaRowCount = userRepository.count();
+            mybatisRowCount = userMapper.countAll();
+        }
+        return new UserPathDiff(mismatches, truncated, jpaRowCount, mybatisRowCount,
+                rangesCompared, digestQueries, rowsLoaded);
+    }
+
+    /**
+     * 구간 해시와 관계없이 id 구간 하나(sample-size 폭)를 매핑된 객체로 비교 (결과 매핑 차이 검출)
+     * 실행마다 다음 구간으로 넘어가 전체 id 범위를 돌아가며 확인한다. sample-size 가 0 이하이면 건너뛴다.
+     * @return 발견한 불일치
+     */
+    @Scheduled(initialDelayString = "${user-path-compare.sample-interval-ms:300000}",
+            fixedDelayString = "${user-path-compare.sample-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public synchronized List<UserMismatch> verifyMappedRows() {
+        List<UserMismatch> mismatches = new ArrayList<>();
+        Long minId = min(userRepository.findMinId(), userMapper.findMinId());
+        Long maxId = max(userRepository.findMaxId(), userMapper.findMaxId());
+        if (sampleSize <= 0 || minId == null) {
+            return mismatches;
+        }
+        long from = nextSampleId < minId || nextSampleId > maxId ? minId : nextSampleId;
+        long to = Math.min(maxId + 1, from + sampleSize);
+        compareRows(from, to, mismatches, MAX_MISMATCHES);
+        nextSampleId = to;
+        if (!mismatches.isEmpty()) {
+            log.warn("JPA/MyBatis 말단 표본 비교 불일치 {}건 (id {} ~ {}): {}", mismatches.size(), from, to - 1,
+                    mismatches.stream().limit(10)
+                            .map(mismatch -> mismatch.getId() + " " + mismatch.getType() + " " + mismatch.getFields().stream()
+                                    .map(UserMismatch.FieldDifference::getField).toList())
+                            .toList());
+        }
+        return mismatches;
+    }
+
+    /**
+     * 말단 구간의 행을 두 경로로 읽어 id 순으로 맞춰 비교
+     * @return 읽은 행 수
+     */
+    private int compareRows(long from, long to, List<UserMismatch> mismatches, int maxMismatches) {
+        List<User> jpaUsers = userRepository.findByIdRange(from, to);
+        List<User> mybatisUsers = userMapper.findByIdRange(from, to);
+        int i = 0;
+        int j = 0;
+        while ((i < jpaUsers.size() || j < mybatisUsers.size()) && mismatches.size() < maxMismatches) {
+            User jpa = i < jpaUsers.size() ? jpaUsers.get(i) : null;
+            User mybatis = j < mybatisUsers.size() ? mybatisUsers.get(j) : null;
+            int order = jpa == null ? 1 : mybatis == null ? -1 : Long.compare(jpa.getId(), mybatis.getId());
+            if (order < 0) {
+                mismatches.add(new UserMismatch(jpa.getId(), UserMismatch.Type.JPA_ONLY, List.of()));
+                i++;
+            } else if (order > 0) {
+                mismatches.add(new UserMismatch(mybatis.getId(), UserMismatch.Type.MYBATIS_ONLY, List.of()));
+                j++;
+            } else {
+                List<UserMismatch.FieldDifference> fields = compareFields(jpa, mybatis);
+                if (!fields.isEmpty()) {
+                    mismatches.add(new UserMismatch(jpa.getId(), UserMismatch.Type.DIFFERENT, fields));
+                }
+                i++;
+                j++;
+            }
+        }
+        return jpaUsers.size() + mybatisUsers.size();
+    }
+
+    /**
+     * 행 해시에 포함되는 필드 비교 (emailDomain 은 MyBatis 결과 매핑에 없으므로 제외)
+     */
+    private static List<UserMismatch.FieldDifference> compareFields(User jpa, User mybatis) {
+        List<UserMismatch.FieldDifference> fields = new ArrayList<>();
+        addIfDifferent(fields, "username", jpa.getUsername(), mybatis.getUsername());
+        addIfDifferent(fields, "email", jpa.getEmail(), mybatis.getEmail());
+        addIfDifferent(fields, "fullName", jpa.getFullName(), mybatis.getFullName());
+        addIfDifferent(fields, "createdAt", jpa.getCreatedAt(), mybatis.getCreatedAt());
+        addIfDifferent(fields, "updatedAt", jpa.getUpdatedAt(), mybatis.getUpdatedAt());
+        addIfDifferent(fields, "isActive", jpa.getIsActive(), mybatis.getIsActive());
+        addIfDifferent(fields, "version", jpa.getVersion(), mybatis.getVersion());
+        return fields;
+    }
+
+    private static void addIfDifferent(List<UserMismatch.FieldDifference> fields, String field, Object jpa, Object mybatis) {
+        if (!Objects.equals(jpa, mybatis)) {
+            fields.add(new UserMismatch.FieldDifference(field, jpa, mybatis));
+        }
+    }
+
+    private static Map<Long, IdRangeDigest> byBucket(List<IdRangeDigest> digests) {
+        Map<Long, IdRangeDigest> map = new HashMap<>();
+        for (IdRangeDigest digest : digests) {
+            map.put(digest.getBucket(), digest);
+        }
+        return map;
+    }
+
+    private static Long min(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Long max(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.max(a, b);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.helloworld.consistency;
+
+import java.util.List;
+
+/**
+ * JPA/MyBatis 경로 비교 결과 (불일치 사용자와 비교 비용)
+ */
+public class UserPathDiff {
+    private final List<UserMismatch> mismatches;
+    private final boolean truncated;
+    private final long jpaRowCount;
+    private final long mybatisRowCount;
+    private final int rangesCompared;
+    private final int digestQueries;
+    private final int rowsLoaded;
+
+    public UserPathDiff(List<UserMismatch> mismatches, boolean truncated, long jpaRowCount, long mybatisRowCount,
+                        int rangesCompared, int digestQueries, int rowsLoaded) {
+        this.mismatches = mismatches;
+        this.truncated = truncated;
+        this.jpaRowCount = jpaRowCount;
+        this.mybatisRowCount = mybatisRowCount;
+        this.rangesCompared = rangesCompared;
+        this.digestQueries = digestQueries;
+        this.rowsLoaded = rowsLoaded;
+    }
+
+    public List<UserMismatch> getMismatches() { return mismatches; }
+
+    /**
+     * 불일치가 상한을 넘어 비교를 중단했는지 여부
+     */
+    public boolean isTruncated() { return truncated; }
+    public long getJpaRowCount() { return jpaRowCount; }
+    public long getMybatisRowCount() { return mybatisRowCount; }
+
+    /**
+     * 해시를 비교한 구간 수 (하위 구간 포함)
+     */
+    public int getRangesCompared() { return rangesCompared; }
+
+    /**
+     * 경로별 구간 해시 쿼리 수의 합
+     */
+    public int getDigestQueries() { return digestQueries; }
+
+    /**
+     * 말단 구간에서 두 경로로 읽은 행 수의 합
+     */
+    public int getRowsLoaded() { return rowsLoaded; }
+}
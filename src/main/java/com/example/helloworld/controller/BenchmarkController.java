@@ -0,0 +1,57 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.service.BenchmarkResultService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/benchmark")
+@CrossOrigin(origins = "*")
+public class BenchmarkController {
+    
+    private final BenchmarkResultService benchmarkResultService;
+    
+    @Autowired
+    public BenchmarkController(BenchmarkResultService benchmarkResultService) {
+        this.benchmarkResultService = benchmarkResultService;
+    }
+    
+    /**
+     * JPA vs MyBatis JMH 벤치마크 결과 조회
+     * GET /api/benchmark/results
+     */
+    @GetMapping("/results")
+    public ResponseEntity<Map<String, Object>> getResults() {
+        try {
+            Optional<BenchmarkResultService.BenchmarkReport> reportOpt = benchmarkResultService.getReport();
+            Map<String, Object> response = new HashMap<>();
+            
+            if (reportOpt.isPresent()) {
+                BenchmarkResultService.BenchmarkReport report = reportOpt.get();
+                response.put("success", true);
+                response.put("message", "벤치마크 결과 조회 성공");
+                response.put("data", report.getComparisons());
+                response.put("count", report.getComparisons().size());
+                response.put("generatedAt", report.getGeneratedAt().toString());
+                response.put("mybatisAdvantagePercent", report.getMybatisAdvantagePercent());
+                return ResponseEntity.ok(response);
+            } else {
+                response.put("success", false);
+                response.put("message", "벤치마크 결과가 없습니다. mvn -Pbenchmark verify 로 생성하세요: "
+                        + benchmarkResultService.getResultFile());
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "벤치마크 결과 조회 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
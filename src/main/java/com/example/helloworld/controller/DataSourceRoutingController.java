@@ -0,0 +1,36 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.config.ReadWriteRoutingDataSource;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.DataSourceRoutingResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.sql.DataSource;
+
+@RestController
+@RequestMapping("/api/datasource")
+@CrossOrigin(origins = "*")
+public class DataSourceRoutingController {
+    
+    private final DataSource dataSource;
+    
+    @Autowired
+    public DataSourceRoutingController(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    /**
+     * 읽기/쓰기 라우팅 상태 조회 (레플리카별 복제 지연, 사용 여부, 커넥션 수, primary 대체 횟수)
+     * GET /api/datasource/routing
+     */
+    @GetMapping("/routing")
+    public ResponseEntity<ApiResponse> getRoutingStatus() {
+        if (dataSource instanceof ReadWriteRoutingDataSource routing) {
+            return ResponseEntity.ok(new DataSourceRoutingResponse(true, "읽기/쓰기 라우팅 상태 조회 성공", true,
+                    routing.getReplicaDataSource().getStatus()));
+        }
+        return ResponseEntity.ok(new DataSourceRoutingResponse(true, "읽기/쓰기 라우팅을 사용하지 않습니다.", false, null));
+    }
+}
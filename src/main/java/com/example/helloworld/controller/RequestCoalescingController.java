@@ -0,0 +1,37 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.coalescing.RequestCoalescer;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.CoalescingStatsResponse;
+import com.example.helloworld.dto.MessageResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/coalescing")
+@CrossOrigin(origins = "*")
+public class RequestCoalescingController {
+    
+    private static final int MAX_KEYS = 1000;
+    
+    private final RequestCoalescer requestCoalescer;
+    
+    @Autowired
+    public RequestCoalescingController(RequestCoalescer requestCoalescer) {
+        this.requestCoalescer = requestCoalescer;
+    }
+    
+    /**
+     * 동시 동일 읽기 합치기 통계 조회 (전체 실행/합류 수, 합류 수가 많은 키 순)
+     * GET /api/coalescing/stats?limit=20
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse> getStats(@RequestParam(defaultValue = "20") int limit) {
+        if (limit < 1 || limit > MAX_KEYS) {
+            return ResponseEntity.badRequest().body(MessageResponse.error("키 수는 1 이상 " + MAX_KEYS + " 이하여야 합니다."));
+        }
+        return ResponseEntity.ok(new CoalescingStatsResponse(true, "읽기 합치기 통계 조회 성공",
+                requestCoalescer.getStats(limit)));
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.QueryPlanCheckResponse;
+import com.example.helloworld.schema.QueryPlanChecker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/schema")
+@CrossOrigin(origins = "*")
+public class SchemaController {
+    
+    private final QueryPlanChecker queryPlanChecker;
+    
+    @Autowired
+    public SchemaController(QueryPlanChecker queryPlanChecker) {
+        this.queryPlanChecker = queryPlanChecker;
+    }
+    
+    /**
+     * UserMapper 문장별 실행 계획 검사 (전체 스캔 여부)
+     * GET /api/schema/plan-check
+     */
+    @GetMapping("/plan-check")
+    public ResponseEntity<ApiResponse> checkQueryPlans() {
+        try {
+            return ResponseEntity.ok(QueryPlanCheckResponse.of("실행 계획 검사 완료", queryPlanChecker.check()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(MessageResponse.error("실행 계획 검사 실패: " + e.getMessage()));
+        }
+    }
+}
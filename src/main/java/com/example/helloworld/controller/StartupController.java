@@ -0,0 +1,36 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.StartupReportResponse;
+import com.example.helloworld.startup.StartupTimingReport;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/startup")
+@CrossOrigin(origins = "*")
+public class StartupController {
+    
+    private final StartupTimingReport startupTimingReport;
+    
+    @Autowired
+    public StartupController(StartupTimingReport startupTimingReport) {
+        this.startupTimingReport = startupTimingReport;
+    }
+    
+    /**
+     * 마지막 기동의 단계별 시간과 자기 시간이 긴 빈
+     * GET /api/startup/report
+     */
+    @GetMapping("/report")
+    public ResponseEntity<ApiResponse> getReport() {
+        return startupTimingReport.getReport()
+                .<ResponseEntity<ApiResponse>>map(report -> ResponseEntity.ok(
+                        new StartupReportResponse(true, "기동 시간 보고서 조회 성공", report)))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("기동 단계가 기록되지 않았습니다 (BufferingApplicationStartup 없이 기동).")));
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.analytics.UserColumnStore;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.DomainDistributionResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.SignupTrendResponse;
+import com.example.helloworld.dto.UserAnalyticsSummaryResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 분석 API (GC 힙 밖의 컬럼형 스냅샷을 스캔하며 DB 를 조회하지 않음, JPA/MyBatis 공통)
+ * 스냅샷을 사용하지 않거나 구축 전이면 503 을 반환한다.
+ */
+@RestController
+@RequestMapping("/api/users/analytics")
+@CrossOrigin(origins = "*")
+public class UserAnalyticsController {
+    
+    private static final int DEFAULT_SIGNUP_DAYS = 30;
+    
+    private final UserColumnStore userColumnStore;
+    
+    @Autowired
+    public UserAnalyticsController(UserColumnStore userColumnStore) {
+        this.userColumnStore = userColumnStore;
+    }
+    
+    /**
+     * 전체/활성 사용자 수, 활성 비율, 최근 수정 수
+     * GET /api/users/analytics/summary?updatedWithinHours=24
+     */
+    @GetMapping("/summary")
+    public ResponseEntity<ApiResponse> getSummary(@RequestParam(defaultValue = "24") int updatedWithinHours) {
+        if (updatedWithinHours < 1) {
+            return ResponseEntity.badRequest().body(MessageResponse.error("기준 시간은 1 이상이어야 합니다."));
+        }
+        try {
+            LocalDateTime since = LocalDateTime.now().minusHours(updatedWithinHours);
+            return ResponseEntity.ok(new UserAnalyticsSummaryResponse(true, "사용자 활성 비율 조회 성공",
+                    userColumnStore.getSummary(since)));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(MessageResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * 일자별 가입 수 (created_at 기준, 기본은 오늘까지 최근 30일)
+     * GET /api/users/analytics/signups?from=2024-01-01&to=2024-01-31
+     */
+    @GetMapping("/signups")
+    public ResponseEntity<ApiResponse> getSignups(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_SIGNUP_DAYS - 1);
+        try {
+            return ResponseEntity.ok(SignupTrendResponse.of("일자별 가입 수 조회 성공",
+                    userColumnStore.getSignupsByDay(start, end), start, end));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(MessageResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(MessageResponse.error(e.getMessage()));
+        }
+    }
+    
+    /**
+     * 이메일 도메인 분포 (사용자 수, 활성 수, 전체 대비 비율)
+     * GET /api/users/analytics/domains?limit=20
+     */
+    @GetMapping("/domains")
+    public ResponseEntity<ApiResponse> getDomains(@RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(DomainDistributionResponse.of("이메일 도메인 분포 조회 성공",
+                    userColumnStore.getDomainDistribution(limit)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(MessageResponse.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(MessageResponse.error(e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.cache.UserCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache/users")
+@CrossOrigin(origins = "*")
+public class UserCacheController {
+    
+    private final UserCache userCache;
+    
+    @Autowired
+    public UserCacheController(UserCache userCache) {
+        this.userCache = userCache;
+    }
+    
+    /**
+     * 사용자 캐시 통계 조회 (hit/miss/eviction)
+     * GET /api/cache/users/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "사용자 캐시 통계 조회 성공");
+        response.put("data", userCache.getStats());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 사용자 캐시 비우기
+     * DELETE /api/cache/users
+     */
+    @DeleteMapping
+    public ResponseEntity<Map<String, Object>> clear() {
+        userCache.clear();
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "사용자 캐시 비우기 성공");
+        return ResponseEntity.ok(response);
+    }
+}
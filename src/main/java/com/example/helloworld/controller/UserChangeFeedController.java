@@ -0,0 +1,38 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.feed.UserChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/users")
+@CrossOrigin(origins = "*")
+public class UserChangeFeedController {
+    
+    private final UserChangeFeed userChangeFeed;
+    
+    @Autowired
+    public UserChangeFeedController(UserChangeFeed userChangeFeed) {
+        this.userChangeFeed = userChangeFeed;
+    }
+    
+    /**
+     * 사용자 변경 이벤트 구독 (JPA/MyBatis 공통, Server-Sent Events)
+     * GET /api/users/changes
+     * 이벤트: user (type, id, version, dataSource), resync (목록을 다시 조회해야 함), ready (연결 직후 현재 위치)
+     * 재연결 시 브라우저 EventSource 가 보내는 Last-Event-ID 이후의 이벤트를 다시 보낸다.
+     */
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        try {
+            return ResponseEntity.ok(userChangeFeed.subscribe(lastEventId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.consistency.UserPathComparator;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.UserPathDiffResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/consistency/users")
+@CrossOrigin(origins = "*")
+public class UserConsistencyController {
+    
+    private final UserPathComparator userPathComparator;
+    
+    @Autowired
+    public UserConsistencyController(UserPathComparator userPathComparator) {
+        this.userPathComparator = userPathComparator;
+    }
+    
+    /**
+     * JPA/MyBatis 경로 일관성 비교 (id 구간 해시, 다른 구간만 내려가 불일치 사용자와 필드만 반환)
+     * GET /api/consistency/users/diff?fanout=16&leafSize=64&maxMismatches=1000
+     */
+    @GetMapping("/diff")
+    public ResponseEntity<ApiResponse> diff(
+            @RequestParam(defaultValue = "" + UserPathComparator.DEFAULT_FANOUT) int fanout,
+            @RequestParam(defaultValue = "" + UserPathComparator.DEFAULT_LEAF_SIZE) int leafSize,
+            @RequestParam(defaultValue = "1000") int maxMismatches) {
+        try {
+            return ResponseEntity.ok(UserPathDiffResponse.of("JPA/MyBatis 비교 완료",
+                    userPathComparator.compare(fanout, leafSize, maxMismatches)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(MessageResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(MessageResponse.error("JPA/MyBatis 비교 실패: " + e.getMessage()));
+        }
+    }
+}
@@ -1,16 +1,42 @@
 package com.example.helloworld.controller;
 
+import com.example.helloworld.cache.UserChangeVersion;
+import com.example.helloworld.dto.ActiveUserCountResponse;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.BulkDeactivationResponse;
+import com.example.helloworld.dto.BulkUserResponse;
+import com.example.helloworld.dto.EmailDomainFacetResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.UserCursorResponse;
+import com.example.helloworld.dto.UserListResponse;
+import com.example.helloworld.dto.UserPageResponse;
+import com.example.helloworld.dto.UserResponse;
 import com.example.helloworld.entity.User;
+import com.example.helloworld.export.UserExportWriter;
+import com.example.helloworld.service.BulkDeactivationResult;
+import com.example.helloworld.service.BulkUserRequest;
+import com.example.helloworld.service.BulkUserResult;
+import com.example.helloworld.service.EmailDomainCount;
+import com.example.helloworld.service.UserBulkService;
+import com.example.helloworld.service.UserCursorPage;
+import com.example.helloworld.service.UserDeactivationCriteria;
 import com.example.helloworld.service.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -19,10 +45,17 @@ import java.util.Optional;
 public class UserController {
     
     private final UserService userService;
+    private final UserBulkService userBulkService;
+    private final ObjectMapper objectMapper;
+    private final UserChangeVersion userChangeVersion;
     
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserBulkService userBulkService, ObjectMapper objectMapper,
+                          UserChangeVersion userChangeVersion) {
         this.userService = userService;
+        this.userBulkService = userBulkService;
+        this.objectMapper = objectMapper;
+        this.userChangeVersion = userChangeVersion;
     }
     
     /**
@@ -30,48 +63,89 @@ public class UserController {
      * GET /api/users
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
+    public ResponseEntity<ApiResponse> getAllUsers(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userService.getAllUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "사용자 목록 조회 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("사용자 목록 조회 성공", users, null));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "사용자 목록 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("사용자 목록 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 전체 사용자 스트리밍 내보내기
+     * GET /api/users/export?format=ndjson (또는 format=csv)
+     * 목록을 메모리에 모으지 않고 한 행씩 응답 스트림에 바로 쓴다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            MediaType mediaType = UserExportWriter.mediaType(format);
+            StreamingResponseBody body = out -> {
+                try (UserExportWriter writer = UserExportWriter.create(format, out, objectMapper)) {
+                    userService.streamAllUsers(writer);
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + format.toLowerCase() + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            MessageResponse errorResponse = MessageResponse.error("사용자 내보내기 실패: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, errorResponse));
         }
     }
     
     /**
      * 페이징된 사용자 목록 조회
      * GET /api/users/paged?page=0&size=10&sortBy=createdAt
+     * 커서 모드: GET /api/users/paged?after=&size=10&sortBy=createdAt (다음 페이지는 after={nextCursor})
      */
     @GetMapping("/paged")
-    public ResponseEntity<Map<String, Object>> getUsersPaged(
+    public ResponseEntity<ApiResponse> getUsersPaged(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy) {
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false) String after,
+            WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        if (after != null) {
+            return getUsersByCursor(after, size, sortBy);
+        }
         try {
             Page<User> userPage = userService.getAllUsers(page, size, sortBy);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "페이징된 사용자 목록 조회 성공");
-            response.put("data", userPage.getContent());
-            response.put("currentPage", userPage.getNumber());
-            response.put("totalPages", userPage.getTotalPages());
-            response.put("totalElements", userPage.getTotalElements());
-            response.put("size", userPage.getSize());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new UserPageResponse(true, "페이징된 사용자 목록 조회 성공",
+                    userPage.getContent(), userPage.getNumber(), userPage.getTotalPages(),
+                    userPage.getTotalElements(), userPage.getSize(), userPage.hasNext(), userPage.hasPrevious(), null, null));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "페이징된 사용자 목록 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("페이징된 사용자 목록 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 키셋(커서) 방식 페이징 조회 (COUNT 쿼리 없음)
+     */
+    private ResponseEntity<ApiResponse> getUsersByCursor(String after, int size, String sortBy) {
+        try {
+            UserCursorPage cursorPage = userService.getUsersAfter(after, size, sortBy);
+            return ResponseEntity.ok(UserCursorResponse.of("커서 기반 사용자 목록 조회 성공", cursorPage, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("잘못된 커서 요청: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("커서 기반 사용자 목록 조회 실패: " + e.getMessage()));
         }
     }
     
@@ -80,26 +154,22 @@ public class UserController {
      * GET /api/users/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getUserById(@PathVariable Long id, WebRequest request) {
         try {
             Optional<User> userOpt = userService.getUserById(id);
-            Map<String, Object> response = new HashMap<>();
-            
             if (userOpt.isPresent()) {
-                response.put("success", true);
-                response.put("message", "사용자 조회 성공");
-                response.put("data", userOpt.get());
-                return ResponseEntity.ok(response);
+                // 캐시에 있으면 쿼리 없이, 일치하면 직렬화 없이 304
+                if (request.checkNotModified(UserChangeVersion.userETag(userOpt.get()))) {
+                    return null;
+                }
+                return ResponseEntity.ok(UserResponse.of("사용자 조회 성공", userOpt.get(), null));
             } else {
-                response.put("success", false);
-                response.put("message", "사용자를 찾을 수 없습니다. ID: " + id);
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("사용자를 찾을 수 없습니다. ID: " + id));
             }
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "사용자 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("사용자 조회 실패: " + e.getMessage()));
         }
     }
     
@@ -108,20 +178,17 @@ public class UserController {
      * GET /api/users/active
      */
     @GetMapping("/active")
-    public ResponseEntity<Map<String, Object>> getActiveUsers() {
+    public ResponseEntity<ApiResponse> getActiveUsers(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> activeUsers = userService.getActiveUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "활성 사용자 목록 조회 성공");
-            response.put("data", activeUsers);
-            response.put("count", activeUsers.size());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("활성 사용자 목록 조회 성공", activeUsers, null));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "활성 사용자 목록 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("활성 사용자 목록 조회 실패: " + e.getMessage()));
         }
     }
     
@@ -130,21 +197,18 @@ public class UserController {
      * GET /api/users/search?username=john
      */
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchUsers(@RequestParam String username) {
+    public ResponseEntity<ApiResponse> searchUsers(@RequestParam String username, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userService.searchUsersByUsername(username);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "사용자 검색 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("searchTerm", username);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("사용자 검색 성공", users, null)
+                    .withSearchTerm(username));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "사용자 검색 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("사용자 검색 실패: " + e.getMessage()));
         }
     }
     
@@ -153,43 +217,62 @@ public class UserController {
      * GET /api/users/domain?domain=gmail.com
      */
     @GetMapping("/domain")
-    public ResponseEntity<Map<String, Object>> getUsersByDomain(@RequestParam String domain) {
+    public ResponseEntity<ApiResponse> getUsersByDomain(@RequestParam String domain, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userService.getUsersByEmailDomain(domain);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "도메인별 사용자 조회 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("domain", domain);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("도메인별 사용자 조회 성공", users, null)
+                    .withDomain(domain));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("도메인별 사용자 조회 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 이메일 도메인별 사용자 수 (facet)
+     * GET /api/users/domains?limit=20
+     */
+    @GetMapping("/domains")
+    public ResponseEntity<ApiResponse> getEmailDomainCounts(@RequestParam(defaultValue = "20") int limit, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        try {
+            List<EmailDomainCount> domains = userService.getEmailDomainCounts(limit);
+            return ResponseEntity.ok(EmailDomainFacetResponse.of("이메일 도메인별 사용자 수 조회 성공", domains, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("이메일 도메인별 사용자 수 조회 실패: " + e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "도메인별 사용자 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("이메일 도메인별 사용자 수 조회 실패: " + e.getMessage()));
         }
     }
     
     /**
      * 최근 생성된 사용자 조회
-     * GET /api/users/recent
+     * GET /api/users/recent?limit=10
      */
     @GetMapping("/recent")
-    public ResponseEntity<Map<String, Object>> getRecentUsers() {
+    public ResponseEntity<ApiResponse> getRecentUsers(@RequestParam(defaultValue = "10") int limit, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<User> recentUsers = userService.getRecentUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "최근 사용자 목록 조회 성공");
-            response.put("data", recentUsers);
-            response.put("count", recentUsers.size());
-            return ResponseEntity.ok(response);
+            List<User> recentUsers = userService.getRecentUsers(limit);
+            return ResponseEntity.ok(UserListResponse.of("최근 사용자 목록 조회 성공", recentUsers, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("최근 사용자 목록 조회 실패: " + e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "최근 사용자 목록 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("최근 사용자 목록 조회 실패: " + e.getMessage()));
         }
     }
     
@@ -198,19 +281,17 @@ public class UserController {
      * GET /api/users/count/active
      */
     @GetMapping("/count/active")
-    public ResponseEntity<Map<String, Object>> getActiveUserCount() {
+    public ResponseEntity<ApiResponse> getActiveUserCount(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             Long count = userService.getActiveUserCount();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "활성 사용자 수 조회 성공");
-            response.put("activeUserCount", count);
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new ActiveUserCountResponse(true, "활성 사용자 수 조회 성공", count, null));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "활성 사용자 수 조회 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("활성 사용자 수 조회 실패: " + e.getMessage()));
         }
     }
     
@@ -219,34 +300,98 @@ public class UserController {
      * POST /api/users
      */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createUser(@RequestBody User user) {
+    public ResponseEntity<ApiResponse> createUser(@RequestBody User user) {
         try {
             // 중복 검사
             if (userService.existsByUsername(user.getUsername())) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "이미 존재하는 사용자명입니다: " + user.getUsername());
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(MessageResponse.error("이미 존재하는 사용자명입니다: " + user.getUsername()));
             }
             
             if (userService.existsByEmail(user.getEmail())) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "이미 존재하는 이메일입니다: " + user.getEmail());
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(MessageResponse.error("이미 존재하는 이메일입니다: " + user.getEmail()));
             }
             
             User savedUser = userService.createUser(user);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "사용자 생성 성공");
-            response.put("data", savedUser);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED).body(UserResponse.of("사용자 생성 성공", savedUser, null));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사 이후 다른 요청이나 애플리케이션 밖에서 같은 값이 먼저 저장된 경우 (유니크 제약 위반)
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(MessageResponse.error("이미 존재하는 사용자명 또는 이메일입니다."));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("사용자 생성 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 사용자 비활성화 (논리적 삭제)
+     * POST /api/users/{id}/deactivate?version=3 (version 을 주면 다를 때 409)
+     */
+    @PostMapping("/{id}/deactivate")
+    public ResponseEntity<ApiResponse> deactivateUser(@PathVariable Long id,
+                                                      @RequestParam(required = false) Long version) {
+        try {
+            Optional<User> userOpt = userService.deactivateUser(id, version);
+            if (userOpt.isPresent()) {
+                return ResponseEntity.ok(UserResponse.of("사용자 비활성화 성공", userOpt.get(), null));
+            } else {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("사용자를 찾을 수 없습니다. ID: " + id));
+            }
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(MessageResponse.error("사용자 비활성화 실패: " + e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("사용자 비활성화 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 대량 생성/수정/삭제
+     * POST /api/users/bulk
+     * 요청: {"create": [...], "update": [...], "delete": [id, ...]}, 응답 data 에 항목별 결과 포함
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> bulkUsers(@RequestBody BulkUserRequest request) {
+        try {
+            BulkUserResult result = userBulkService.apply(request);
+            return ResponseEntity.ok(BulkUserResponse.of("대량 처리 완료", result, null));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("대량 처리 실패: " + e.getMessage()));
+        }
+    }
+    
+    /**
+     * 조건 일괄 비활성화 (논리적 삭제)
+     * POST /api/users/deactivate?domain=example.com&updatedTo=2024-01-31
+     * 고급 검색 조건(username, email, fullName, domain, createdFrom, createdTo)과 수정일 범위(updatedFrom, updatedTo)로
+     * 대상을 정하며 조건이 하나도 없으면 400 을 반환한다. id 구간별 UPDATE 로 처리하고 비활성화된 행 수를 반환한다.
+     */
+    @PostMapping("/deactivate")
+    public ResponseEntity<ApiResponse> deactivateUsers(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String fullName,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedTo) {
+        try {
+            UserDeactivationCriteria criteria = new UserDeactivationCriteria(username, email, fullName, domain,
+                    createdFrom, createdTo, updatedFrom, updatedTo);
+            BulkDeactivationResult result = userBulkService.deactivateMatching(criteria);
+            return ResponseEntity.ok(BulkDeactivationResponse.of("일괄 비활성화 완료", result, criteria, null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("일괄 비활성화 실패: " + e.getMessage()));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "사용자 생성 실패: " + e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("일괄 비활성화 실패: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,43 @@
 package com.example.helloworld.controller;
 
+import com.example.helloworld.cache.UserChangeVersion;
+import com.example.helloworld.dto.ActiveUserCountResponse;
+import com.example.helloworld.dto.ApiResponse;
+import com.example.helloworld.dto.BulkDeactivationResponse;
+import com.example.helloworld.dto.BulkUserResponse;
+import com.example.helloworld.dto.DeleteUserResponse;
+import com.example.helloworld.dto.EmailDomainFacetResponse;
+import com.example.helloworld.dto.MessageResponse;
+import com.example.helloworld.dto.UserCursorResponse;
+import com.example.helloworld.dto.UserListResponse;
+import com.example.helloworld.dto.UserPageResponse;
+import com.example.helloworld.dto.UserResponse;
 import com.example.helloworld.entity.User;
+import com.example.helloworld.export.UserExportWriter;
+import com.example.helloworld.service.BulkDeactivationResult;
+import com.example.helloworld.service.BulkUserRequest;
+import com.example.helloworld.service.BulkUserResult;
+import com.example.helloworld.service.EmailDomainCount;
+import com.example.helloworld.service.UserCursorPage;
+import com.example.helloworld.service.UserDeactivationCriteria;
+import com.example.helloworld.service.UserMybatisBulkService;
 import com.example.helloworld.service.UserMybatisService;
+import com.example.helloworld.service.UserSearchCriteria;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.HashMap;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,11 +45,20 @@ import java.util.Optional;
 @CrossOrigin(origins = "*")
 public class UserMybatisController {
     
+    private static final String DATA_SOURCE = "MyBatis";
+    
     private final UserMybatisService userMybatisService;
+    private final UserMybatisBulkService userMybatisBulkService;
+    private final ObjectMapper objectMapper;
+    private final UserChangeVersion userChangeVersion;
     
     @Autowired
-    public UserMybatisController(UserMybatisService userMybatisService) {
+    public UserMybatisController(UserMybatisService userMybatisService, UserMybatisBulkService userMybatisBulkService, ObjectMapper objectMapper,
+                                 UserChangeVersion userChangeVersion) {
         this.userMybatisService = userMybatisService;
+        this.userMybatisBulkService = userMybatisBulkService;
+        this.objectMapper = objectMapper;
+        this.userChangeVersion = userChangeVersion;
     }
     
     /**
@@ -29,54 +66,90 @@ public class UserMybatisController {
      * GET /api/mybatis/users
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllUsers() {
+    public ResponseEntity<ApiResponse> getAllUsers(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userMybatisService.getAllUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 사용자 목록 조회 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 사용자 목록 조회 성공", users, DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 목록 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
+        }
+    }
+    
+    /**
+     * 전체 사용자 스트리밍 내보내기 (MyBatis)
+     * GET /api/mybatis/users/export?format=ndjson (또는 format=csv)
+     * 목록을 메모리에 모으지 않고 한 행씩 응답 스트림에 바로 쓴다.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "ndjson") String format) {
+        try {
+            MediaType mediaType = UserExportWriter.mediaType(format);
+            StreamingResponseBody body = out -> {
+                try (UserExportWriter writer = UserExportWriter.create(format, out, objectMapper)) {
+                    userMybatisService.streamAllUsers(writer);
+                }
+            };
+            return ResponseEntity.ok()
+                    .contentType(mediaType)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users-mybatis." + format.toLowerCase() + "\"")
+                    .body(body);
+        } catch (IllegalArgumentException e) {
+            MessageResponse errorResponse = MessageResponse.error("MyBatis 사용자 내보내기 실패: " + e.getMessage(), DATA_SOURCE);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(out -> objectMapper.writeValue(out, errorResponse));
         }
     }
     
     /**
      * 페이징된 사용자 목록 조회 (MyBatis)
      * GET /api/mybatis/users/paged?page=0&size=10&sortBy=createdAt
+     * 커서 모드: GET /api/mybatis/users/paged?after=&size=10&sortBy=createdAt (다음 페이지는 after={nextCursor})
      */
     @GetMapping("/paged")
-    public ResponseEntity<Map<String, Object>> getUsersPaged(
+    public ResponseEntity<ApiResponse> getUsersPaged(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "createdAt") String sortBy) {
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(required = false) String after,
+            WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        if (after != null) {
+            return getUsersByCursor(after, size, sortBy);
+        }
         try {
             UserMybatisService.UserPageResult pageResult = userMybatisService.getAllUsers(page, size, sortBy);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 페이징된 사용자 목록 조회 성공");
-            response.put("data", pageResult.getContent());
-            response.put("currentPage", pageResult.getCurrentPage());
-            response.put("totalPages", pageResult.getTotalPages());
-            response.put("totalElements", pageResult.getTotalElements());
-            response.put("size", pageResult.getSize());
-            response.put("hasNext", pageResult.hasNext());
-            response.put("hasPrevious", pageResult.hasPrevious());
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new UserPageResponse(true, "MyBatis로 페이징된 사용자 목록 조회 성공",
+                    pageResult.getContent(), pageResult.getCurrentPage(), pageResult.getTotalPages(),
+                    pageResult.getTotalElements(), pageResult.getSize(), pageResult.hasNext(), pageResult.hasPrevious(),
+                    null, DATA_SOURCE));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 페이징된 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
+        }
+    }
+    
+    /**
+     * 키셋(커서) 방식 페이징 조회 (MyBatis, COUNT 쿼리 없음)
+     */
+    private ResponseEntity<ApiResponse> getUsersByCursor(String after, int size, String sortBy) {
+        try {
+            UserCursorPage cursorPage = userMybatisService.getUsersAfter(after, size, sortBy);
+            return ResponseEntity.ok(UserCursorResponse.of("MyBatis로 커서 기반 사용자 목록 조회 성공", cursorPage, DATA_SOURCE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("잘못된 커서 요청: " + e.getMessage(), DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 페이징된 사용자 목록 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 커서 기반 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -85,29 +158,22 @@ public class UserMybatisController {
      * GET /api/mybatis/users/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> getUserById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> getUserById(@PathVariable Long id, WebRequest request) {
         try {
             Optional<User> userOpt = userMybatisService.getUserById(id);
-            Map<String, Object> response = new HashMap<>();
-            
             if (userOpt.isPresent()) {
-                response.put("success", true);
-                response.put("message", "MyBatis로 사용자 조회 성공");
-                response.put("data", userOpt.get());
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.ok(response);
+                // 캐시에 있으면 쿼리 없이, 일치하면 직렬화 없이 304
+                if (request.checkNotModified(UserChangeVersion.userETag(userOpt.get()))) {
+                    return null;
+                }
+                return ResponseEntity.ok(UserResponse.of("MyBatis로 사용자 조회 성공", userOpt.get(), DATA_SOURCE));
             } else {
-                response.put("success", false);
-                response.put("message", "사용자를 찾을 수 없습니다. ID: " + id);
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("사용자를 찾을 수 없습니다. ID: " + id, DATA_SOURCE));
             }
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -116,22 +182,17 @@ public class UserMybatisController {
      * GET /api/mybatis/users/active
      */
     @GetMapping("/active")
-    public ResponseEntity<Map<String, Object>> getActiveUsers() {
+    public ResponseEntity<ApiResponse> getActiveUsers(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> activeUsers = userMybatisService.getActiveUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 활성 사용자 목록 조회 성공");
-            response.put("data", activeUsers);
-            response.put("count", activeUsers.size());
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 활성 사용자 목록 조회 성공", activeUsers, DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 활성 사용자 목록 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 활성 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -140,23 +201,18 @@ public class UserMybatisController {
      * GET /api/mybatis/users/search?username=john
      */
     @GetMapping("/search")
-    public ResponseEntity<Map<String, Object>> searchUsers(@RequestParam String username) {
+    public ResponseEntity<ApiResponse> searchUsers(@RequestParam String username, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userMybatisService.searchUsersByUsername(username);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 사용자 검색 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("searchTerm", username);
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 사용자 검색 성공", users, DATA_SOURCE)
+                    .withSearchTerm(username));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 검색 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 검색 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -165,47 +221,62 @@ public class UserMybatisController {
      * GET /api/mybatis/users/domain?domain=gmail.com
      */
     @GetMapping("/domain")
-    public ResponseEntity<Map<String, Object>> getUsersByDomain(@RequestParam String domain) {
+    public ResponseEntity<ApiResponse> getUsersByDomain(@RequestParam String domain, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             List<User> users = userMybatisService.getUsersByEmailDomain(domain);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 도메인별 사용자 조회 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("domain", domain);
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 도메인별 사용자 조회 성공", users, DATA_SOURCE)
+                    .withDomain(domain));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 도메인별 사용자 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 도메인별 사용자 조회 실패: " + e.getMessage(), DATA_SOURCE));
+        }
+    }
+    
+    /**
+     * 이메일 도메인별 사용자 수 (facet) (MyBatis)
+     * GET /api/mybatis/users/domains?limit=20
+     */
+    @GetMapping("/domains")
+    public ResponseEntity<ApiResponse> getEmailDomainCounts(@RequestParam(defaultValue = "20") int limit, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        try {
+            List<EmailDomainCount> domains = userMybatisService.getEmailDomainCounts(limit);
+            return ResponseEntity.ok(EmailDomainFacetResponse.of("MyBatis로 이메일 도메인별 사용자 수 조회 성공", domains, DATA_SOURCE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("MyBatis 이메일 도메인별 사용자 수 조회 실패: " + e.getMessage(), DATA_SOURCE));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 이메일 도메인별 사용자 수 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
     /**
      * 최근 생성된 사용자 조회 (MyBatis)
-     * GET /api/mybatis/users/recent
+     * GET /api/mybatis/users/recent?limit=10
      */
     @GetMapping("/recent")
-    public ResponseEntity<Map<String, Object>> getRecentUsers() {
+    public ResponseEntity<ApiResponse> getRecentUsers(@RequestParam(defaultValue = "10") int limit, WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<User> recentUsers = userMybatisService.getRecentUsers();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 최근 사용자 목록 조회 성공");
-            response.put("data", recentUsers);
-            response.put("count", recentUsers.size());
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            List<User> recentUsers = userMybatisService.getRecentUsers(limit);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 최근 사용자 목록 조회 성공", recentUsers, DATA_SOURCE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("MyBatis 최근 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 최근 사용자 목록 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 최근 사용자 목록 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -214,55 +285,62 @@ public class UserMybatisController {
      * GET /api/mybatis/users/count/active
      */
     @GetMapping("/count/active")
-    public ResponseEntity<Map<String, Object>> getActiveUserCount() {
+    public ResponseEntity<ApiResponse> getActiveUserCount(WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
             Long count = userMybatisService.getActiveUserCount();
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 활성 사용자 수 조회 성공");
-            response.put("activeUserCount", count);
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok(new ActiveUserCountResponse(true, "MyBatis로 활성 사용자 수 조회 성공", count, DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 활성 사용자 수 조회 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 활성 사용자 수 조회 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
     /**
      * 다중 조건 검색 (MyBatis)
      * GET /api/mybatis/users/advanced-search?username=john&email=gmail&fullName=doe&isActive=true
+     *     &domain=gmail.com&createdFrom=2024-01-01&createdTo=2024-06-30
+     * page 를 주면 해당 페이지만 조회한다: ...&page=0&size=20 (전체 건수는 totalElements)
      */
     @GetMapping("/advanced-search")
-    public ResponseEntity<Map<String, Object>> advancedSearch(
+    public ResponseEntity<ApiResponse> advancedSearch(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) String fullName,
-            @RequestParam(required = false) Boolean isActive) {
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest request) {
+        String etag = userChangeVersion.listETag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<User> users = userMybatisService.searchUsers(username, email, fullName, isActive);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 고급 검색 성공");
-            response.put("data", users);
-            response.put("count", users.size());
-            response.put("searchCriteria", Map.of(
-                "username", username != null ? username : "",
-                "email", email != null ? email : "",
-                "fullName", fullName != null ? fullName : "",
-                "isActive", isActive
-            ));
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.ok(response);
+            UserSearchCriteria criteria = new UserSearchCriteria(username, email, fullName, isActive,
+                    domain, createdFrom, createdTo);
+            UserListResponse.SearchCriteria searchCriteria = UserListResponse.SearchCriteria.of(criteria);
+            if (page != null) {
+                UserMybatisService.UserPageResult pageResult = userMybatisService.searchUsers(criteria, page, size);
+                return ResponseEntity.ok(new UserPageResponse(true, "MyBatis로 고급 검색 성공",
+                        pageResult.getContent(), pageResult.getCurrentPage(), pageResult.getTotalPages(),
+                        pageResult.getTotalElements(), pageResult.getSize(), pageResult.hasNext(), pageResult.hasPrevious(),
+                        searchCriteria, DATA_SOURCE));
+            }
+            List<User> users = userMybatisService.searchUsers(criteria);
+            return ResponseEntity.ok(UserListResponse.of("MyBatis로 고급 검색 성공", users, DATA_SOURCE)
+                    .withSearchCriteria(searchCriteria));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("MyBatis 고급 검색 실패: " + e.getMessage(), DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 고급 검색 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 고급 검색 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -271,71 +349,54 @@ public class UserMybatisController {
      * POST /api/mybatis/users
      */
     @PostMapping
-    public ResponseEntity<Map<String, Object>> createUser(@RequestBody User user) {
+    public ResponseEntity<ApiResponse> createUser(@RequestBody User user) {
         try {
             // 중복 검사
             if (userMybatisService.existsByUsername(user.getUsername())) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "이미 존재하는 사용자명입니다: " + user.getUsername());
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(MessageResponse.error("이미 존재하는 사용자명입니다: " + user.getUsername(), DATA_SOURCE));
             }
             
             if (userMybatisService.existsByEmail(user.getEmail())) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "이미 존재하는 이메일입니다: " + user.getEmail());
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                        .body(MessageResponse.error("이미 존재하는 이메일입니다: " + user.getEmail(), DATA_SOURCE));
             }
             
             User savedUser = userMybatisService.createUser(user);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("message", "MyBatis로 사용자 생성 성공");
-            response.put("data", savedUser);
-            response.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .body(UserResponse.of("MyBatis로 사용자 생성 성공", savedUser, DATA_SOURCE));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 검사 이후 다른 요청이나 애플리케이션 밖에서 같은 값이 먼저 저장된 경우 (유니크 제약 위반)
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(MessageResponse.error("이미 존재하는 사용자명 또는 이메일입니다.", DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 생성 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 생성 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
     /**
      * 사용자 정보 수정 (MyBatis)
-     * PUT /api/mybatis/users/{id}
+     * PUT /api/mybatis/users/{id} (본문에 version 을 주면 다를 때 409, 생략하면 확인 없이 덮어씀)
      */
     @PutMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateUser(@PathVariable Long id, @RequestBody User user) {
+    public ResponseEntity<ApiResponse> updateUser(@PathVariable Long id, @RequestBody User user) {
         try {
             user.setId(id);
             User updatedUser = userMybatisService.updateUser(user);
             
             if (updatedUser != null) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "MyBatis로 사용자 정보 수정 성공");
-                response.put("data", updatedUser);
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(UserResponse.of("MyBatis로 사용자 정보 수정 성공", updatedUser, DATA_SOURCE));
             } else {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", false);
-                response.put("message", "사용자를 찾을 수 없습니다. ID: " + id);
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("사용자를 찾을 수 없습니다. ID: " + id, DATA_SOURCE));
             }
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(MessageResponse.error("MyBatis 사용자 정보 수정 실패: " + e.getMessage(), DATA_SOURCE));
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 정보 수정 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 정보 수정 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
     
@@ -344,29 +405,64 @@ public class UserMybatisController {
      * DELETE /api/mybatis/users/{id}
      */
     @DeleteMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse> deleteUser(@PathVariable Long id) {
         try {
             boolean deleted = userMybatisService.deleteUser(id);
-            Map<String, Object> response = new HashMap<>();
-            
             if (deleted) {
-                response.put("success", true);
-                response.put("message", "MyBatis로 사용자 삭제 성공");
-                response.put("deletedId", id);
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.ok(response);
+                return ResponseEntity.ok(new DeleteUserResponse(true, "MyBatis로 사용자 삭제 성공", id, DATA_SOURCE));
             } else {
-                response.put("success", false);
-                response.put("message", "사용자를 찾을 수 없습니다. ID: " + id);
-                response.put("dataSource", "MyBatis");
-                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(MessageResponse.error("사용자를 찾을 수 없습니다. ID: " + id, DATA_SOURCE));
             }
         } catch (Exception e) {
-            Map<String, Object> errorResponse = new HashMap<>();
-            errorResponse.put("success", false);
-            errorResponse.put("message", "MyBatis 사용자 삭제 실패: " + e.getMessage());
-            errorResponse.put("dataSource", "MyBatis");
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 사용자 삭제 실패: " + e.getMessage(), DATA_SOURCE));
+        }
+    }
+    
+    /**
+     * 대량 생성/수정/삭제 (MyBatis)
+     * POST /api/mybatis/users/bulk
+     * 요청: {"create": [...], "update": [...], "delete": [id, ...]}, 응답 data 에 항목별 결과 포함
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<ApiResponse> bulkUsers(@RequestBody BulkUserRequest request) {
+        try {
+            BulkUserResult result = userMybatisBulkService.apply(request);
+            return ResponseEntity.ok(BulkUserResponse.of("MyBatis로 대량 처리 완료", result, DATA_SOURCE));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 대량 처리 실패: " + e.getMessage(), DATA_SOURCE));
+        }
+    }
+    
+    /**
+     * 조건 일괄 비활성화 (논리적 삭제, MyBatis)
+     * POST /api/mybatis/users/deactivate?domain=example.com&updatedTo=2024-01-31
+     * 고급 검색 조건(username, email, fullName, domain, createdFrom, createdTo)과 수정일 범위(updatedFrom, updatedTo)로
+     * 대상을 정하며 조건이 하나도 없으면 400 을 반환한다. id 구간별 UPDATE 로 처리하고 비활성화된 행 수를 반환한다.
+     */
+    @PostMapping("/deactivate")
+    public ResponseEntity<ApiResponse> deactivateUsers(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String fullName,
+            @RequestParam(required = false) String domain,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate updatedTo) {
+        try {
+            UserDeactivationCriteria criteria = new UserDeactivationCriteria(username, email, fullName, domain,
+                    createdFrom, createdTo, updatedFrom, updatedTo);
+            BulkDeactivationResult result = userMybatisBulkService.deactivateMatching(criteria);
+            return ResponseEntity.ok(BulkDeactivationResponse.of("MyBatis로 일괄 비활성화 완료", result, criteria, DATA_SOURCE));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(MessageResponse.error("MyBatis 일괄 비활성화 실패: " + e.getMessage(), DATA_SOURCE));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(MessageResponse.error("MyBatis 일괄 비활성화 실패: " + e.getMessage(), DATA_SOURCE));
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,97 @@
+package com.example.helloworld.controller;
+
+import com.example.helloworld.search.UserExistenceFilter;
+import com.example.helloworld.statistics.UserStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/statistics/users")
+@CrossOrigin(origins = "*")
+public class UserStatisticsController {
+    
+    private final UserStatistics userStatistics;
+    private final UserExistenceFilter existenceFilter;
+    
+    @Autowired
+    public UserStatisticsController(UserStatistics userStatistics, UserExistenceFilter existenceFilter) {
+        this.userStatistics = userStatistics;
+        this.existenceFilter = existenceFilter;
+    }
+    
+    /**
+     * 사용자 통계 조회 (전체/활성/도메인별 수, 재계산 정보)
+     * GET /api/statistics/users
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "사용자 통계 조회 성공");
+        response.put("data", userStatistics.getSnapshot());
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 이메일 도메인별 사용자 수 조회
+     * GET /api/statistics/users/domain?domain=gmail.com
+     */
+    @GetMapping("/domain")
+    public ResponseEntity<Map<String, Object>> getDomainCount(@RequestParam String domain) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "도메인별 사용자 수 조회 성공");
+            response.put("domain", domain);
+            response.put("count", userStatistics.getDomainCount(domain).orElse(null));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "도메인별 사용자 수 조회 실패: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
+    /**
+     * DB 기준으로 즉시 재계산
+     * POST /api/statistics/users/reconcile
+     */
+    @PostMapping("/reconcile")
+    public ResponseEntity<Map<String, Object>> reconcile() {
+        try {
+            long drift = userStatistics.reconcile();
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "사용자 통계 재계산 성공");
+            response.put("drift", drift);
+            response.put("data", userStatistics.getSnapshot());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", false);
+            response.put("message", "사용자 통계 재계산 실패: " + e.getMessage());
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+    
+    /**
+     * 사용자명/이메일 Bloom 필터 효과 조회 (DB 조회 없이 판단한 건수 / DB 로 확인한 건수)
+     * GET /api/statistics/users/existence-filter
+     */
+    @GetMapping("/existence-filter")
+    public ResponseEntity<Map<String, Object>> getExistenceFilterStats() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("definiteMisses", existenceFilter.getDefiniteMisses());
+        data.put("databaseChecks", existenceFilter.getDatabaseChecks());
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "Bloom 필터 통계 조회 성공");
+        response.put("data", data);
+        return ResponseEntity.ok(response);
+    }
+}
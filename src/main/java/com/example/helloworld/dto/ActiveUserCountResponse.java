@@ -0,0 +1,11 @@
+package com.example.helloworld.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 활성 사용자 수 응답
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ActiveUserCountResponse(boolean success, String message, long activeUserCount,
+                                      String dataSource) implements ApiResponse {
+}
@@ -0,0 +1,12 @@
+package com.example.helloworld.dto;
+
+/**
+ * 모든 API 응답 envelope 의 공통 형태 (success, message)
+ * 구현 record 는 필요한 필드만 선언하고, null 인 선택 필드(dataSource 등)는 직렬화하지 않는다.
+ */
+public interface ApiResponse {
+
+    boolean success();
+
+    String message();
+}
@@ -0,0 +1,29 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.service.BulkDeactivationResult;
+import com.example.helloworld.service.UserDeactivationCriteria;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+/**
+ * 조건 일괄 비활성화 응답
+ * searchCriteria 는 고급 검색과 같은 조건, updatedFrom/updatedTo 는 수정일 범위이다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkDeactivationResponse(boolean success,
+                                       String message,
+                                       long deactivatedCount,
+                                       int chunkCount,
+                                       UserListResponse.SearchCriteria searchCriteria,
+                                       LocalDate updatedFrom,
+                                       LocalDate updatedTo,
+                                       String dataSource) implements ApiResponse {
+
+    public static BulkDeactivationResponse of(String message, BulkDeactivationResult result,
+                                              UserDeactivationCriteria criteria, String dataSource) {
+        return new BulkDeactivationResponse(true, message, result.getDeactivatedCount(), result.getChunkCount(),
+                UserListResponse.SearchCriteria.of(criteria), criteria.getUpdatedFrom(), criteria.getUpdatedTo(),
+                dataSource);
+    }
+}
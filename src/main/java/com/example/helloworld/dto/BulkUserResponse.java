@@ -0,0 +1,24 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.service.BulkUserResult;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 대량 생성/수정/삭제 응답 (data 는 요청 항목별 결과)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BulkUserResponse(boolean success,
+                               String message,
+                               List<BulkUserResult.Item> data,
+                               int count,
+                               long successCount,
+                               long failureCount,
+                               String dataSource) implements ApiResponse {
+
+    public static BulkUserResponse of(String message, BulkUserResult result, String dataSource) {
+        return new BulkUserResponse(true, message, result.getItems(), result.getItems().size(),
+                result.getSuccessCount(), result.getFailureCount(), dataSource);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.coalescing.RequestCoalescer;
+
+/**
+ * 동시 동일 읽기 합치기 통계 응답
+ */
+public record CoalescingStatsResponse(boolean success,
+                                      String message,
+                                      RequestCoalescer.CoalescingStats data) implements ApiResponse {
+}
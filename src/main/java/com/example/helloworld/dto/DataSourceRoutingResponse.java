@@ -0,0 +1,15 @@
+package com.example.helloworld.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * 읽기/쓰기 라우팅 상태 응답 (라우팅을 사용하지 않으면 data 없음)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DataSourceRoutingResponse(boolean success,
+                                        String message,
+                                        boolean enabled,
+                                        Map<String, Object> data) implements ApiResponse {
+}
@@ -0,0 +1,11 @@
+package com.example.helloworld.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자 삭제 응답
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DeleteUserResponse(boolean success, String message, Long deletedId,
+                                 String dataSource) implements ApiResponse {
+}
@@ -0,0 +1,18 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.analytics.UserColumnStore;
+
+import java.util.List;
+
+/**
+ * 이메일 도메인 분포 응답 (사용자 수 내림차순)
+ */
+public record DomainDistributionResponse(boolean success,
+                                         String message,
+                                         List<UserColumnStore.DomainShare> data,
+                                         int count) implements ApiResponse {
+
+    public static DomainDistributionResponse of(String message, List<UserColumnStore.DomainShare> domains) {
+        return new DomainDistributionResponse(true, message, domains, domains.size());
+    }
+}
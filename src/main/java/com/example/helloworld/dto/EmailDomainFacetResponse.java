@@ -0,0 +1,21 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.service.EmailDomainCount;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 이메일 도메인 facet 응답 (사용자 수 내림차순)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EmailDomainFacetResponse(boolean success,
+                                       String message,
+                                       List<EmailDomainCount> data,
+                                       int count,
+                                       String dataSource) implements ApiResponse {
+
+    public static EmailDomainFacetResponse of(String message, List<EmailDomainCount> domains, String dataSource) {
+        return new EmailDomainFacetResponse(true, message, domains, domains.size(), dataSource);
+    }
+}
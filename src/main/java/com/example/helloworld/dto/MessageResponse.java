@@ -0,0 +1,18 @@
+package com.example.helloworld.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 데이터 없이 결과 메시지만 담는 응답 (오류, 404, 409 등)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MessageResponse(boolean success, String message, String dataSource) implements ApiResponse {
+
+    public static MessageResponse error(String message) {
+        return new MessageResponse(false, message, null);
+    }
+
+    public static MessageResponse error(String message, String dataSource) {
+        return new MessageResponse(false, message, dataSource);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.schema.StatementPlan;
+
+import java.util.List;
+
+/**
+ * UserMapper 실행 계획 검사 응답 (failedCount 가 0 이면 전체 스캔 문장 없음)
+ */
+public record QueryPlanCheckResponse(boolean success,
+                                     String message,
+                                     List<StatementPlan> data,
+                                     int count,
+                                     long failedCount) implements ApiResponse {
+
+    public static QueryPlanCheckResponse of(String message, List<StatementPlan> plans) {
+        long failed = plans.stream().filter(StatementPlan::isFailed).count();
+        return new QueryPlanCheckResponse(true, message, plans, plans.size(), failed);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.analytics.UserColumnStore;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 일자별 가입 수 응답 (from ~ to 의 모든 날짜 포함, total 은 기간 합계)
+ */
+public record SignupTrendResponse(boolean success,
+                                  String message,
+                                  List<UserColumnStore.DailySignups> data,
+                                  LocalDate from,
+                                  LocalDate to,
+                                  long total) implements ApiResponse {
+
+    public static SignupTrendResponse of(String message, List<UserColumnStore.DailySignups> days,
+                                         LocalDate from, LocalDate to) {
+        long total = days.stream().mapToLong(UserColumnStore.DailySignups::getCount).sum();
+        return new SignupTrendResponse(true, message, days, from, to, total);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.startup.StartupReport;
+
+/**
+ * 기동 시간 보고서 응답
+ */
+public record StartupReportResponse(boolean success,
+                                    String message,
+                                    StartupReport data) implements ApiResponse {
+}
@@ -0,0 +1,11 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.analytics.UserColumnStore;
+
+/**
+ * 사용자 활성 비율 요약 응답 (컬럼형 스냅샷 기준)
+ */
+public record UserAnalyticsSummaryResponse(boolean success,
+                                           String message,
+                                           UserColumnStore.ActivitySummary data) implements ApiResponse {
+}
@@ -0,0 +1,27 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.service.UserCursorPage;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 방식 페이징 응답 (마지막 페이지의 nextCursor 는 null 로 내려간다)
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserCursorResponse(boolean success,
+                                 String message,
+                                 @JsonSerialize(using = UserListSerializer.class) List<User> data,
+                                 int size,
+                                 String sortBy,
+                                 @JsonInclude(JsonInclude.Include.ALWAYS) String nextCursor,
+                                 boolean hasNext,
+                                 String dataSource) implements ApiResponse {
+
+    public static UserCursorResponse of(String message, UserCursorPage page, String dataSource) {
+        return new UserCursorResponse(true, message, page.getContent(), page.getSize(), page.getSortBy(),
+                page.getNextCursor(), page.hasNext(), dataSource);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * User 전용 직렬화기
+ * 리플렉션/BeanSerializer 없이 필드를 순서대로 직접 쓰며, 필드 이름은 미리 인코딩해 둔다.
+ * 출력 형식은 기본 직렬화와 같다 (LocalDateTime 은 ISO-8601 문자열, null 필드도 포함).
+ * @JsonComponent 이므로 Spring 의 ObjectMapper 전체(API 응답, NDJSON 내보내기)에 적용된다.
+ */
+@JsonComponent
+public class UserJsonSerializer extends StdSerializer<User> {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString USERNAME = new SerializedString("username");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString FULL_NAME = new SerializedString("fullName");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializableString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializableString VERSION = new SerializedString("version");
+
+    public UserJsonSerializer() {
+        super(User.class);
+    }
+
+    @Override
+    public void serialize(User user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        write(user, gen);
+    }
+
+    /**
+     * 사용자 한 명을 JSON 객체로 쓰기 (목록 직렬화기에서도 직접 호출)
+     */
+    static void write(User user, JsonGenerator gen) throws IOException {
+        gen.writeStartObject(user);
+        gen.writeFieldName(ID);
+        if (user.getId() != null) {
+            gen.writeNumber(user.getId());
+        } else {
+            gen.writeNull();
+        }
+        writeString(gen, USERNAME, user.getUsername());
+        writeString(gen, EMAIL, user.getEmail());
+        writeString(gen, FULL_NAME, user.getFullName());
+        writeDateTime(gen, CREATED_AT, user.getCreatedAt());
+        writeDateTime(gen, UPDATED_AT, user.getUpdatedAt());
+        gen.writeFieldName(IS_ACTIVE);
+        if (user.getIsActive() != null) {
+            gen.writeBoolean(user.getIsActive());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeFieldName(VERSION);
+        if (user.getVersion() != null) {
+            gen.writeNumber(user.getVersion());
+        } else {
+            gen.writeNull();
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value != null) {
+            gen.writeString(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        writeDateTimeValue(gen, value);
+    }
+
+    /**
+     * LocalDateTime 값을 ISO-8601 문자열로 쓰기 (null 이면 null, 열 단위 목록 직렬화에서도 사용)
+     */
+    static void writeDateTimeValue(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value.getYear() < 0 || value.getYear() > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        } else {
+            char[] buffer = new char[29];
+            gen.writeString(buffer, 0, formatIsoLocalDateTime(value, buffer));
+        }
+    }
+
+    /**
+     * DateTimeFormatter.ISO_LOCAL_DATE_TIME 과 같은 형식으로 쓰기 (연도 0~9999)
+     * 나노초는 0 이면 생략하고, 아니면 뒤쪽 0 을 제거한다 (예: 2024-01-02T03:04:05.1234).
+     * 포매터의 BigDecimal/StringBuilder 할당 없이 고정 버퍼에 직접 쓴다.
+     * @return 쓴 문자 수
+     */
+    static int formatIsoLocalDateTime(LocalDateTime value, char[] buffer) {
+        int position = 0;
+        position = writeDigits(buffer, position, value.getYear(), 4);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, value.getMonthValue(), 2);
+        buffer[position++] = '-';
+        position = writeDigits(buffer, position, value.getDayOfMonth(), 2);
+        buffer[position++] = 'T';
+        position = writeDigits(buffer, position, value.getHour(), 2);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, value.getMinute(), 2);
+        buffer[position++] = ':';
+        position = writeDigits(buffer, position, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano > 0) {
+            buffer[position++] = '.';
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            position = writeDigits(buffer, position, nano, digits);
+        }
+        return position;
+    }
+
+    private static int writeDigits(char[] buffer, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+}
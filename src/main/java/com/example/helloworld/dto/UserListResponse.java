@@ -0,0 +1,60 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.service.UserSearchCriteria;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 사용자 목록 응답
+ * searchTerm, domain, searchCriteria 는 해당 검색 API 에서만 채워진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserListResponse(boolean success,
+                               String message,
+                               @JsonSerialize(using = UserListSerializer.class) List<User> data,
+                               int count,
+                               String searchTerm,
+                               String domain,
+                               SearchCriteria searchCriteria,
+                               String dataSource) implements ApiResponse {
+
+    public static UserListResponse of(String message, List<User> users, String dataSource) {
+        return new UserListResponse(true, message, users, users.size(), null, null, null, dataSource);
+    }
+
+    public UserListResponse withSearchTerm(String searchTerm) {
+        return new UserListResponse(success, message, data, count, searchTerm, domain, searchCriteria, dataSource);
+    }
+
+    public UserListResponse withDomain(String domain) {
+        return new UserListResponse(success, message, data, count, searchTerm, domain, searchCriteria, dataSource);
+    }
+
+    public UserListResponse withSearchCriteria(SearchCriteria searchCriteria) {
+        return new UserListResponse(success, message, data, count, searchTerm, domain, searchCriteria, dataSource);
+    }
+
+    /**
+     * 고급 검색 조건 (문자열 조건은 없으면 빈 문자열, isActive 는 없으면 null, 도메인/생성일 조건은 있을 때만)
+     */
+    public record SearchCriteria(String username, String email, String fullName,
+                                 @JsonInclude(JsonInclude.Include.ALWAYS) Boolean isActive,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) String domain,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) LocalDate createdFrom,
+                                 @JsonInclude(JsonInclude.Include.NON_NULL) LocalDate createdTo) {
+
+        public static SearchCriteria of(UserSearchCriteria criteria) {
+            return new SearchCriteria(emptyIfNull(criteria.getUsername()), emptyIfNull(criteria.getEmail()),
+                    emptyIfNull(criteria.getFullName()), criteria.getIsActive(), criteria.getDomain(),
+                    criteria.getCreatedFrom(), criteria.getCreatedTo());
+        }
+
+        private static String emptyIfNull(String value) {
+            return value != null ? value : "";
+        }
+    }
+}
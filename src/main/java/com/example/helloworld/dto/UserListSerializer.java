@@ -0,0 +1,128 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 사용자 목록 직렬화기
+ * 요소마다 직렬화기를 찾지 않고 UserJsonSerializer.write 로 응답 스트림에 바로 이어 쓴다.
+ *
+ * ObjectWriter 속성 LAYOUT_ATTRIBUTE 가 COLUMNAR 이면 필드 이름을 반복하지 않는 열 단위 객체로 쓴다
+ * (예: {"id":[1,2],"username":["a","b"],...}, null 요소는 모든 열에 null).
+ */
+public class UserListSerializer extends StdSerializer<List<User>> {
+
+    public static final String LAYOUT_ATTRIBUTE = UserListSerializer.class.getName() + ".layout";
+    public static final String COLUMNAR = "columnar";
+
+    @SuppressWarnings("unchecked")
+    public UserListSerializer() {
+        super((Class<List<User>>) (Class<?>) List.class);
+    }
+
+    @Override
+    public void serialize(List<User> users, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (COLUMNAR.equals(provider.getAttribute(LAYOUT_ATTRIBUTE))) {
+            writeColumns(users, gen);
+            return;
+        }
+        gen.writeStartArray(users, users.size());
+        for (User user : users) {
+            if (user != null) {
+                UserJsonSerializer.write(user, gen);
+            } else {
+                gen.writeNull();
+            }
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeColumns(List<User> users, JsonGenerator gen) throws IOException {
+        int size = users.size();
+        gen.writeStartObject(users);
+
+        gen.writeFieldName("id");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            writeNumber(gen, user != null ? user.getId() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("username");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            writeString(gen, user != null ? user.getUsername() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("email");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            writeString(gen, user != null ? user.getEmail() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("fullName");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            writeString(gen, user != null ? user.getFullName() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("createdAt");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            UserJsonSerializer.writeDateTimeValue(gen, user != null ? user.getCreatedAt() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("updatedAt");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            UserJsonSerializer.writeDateTimeValue(gen, user != null ? user.getUpdatedAt() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("isActive");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            Boolean active = user != null ? user.getIsActive() : null;
+            if (active != null) {
+                gen.writeBoolean(active);
+            } else {
+                gen.writeNull();
+            }
+        }
+        gen.writeEndArray();
+
+        gen.writeFieldName("version");
+        gen.writeStartArray(users, size);
+        for (User user : users) {
+            writeNumber(gen, user != null ? user.getVersion() : null);
+        }
+        gen.writeEndArray();
+
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value != null) {
+            gen.writeNumber(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+
+    private static void writeString(JsonGenerator gen, String value) throws IOException {
+        if (value != null) {
+            gen.writeString(value);
+        } else {
+            gen.writeNull();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+/**
+ * 페이지 번호 방식 페이징 응답
+ * searchCriteria 는 고급 검색 페이지 조회에서만 채워진다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserPageResponse(boolean success,
+                               String message,
+                               @JsonSerialize(using = UserListSerializer.class) List<User> data,
+                               int currentPage,
+                               int totalPages,
+                               long totalElements,
+                               int size,
+                               boolean hasNext,
+                               boolean hasPrevious,
+                               UserListResponse.SearchCriteria searchCriteria,
+                               String dataSource) implements ApiResponse {
+}
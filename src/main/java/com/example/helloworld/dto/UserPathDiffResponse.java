@@ -0,0 +1,27 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.consistency.UserMismatch;
+import com.example.helloworld.consistency.UserPathDiff;
+
+import java.util.List;
+
+/**
+ * JPA/MyBatis 경로 비교 응답 (불일치 사용자만 포함)
+ */
+public record UserPathDiffResponse(boolean success,
+                                   String message,
+                                   List<UserMismatch> data,
+                                   int count,
+                                   boolean truncated,
+                                   long jpaRowCount,
+                                   long mybatisRowCount,
+                                   int rangesCompared,
+                                   int digestQueries,
+                                   int rowsLoaded) implements ApiResponse {
+
+    public static UserPathDiffResponse of(String message, UserPathDiff diff) {
+        return new UserPathDiffResponse(true, message, diff.getMismatches(), diff.getMismatches().size(),
+                diff.isTruncated(), diff.getJpaRowCount(), diff.getMybatisRowCount(),
+                diff.getRangesCompared(), diff.getDigestQueries(), diff.getRowsLoaded());
+    }
+}
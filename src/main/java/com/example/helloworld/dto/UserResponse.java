@@ -0,0 +1,15 @@
+package com.example.helloworld.dto;
+
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 사용자 한 명을 담는 응답
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserResponse(boolean success, String message, User data, String dataSource) implements ApiResponse {
+
+    public static UserResponse of(String message, User user, String dataSource) {
+        return new UserResponse(true, message, user, dataSource);
+    }
+}
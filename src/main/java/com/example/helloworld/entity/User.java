@@ -1,7 +1,10 @@
 package com.example.helloworld.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 @Entity
 @Table(name = "users")
@@ -17,6 +20,10 @@ public class User {
     @Column(name = "email", nullable = false, unique = true, length = 100)
     private String email;
     
+    // email 의 '@' 뒤 문자열 (도메인 조회/집계용 파생 컬럼, setEmail 과 @PrePersist/@PreUpdate 에서 갱신)
+    @Column(name = "email_domain", length = 100)
+    private String emailDomain;
+    
     @Column(name = "full_name", length = 100)
     private String fullName;
     
@@ -29,6 +36,12 @@ public class User {
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
     
+    // 낙관적 잠금 버전 (JPA 는 @Version, MyBatis 는 UPDATE ... WHERE version = ? 로 확인)
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+    
     // 기본 생성자
     public User() {
         this.createdAt = LocalDateTime.now();
@@ -39,10 +52,23 @@ public class User {
     public User(String username, String email, String fullName) {
         this();
         this.username = username;
-        this.email = email;
+        setEmail(email);
         this.fullName = fullName;
     }
     
+    // 복사 생성자 (캐시/버퍼가 보관·반환하는 사본용, 호출자가 고쳐도 원본에 영향 없음)
+    public User(User source) {
+        this.id = source.id;
+        this.username = source.username;
+        this.email = source.email;
+        this.emailDomain = source.emailDomain;
+        this.fullName = source.fullName;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.isActive = source.isActive;
+        this.version = source.version;
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -66,6 +92,11 @@ public class User {
     
     public void setEmail(String email) {
         this.email = email;
+        this.emailDomain = emailDomainOf(email);
+    }
+    
+    public String getEmailDomain() {
+        return emailDomain;
     }
     
     public String getFullName() {
@@ -100,9 +131,42 @@ public class User {
         this.isActive = isActive;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    @PrePersist
+    public void prePersist() {
+        this.emailDomain = emailDomainOf(email);
+    }
+    
     @PreUpdate
     public void preUpdate() {
         this.updatedAt = LocalDateTime.now();
+        this.emailDomain = emailDomainOf(email);
+    }
+    
+    /**
+     * 이메일의 도메인 ('@' 뒤 문자열 전체를 소문자로, '@' 가 없으면 null)
+     * 도메인은 대소문자를 구분하지 않으므로 Example.com 과 example.com 을 같은 값으로 집계/조회한다.
+     */
+    public static String emailDomainOf(String email) {
+        if (email == null) {
+            return null;
+        }
+        int at = email.lastIndexOf('@');
+        return at >= 0 ? normalizeDomain(email.substring(at + 1)) : null;
+    }
+    
+    /**
+     * 도메인을 email_domain 컬럼에 저장된 형태(소문자)로 변환 (조회 조건을 저장값과 같은 기준으로 비교할 때 사용)
+     */
+    public static String normalizeDomain(String domain) {
+        return domain != null ? domain.toLowerCase(Locale.ROOT) : null;
     }
     
     @Override
@@ -115,6 +179,7 @@ public class User {
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
                 ", isActive=" + isActive +
+                ", version=" + version +
                 '}';
     }
 }
\ No newline at end of file
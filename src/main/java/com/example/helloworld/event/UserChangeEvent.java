@@ -0,0 +1,56 @@
+package com.example.helloworld.event;
+
+import com.example.helloworld.entity.User;
+
+/**
+ * 사용자 변경 이벤트
+ * UserService(JPA) 와 UserMybatisService(MyBatis) 의 모든 쓰기 경로에서 발행되며,
+ * 캐시 등 메모리 구조는 이 이벤트로 두 경로의 변경을 함께 반영한다.
+ */
+public class UserChangeEvent {
+    
+    public enum Type {
+        CREATED, UPDATED, DEACTIVATED, DELETED
+    }
+    
+    private final Type type;
+    private final Long userId;
+    private final User user;
+    private final String dataSource;
+    
+    public UserChangeEvent(Type type, Long userId, User user, String dataSource) {
+        this.type = type;
+        this.userId = userId;
+        this.user = user;
+        this.dataSource = dataSource;
+    }
+    
+    public static UserChangeEvent created(User user, String dataSource) {
+        return new UserChangeEvent(Type.CREATED, user.getId(), user, dataSource);
+    }
+    
+    public static UserChangeEvent updated(User user, String dataSource) {
+        return new UserChangeEvent(Type.UPDATED, user.getId(), user, dataSource);
+    }
+    
+    public static UserChangeEvent deactivated(User user, String dataSource) {
+        return new UserChangeEvent(Type.DEACTIVATED, user.getId(), user, dataSource);
+    }
+    
+    public static UserChangeEvent deleted(Long userId, String dataSource) {
+        return new UserChangeEvent(Type.DELETED, userId, null, dataSource);
+    }
+    
+    public Type getType() { return type; }
+    public Long getUserId() { return userId; }
+    
+    /**
+     * 변경 후 사용자 상태 (DELETED 이벤트는 null)
+     */
+    public User getUser() { return user; }
+    
+    /**
+     * 변경이 일어난 경로 ("JPA" 또는 "MyBatis")
+     */
+    public String getDataSource() { return dataSource; }
+}
@@ -0,0 +1,169 @@
+package com.example.helloworld.export;
+
+import com.example.helloworld.entity.User;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 사용자 내보내기 스트림 작성기 (NDJSON / CSV)
+ * 한 행씩 응답 스트림에 바로 쓰므로 메모리 사용량은 테이블 크기와 무관하다.
+ * 첫 행은 즉시 flush 하여 첫 바이트 도달 시간을 일정하게 유지한다.
+ */
+public abstract class UserExportWriter implements Consumer<User>, AutoCloseable {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    public static final MediaType CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private static final int FLUSH_INTERVAL = 1000;
+
+    private long rowCount;
+
+    /**
+     * 형식별 작성기 생성
+     * @param format "ndjson" 또는 "csv"
+     * @throws IllegalArgumentException 지원하지 않는 형식
+     */
+    public static UserExportWriter create(String format, OutputStream out, ObjectMapper objectMapper) throws IOException {
+        if ("csv".equalsIgnoreCase(format)) {
+            return new CsvWriter(out);
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return new NdjsonWriter(out, objectMapper);
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+
+    /**
+     * 형식별 Content-Type
+     */
+    public static MediaType mediaType(String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return CSV;
+        }
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+
+    @Override
+    public void accept(User user) {
+        try {
+            write(user);
+            rowCount++;
+            if (rowCount == 1 || rowCount % FLUSH_INTERVAL == 0) {
+                flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    protected abstract void write(User user) throws IOException;
+
+    protected abstract void flush() throws IOException;
+
+    @Override
+    public abstract void close() throws IOException;
+
+    /**
+     * 줄 단위 JSON (application/x-ndjson)
+     */
+    private static class NdjsonWriter extends UserExportWriter {
+        private final SequenceWriter sequenceWriter;
+        private final OutputStream out;
+
+        private NdjsonWriter(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.out = out;
+            this.sequenceWriter = objectMapper.writer()
+                    .withRootValueSeparator("\n")
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValues(out);
+        }
+
+        @Override
+        protected void write(User user) throws IOException {
+            sequenceWriter.write(user);
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            sequenceWriter.flush();
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            sequenceWriter.close();
+            // 마지막 행도 줄바꿈으로 끝나도록 처리
+            if (getRowCount() > 0) {
+                out.write('\n');
+            }
+            out.flush();
+        }
+    }
+
+    /**
+     * CSV (RFC 4180 형식의 따옴표 처리)
+     */
+    private static class CsvWriter extends UserExportWriter {
+        private final Writer writer;
+
+        private CsvWriter(OutputStream out) throws IOException {
+            this.writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+            writer.write("id,username,email,full_name,created_at,updated_at,is_active\n");
+        }
+
+        @Override
+        protected void write(User user) throws IOException {
+            writer.write(String.valueOf(user.getId()));
+            writer.write(',');
+            writer.write(escape(user.getUsername()));
+            writer.write(',');
+            writer.write(escape(user.getEmail()));
+            writer.write(',');
+            writer.write(escape(user.getFullName()));
+            writer.write(',');
+            writer.write(user.getCreatedAt() != null ? user.getCreatedAt().toString() : "");
+            writer.write(',');
+            writer.write(user.getUpdatedAt() != null ? user.getUpdatedAt().toString() : "");
+            writer.write(',');
+            writer.write(user.getIsActive() != null ? user.getIsActive().toString() : "");
+            writer.write('\n');
+        }
+
+        @Override
+        protected void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+}
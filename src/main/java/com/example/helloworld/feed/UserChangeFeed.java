@@ -0,0 +1,343 @@
+package com.example.helloworld.feed;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 사용자 변경 SSE 피드 (GET /api/users/changes)
+ * JPA/MyBatis 쓰기 경로의 UserChangeEvent 를 커밋 후 구독자에게 보낸다 (type, id, version, dataSource).
+ *
+ * 이벤트마다 SSE 프레임을 한 번만 만들어 모든 구독자가 공유하고, 구독자별 크기 제한 큐에 넣은 뒤
+ * 피드 전용 스레드 풀(user-feed.send-threads)에서 구독자당 최대 한 작업으로 전송한다. 연결을 유지하는 스레드는 없으므로
+ * 유휴 구독자의 비용은 emitter 와 큐뿐이다. 구독자당 작업이 하나이므로 풀의 대기열은 구독자 수 상한으로 제한되며,
+ * 전송이 막혀도 applicationTaskExecutor 의 다른 비동기 작업(MVC 비동기 요청 등)에는 영향이 없다.
+ * 느린 구독자의 큐가 가득 차면 쌓인 이벤트를 버리고 resync 이벤트를 보내, 클라이언트가 목록을 한 번 다시 조회하게 한다.
+ *
+ * 수신하지 않는 클라이언트에게 보내는 send 는 소켓 버퍼가 차면 커넥터 쓰기 제한 시간까지 막힌다.
+ * 한 번의 전송이 user-feed.send-timeout-ms 를 넘으면 그 구독자를 목록에서 빼 더 이상 작업을 만들지 않고,
+ * 막힌 쓰기가 끝나면 연결을 종료한다 (클라이언트는 Last-Event-ID 로 재연결). 그래서 멈춘 클라이언트 하나가
+ * 전송 스레드를 잡는 시간은 쓰기 한 번으로 제한된다.
+ *
+ * 재연결 시 Last-Event-ID 가 최근 이벤트 기록 범위 안이면 놓친 이벤트를 다시 보내고,
+ * 범위를 벗어났거나 재시작 전 ID 이면 resync 를 보낸다.
+ */
+@Component
+public class UserChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(UserChangeFeed.class);
+
+    private static final String EVENT_CHANGE = "user";
+    private static final String EVENT_RESYNC = "resync";
+    private static final String EVENT_READY = "ready";
+
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    // 재시작 후 같은 순번이 다른 이벤트를 가리키지 않도록 이벤트 ID 에 기동 시각을 포함한다
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // 최근 이벤트 기록 (순번 % 크기 위치), 발행/구독 등록은 lock 안에서 순서대로 처리한다
+    private final Object lock = new Object();
+    private final Set<DataWithMediaType>[] history;
+    private long sequence;
+
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+    private final Counter resyncCounter;
+    private final Counter stalledCounter;
+
+    @SuppressWarnings("unchecked")
+    public UserChangeFeed(ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${user-feed.buffer-size:256}") int bufferSize,
+                          @Value("${user-feed.history-size:1024}") int historySize,
+                          @Value("${user-feed.max-subscribers:10000}") int maxSubscribers,
+                          @Value("${user-feed.timeout-ms:1800000}") long timeoutMillis,
+                          @Value("${user-feed.send-threads:4}") int sendThreads,
+                          @Value("${user-feed.send-timeout-ms:5000}") long sendTimeoutMillis) {
+        this.objectMapper = objectMapper;
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = sendTimeoutMillis * 1_000_000;
+        this.history = new Set[historySize];
+        // 구독자당 작업은 최대 하나이므로 대기열은 구독자 수 상한이면 충분하다
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("user-feed-");
+        executor.setCorePoolSize(sendThreads);
+        executor.setMaxPoolSize(sendThreads);
+        executor.setQueueCapacity(maxSubscribers);
+        executor.initialize();
+        Gauge.builder("user.feed.subscribers", subscribers, Set::size)
+                .description("사용자 변경 피드 구독자 수")
+                .register(meterRegistry);
+        this.publishedCounter = Counter.builder("user.feed.events")
+                .description("사용자 변경 피드 발행 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("user.feed.dropped")
+                .description("느린 구독자 큐에서 버린 이벤트 수")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("user.feed.resyncs")
+                .description("구독자에게 보낸 resync 수 (큐 초과, 재연결 범위 초과)")
+                .register(meterRegistry);
+        this.stalledCounter = Counter.builder("user.feed.stalled")
+                .description("전송 제한 시간을 넘겨 연결을 끊은 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 구독자 등록
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 ID (없으면 null)
+     * @return SSE emitter
+     * @throws IllegalStateException 구독자 수 상한 초과
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("구독자 수 상한(" + maxSubscribers + ")에 도달했습니다.");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        synchronized (lock) {
+            long lastSequence = parseSequence(lastEventId);
+            long oldest = Math.max(1, sequence - history.length + 1);
+            if (lastEventId == null) {
+                subscriber.queue.offer(SseEmitter.event().id(eventId(sequence)).name(EVENT_READY).data("{}").build());
+            } else if (lastSequence < 0 || lastSequence > sequence || lastSequence + 1 < oldest) {
+                subscriber.resyncPending = true;
+            } else {
+                for (long seq = lastSequence + 1; seq <= sequence; seq++) {
+                    if (!subscriber.queue.offer(history[(int) (seq % history.length)])) {
+                        subscriber.overflow();
+                        break;
+                    }
+                }
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /**
+     * 쓰기 커밋 후 모든 구독자에게 발행
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        User user = event.getUser();
+        UserChange change = new UserChange(event.getType().name(), event.getUserId(),
+                user != null ? user.getVersion() : null, event.getDataSource());
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            log.warn("사용자 변경 피드 직렬화 실패: {}", e.getMessage());
+            return;
+        }
+        synchronized (lock) {
+            long seq = ++sequence;
+            Set<DataWithMediaType> frame = SseEmitter.event()
+                    .id(eventId(seq))
+                    .name(EVENT_CHANGE)
+                    .data(json)
+                    .build();
+            history[(int) (seq % history.length)] = frame;
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.queue.offer(frame)) {
+                    subscriber.overflow();
+                }
+                schedule(subscriber);
+            }
+        }
+        publishedCounter.increment();
+    }
+
+    /**
+     * 유휴 연결 유지/끊긴 연결 정리용 주석 전송 (큐가 가득 찬 구독자는 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${user-feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> frame = SseEmitter.event().comment("heartbeat").build();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.queue.offer(frame)) {
+                schedule(subscriber);
+            }
+        }
+    }
+
+    /**
+     * 전송이 user-feed.send-timeout-ms 넘게 막힌 구독자 제거 (막힌 쓰기가 끝나면 drain 이 연결을 종료)
+     * emitter 의 send/complete 는 같은 잠금을 쓰므로 여기서 emitter 를 건드리지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${user-feed.send-timeout-ms:5000}")
+    public void expireStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long started = subscriber.sendStartedAt;
+            if (started != 0 && now - started > sendTimeoutNanos) {
+                stalledCounter.increment();
+                subscriber.stalled = true;
+                remove(subscriber);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(() -> drain(subscriber));
+            } catch (TaskRejectedException e) {
+                // 종료 중: 큐에 남은 이벤트는 다음 발행이나 heartbeat 에서 다시 등록한다
+                subscriber.scheduled.set(false);
+                log.warn("사용자 변경 피드 전송 작업 등록 실패: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 구독자 큐를 비울 때까지 전송 (구독자당 동시에 하나만 실행)
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            while (!subscriber.closed) {
+                if (subscriber.resyncPending) {
+                    subscriber.resyncPending = false;
+                    resyncCounter.increment();
+                    long current;
+                    synchronized (lock) {
+                        current = sequence;
+                    }
+                    send(subscriber, SseEmitter.event().id(eventId(current)).name(EVENT_RESYNC).data("{}").build());
+                    continue;
+                }
+                Set<DataWithMediaType> frame = subscriber.queue.poll();
+                if (frame == null) {
+                    break;
+                }
+                send(subscriber, frame);
+            }
+            if (subscriber.stalled) {
+                // 제한 시간을 넘긴 쓰기가 끝났으면 연결을 끊어 재연결하게 한다
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 연결이 끊겼거나 이미 완료된 emitter
+            remove(subscriber);
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+        if (!subscriber.closed && (subscriber.resyncPending || !subscriber.queue.isEmpty())) {
+            schedule(subscriber);
+        }
+    }
+
+    private void send(Subscriber subscriber, Set<DataWithMediaType> frame) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(frame);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed = true;
+        subscribers.remove(subscriber);
+        subscriber.queue.clear();
+    }
+
+    private String eventId(long seq) {
+        return epoch + "-" + seq;
+    }
+
+    /**
+     * Last-Event-ID 에서 순번 추출 (다른 기동의 ID 이거나 형식이 다르면 -1)
+     */
+    private long parseSequence(String lastEventId) {
+        if (lastEventId == null) {
+            return -1;
+        }
+        int dash = lastEventId.indexOf('-');
+        if (dash < 0 || !epoch.equals(lastEventId.substring(0, dash))) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 피드 이벤트 본문
+     * @param type CREATED, UPDATED, DEACTIVATED, DELETED
+     * @param version 변경 후 버전 (DELETED 는 null)
+     */
+    public record UserChange(String type, Long id, Long version, String dataSource) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean resyncPending;
+        private volatile boolean closed;
+        private volatile boolean stalled;
+        // 진행 중인 send 의 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        /**
+         * 큐 초과: 쌓인 이벤트를 버리고 다음 전송에서 resync 를 보낸다
+         */
+        private void overflow() {
+            droppedCounter.increment(queue.size() + 1);
+            queue.clear();
+            resyncPending = true;
+        }
+    }
+}
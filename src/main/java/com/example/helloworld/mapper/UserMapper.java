@@ -1,9 +1,17 @@
 package com.example.helloworld.mapper;
 
+import com.example.helloworld.consistency.IdRangeDigest;
 import com.example.helloworld.entity.User;
+import com.example.helloworld.service.EmailDomainCount;
+import com.example.helloworld.service.UserCursor;
+import com.example.helloworld.service.UserDeactivationCriteria;
+import com.example.helloworld.service.UserSearchCriteria;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Mapper
@@ -15,6 +23,13 @@ public interface UserMapper {
      */
     List<User> findAll();
     
+    /**
+     * 모든 사용자를 커서로 조회 (내보내기용, fetchSize 단위로 가져옴)
+     * 트랜잭션 안에서만 사용해야 하며 사용 후 닫아야 한다.
+     * @return 사용자 커서
+     */
+    Cursor<User> streamAll();
+    
     /**
      * ID로 사용자 조회
      * @param id 사용자 ID
@@ -22,6 +37,17 @@ public interface UserMapper {
      */
     User findById(@Param("id") Long id);
     
+    /**
+     * ID 목록으로 사용자 조회 (검색 색인 후보 행 조회용)
+     * @param ids 사용자 ID 목록 (비어 있으면 안 됨)
+     * @param isActive 활성 상태 조건 (null 이면 무시)
+     * @param orderBy 정렬 기준 (username 또는 생성일 내림차순)
+     * @return 사용자 목록
+     */
+    List<User> findByIds(@Param("ids") Collection<Long> ids,
+                         @Param("isActive") Boolean isActive,
+                         @Param("orderBy") String orderBy);
+    
     /**
      * 사용자명으로 검색 (부분 일치)
      * @param username 검색할 사용자명
@@ -43,10 +69,18 @@ public interface UserMapper {
     List<User> findByEmailDomain(@Param("domain") String domain);
     
     /**
-     * 최근 생성된 사용자 조회 (최대 10명)
-     * @return 최근 사용자 목록
+     * 이메일 도메인별 사용자 수 (사용자 수 내림차순, 같으면 도메인 순)
+     * @param limit 최대 도메인 수
+     * @return 도메인별 사용자 수
+     */
+    List<EmailDomainCount> countByEmailDomain(@Param("limit") int limit);
+    
+    /**
+     * 최근 생성된 사용자 조회
+     * @param limit 최대 조회 건수
+     * @return 최근 사용자 목록 (생성 시간 내림차순)
      */
-    List<User> findRecentUsers();
+    List<User> findRecentUsers(@Param("limit") int limit);
     
     /**
      * 활성 사용자 수 조회
@@ -68,6 +102,15 @@ public interface UserMapper {
      */
     boolean existsByEmail(@Param("email") String email);
     
+    /**
+     * 주어진 사용자명 또는 이메일과 일치하는 기존 사용자 조회 (대량 생성 중복 검사용, 한 번의 쿼리)
+     * @param usernames 사용자명 목록
+     * @param emails 이메일 목록
+     * @return 일치하는 사용자 목록
+     */
+    List<User> findByUsernameInOrEmailIn(@Param("usernames") Collection<String> usernames,
+                                         @Param("emails") Collection<String> emails);
+    
     /**
      * 새 사용자 생성
      * @param user 생성할 사용자 정보
@@ -82,6 +125,15 @@ public interface UserMapper {
      */
     int update(User user);
     
+    /**
+     * 사용자 정보 수정 후 수정된 행을 한 문장으로 반환 (H2/PostgreSQL 전용)
+     * version 이 있으면 일치할 때만 수정하며, 수정마다 version 이 1 증가한다.
+     * 다른 DB 에서는 문장이 등록되지 않으므로 UserMybatisService 가 update + findById 로 대신한다.
+     * @param user 수정할 사용자 정보
+     * @return 수정된 사용자 정보 (대상이 없거나 version 이 다르면 null)
+     */
+    User updateReturning(User user);
+    
     /**
      * 사용자 삭제
      * @param id 삭제할 사용자 ID
@@ -100,6 +152,17 @@ public interface UserMapper {
                                    @Param("size") int size, 
                                    @Param("sortBy") String sortBy);
     
+    /**
+     * 키셋(커서) 방식 페이징 조회 (OFFSET/COUNT 없음)
+     * @param cursor 이전 페이지 마지막 행의 커서 (첫 페이지면 null)
+     * @param limit 조회할 최대 행 수
+     * @param sortBy 정렬 기준
+     * @return 커서 이후의 사용자 목록
+     */
+    List<User> findAllAfterCursor(@Param("cursor") UserCursor cursor,
+                                  @Param("limit") int limit,
+                                  @Param("sortBy") String sortBy);
+    
     /**
      * 전체 사용자 수 조회
      * @return 전체 사용자 수
@@ -107,15 +170,81 @@ public interface UserMapper {
     Long countAll();
     
     /**
-     * 다중 조건으로 사용자 검색
-     * @param username 사용자명 (부분 일치)
-     * @param email 이메일 (부분 일치)
-     * @param fullName 전체 이름 (부분 일치)
-     * @param isActive 활성 상태
+     * 다중 조건으로 사용자 검색 (created_at 내림차순, 같으면 id 내림차순)
+     * @param criteria 검색 조건
+     * @param offset 건너뛸 건수 (limit 이 null 이면 무시)
+     * @param limit 최대 건수 (null 이면 전체)
      * @return 검색된 사용자 목록
      */
-    List<User> searchUsers(@Param("username") String username,
-                          @Param("email") String email,
-                          @Param("fullName") String fullName,
-                          @Param("isActive") Boolean isActive);
+    List<User> searchUsers(@Param("criteria") UserSearchCriteria criteria,
+                          @Param("offset") Long offset,
+                          @Param("limit") Integer limit);
+    
+    /**
+     * 다중 조건 검색 일치 건수
+     * @param criteria 검색 조건
+     * @return 일치 건수
+     */
+    long countSearchUsers(@Param("criteria") UserSearchCriteria criteria);
+    
+    /**
+     * [fromId, toId) 의 활성 사용자 중 조건에 맞는 행을 한 문장으로 비활성화
+     * @param criteria 비활성화 조건
+     * @param fromId 시작 id (포함)
+     * @param toId 끝 id (제외)
+     * @param updatedAt 비활성화 시각 (updated_at 에 기록)
+     * @return 영향 행 수
+     */
+    int deactivateMatching(@Param("criteria") UserDeactivationCriteria criteria,
+                           @Param("fromId") long fromId,
+                           @Param("toId") long toId,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * deactivateMatching 후 변경된 행을 한 문장으로 반환 (H2/PostgreSQL 전용)
+     * 다른 DB 에서는 문장이 등록되지 않으므로 deactivateMatching + findDeactivatedInRange 로 대신한다.
+     * @return 비활성화된 사용자 목록
+     */
+    List<User> deactivateMatchingReturning(@Param("criteria") UserDeactivationCriteria criteria,
+                                           @Param("fromId") long fromId,
+                                           @Param("toId") long toId,
+                                           @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * [fromId, toId) 에서 updatedAt 시각에 비활성화된 행 (deactivateMatching 직후 같은 트랜잭션에서 조회)
+     * @return 비활성화된 사용자 목록 (id 오름차순)
+     */
+    List<User> findDeactivatedInRange(@Param("fromId") long fromId,
+                                      @Param("toId") long toId,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * id 범위 조회 (JPA/MyBatis 비교의 말단 구간)
+     * @param fromId 시작 id (포함)
+     * @param toId 끝 id (제외)
+     * @return id 순 사용자 목록
+     */
+    List<User> findByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+    
+    /**
+     * 최소 id (비어 있으면 null)
+     */
+    Long findMinId();
+    
+    /**
+     * 최대 id (비어 있으면 null)
+     */
+    Long findMaxId();
+    
+    /**
+     * [fromId, toId) 를 width 폭의 하위 구간으로 나눈 구간별 행 수/행 해시 합 (행이 있는 구간만)
+     * H2/PostgreSQL 전용 (다른 DB 에서는 문장이 등록되지 않음)
+     * @param fromId 시작 id (포함)
+     * @param toId 끝 id (제외)
+     * @param width 하위 구간 폭
+     * @return 하위 구간별 요약
+     */
+    List<IdRangeDigest> digestIdRanges(@Param("fromId") long fromId,
+                                       @Param("toId") long toId,
+                                       @Param("width") long width);
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.example.helloworld.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * MyBatis 문장별 지연 시간/행 수/오류 기록 플러그인
+ * mybatis-spring-boot 가 Interceptor 빈을 자동으로 등록한다.
+ * 태그의 statement 는 UserMapper.findById 처럼 매퍼 이름과 문장 ID 로 구성된다.
+ *
+ * BATCH 실행기의 update 는 문장을 대기열에 넣기만 하므로 기록하지 않고, flushStatements 시점에 BatchResult 별로 기록한다.
+ * 이때 행 수는 영향 행 수의 합(SUCCESS_NO_INFO 등 음수 제외)이고, 시간은 flush 전체 시간을 BatchResult 수로 나눈 값이다.
+ * commit 이나 조회가 내부에서 수행하는 암묵적 flush 는 플러그인을 거치지 않으므로 측정되지 않는다
+ * (UserMybatisBulkService 는 청크마다 flushStatements 를 명시적으로 호출한다).
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "queryCursor",
+                args = {MappedStatement.class, Object.class, RowBounds.class}),
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class MybatisStatementMetricsInterceptor implements Interceptor {
+    
+    private final ObjectProvider<UserStatementMetrics> metrics;
+    
+    public MybatisStatementMetricsInterceptor(ObjectProvider<UserStatementMetrics> metrics) {
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        if ("flushStatements".equals(invocation.getMethod().getName())) {
+            return interceptFlush(invocation);
+        }
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            if (Integer.valueOf(BatchExecutor.BATCH_UPDATE_RETURN_VALUE).equals(result)) {
+                // 배치에 추가만 됨 (flushStatements 에서 기록)
+                return result;
+            }
+            metrics.getObject().record(UserStatementMetrics.MYBATIS, statementName(mappedStatement),
+                    System.nanoTime() - start, UserStatementMetrics.rowsOf(result), null);
+            return result;
+        } catch (Throwable e) {
+            metrics.getObject().record(UserStatementMetrics.MYBATIS, statementName(mappedStatement),
+                    System.nanoTime() - start, null, e);
+            throw e;
+        }
+    }
+    
+    /**
+     * 배치 실행 결과를 문장별로 기록 (실패 시에는 문장을 알 수 없으므로 flushStatements 로 기록)
+     */
+    @SuppressWarnings("unchecked")
+    private Object interceptFlush(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        List<BatchResult> batchResults;
+        try {
+            batchResults = (List<BatchResult>) invocation.proceed();
+        } catch (Throwable e) {
+            metrics.getObject().record(UserStatementMetrics.MYBATIS, "flushStatements", System.nanoTime() - start, null, e);
+            throw e;
+        }
+        if (!batchResults.isEmpty()) {
+            long nanos = (System.nanoTime() - start) / batchResults.size();
+            for (BatchResult batchResult : batchResults) {
+                metrics.getObject().record(UserStatementMetrics.MYBATIS, statementName(batchResult.getMappedStatement()),
+                        nanos, rowsOf(batchResult.getUpdateCounts()), null);
+            }
+        }
+        return batchResults;
+    }
+    
+    /**
+     * 배치 영향 행 수 합계 (드라이버가 행 수를 알려주지 않은 항목은 제외, 모두 알 수 없으면 null)
+     */
+    private static Long rowsOf(int[] updateCounts) {
+        long rows = 0;
+        boolean known = false;
+        for (int count : updateCounts) {
+            if (count >= 0) {
+                rows += count;
+                known = true;
+            }
+        }
+        return known ? rows : null;
+    }
+    
+    /**
+     * com.example.helloworld.mapper.UserMapper.findById → UserMapper.findById
+     */
+    private static String statementName(MappedStatement mappedStatement) {
+        String id = mappedStatement.getId();
+        int methodDot = id.lastIndexOf('.');
+        int typeDot = methodDot > 0 ? id.lastIndexOf('.', methodDot - 1) : -1;
+        return typeDot >= 0 ? id.substring(typeDot + 1) : id;
+    }
+}
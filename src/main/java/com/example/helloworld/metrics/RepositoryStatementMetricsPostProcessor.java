@@ -0,0 +1,50 @@
+package com.example.helloworld.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Spring Data 리포지토리(UserRepository) 메서드별 지연 시간/행 수/오류 기록
+ * 리포지토리 프록시에 MethodInterceptor 를 추가하여 파생 쿼리와 @Query 메서드를 모두 측정한다.
+ * Hibernate StatementInspector 는 SQL 문자열만 전달하고 실행 시간과 행 수를 알 수 없으므로
+ * 리포지토리 메서드 단위로 측정한다.
+ */
+@Component
+public class RepositoryStatementMetricsPostProcessor implements BeanPostProcessor {
+    
+    private final ObjectProvider<UserStatementMetrics> metrics;
+    
+    public RepositoryStatementMetricsPostProcessor(ObjectProvider<UserStatementMetrics> metrics) {
+        this.metrics = metrics;
+    }
+    
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            interceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+    
+    private MethodInterceptor interceptor(String repositoryName) {
+        return invocation -> {
+            String statement = repositoryName + "." + invocation.getMethod().getName();
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                metrics.getObject().record(UserStatementMetrics.JPA, statement,
+                        System.nanoTime() - start, UserStatementMetrics.rowsOf(result), null);
+                return result;
+            } catch (Throwable e) {
+                metrics.getObject().record(UserStatementMetrics.JPA, statement, System.nanoTime() - start, null, e);
+                throw e;
+            }
+        };
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.helloworld.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 문장(statement) 단위 DB 접근 지표 기록
+ * JPA(UserRepository 메서드) 와 MyBatis(UserMapper.xml 문장 ID) 를 같은 이름의 지표로 기록하고
+ * dataSource 태그로 구분하여 두 경로를 나란히 비교할 수 있게 한다.
+ *
+ * - user.db.statement        : 지연 시간 히스토그램 (dataSource, statement, outcome)
+ * - user.db.statement.rows   : 반환/변경 행 수 분포 (dataSource, statement)
+ * - user.db.statement.errors : 오류 수 (dataSource, statement, exception)
+ */
+@Component
+public class UserStatementMetrics {
+    
+    public static final String JPA = "JPA";
+    public static final String MYBATIS = "MyBatis";
+    
+    private final MeterRegistry meterRegistry;
+    
+    public UserStatementMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    /**
+     * 한 번의 문장 실행 기록
+     * @param dataSource JPA 또는 MyBatis
+     * @param statement 문장 식별자 (예: UserMapper.findById, UserRepository.findByUsername)
+     * @param nanos 실행 시간
+     * @param rows 행 수 (알 수 없으면 null)
+     * @param error 오류 (성공이면 null)
+     */
+    public void record(String dataSource, String statement, long nanos, Long rows, Throwable error) {
+        Timer.builder("user.db.statement")
+                .description("사용자 테이블 문장 실행 시간")
+                .tag("dataSource", dataSource)
+                .tag("statement", statement)
+                .tag("outcome", error == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        
+        if (error != null) {
+            Counter.builder("user.db.statement.errors")
+                    .description("사용자 테이블 문장 오류 수")
+                    .tag("dataSource", dataSource)
+                    .tag("statement", statement)
+                    .tag("exception", error.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        } else if (rows != null) {
+            DistributionSummary.builder("user.db.statement.rows")
+                    .description("사용자 테이블 문장 행 수")
+                    .baseUnit("rows")
+                    .tag("dataSource", dataSource)
+                    .tag("statement", statement)
+                    .register(meterRegistry)
+                    .record(rows);
+        }
+    }
+    
+    /**
+     * 결과 객체로부터 행 수 추정 (알 수 없으면 null)
+     */
+    public static Long rowsOf(Object result) {
+        if (result == null) {
+            return null;
+        }
+        if (result instanceof Collection<?> collection) {
+            return (long) collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1L : 0L;
+        }
+        if (result instanceof Slice<?> slice) {
+            return (long) slice.getNumberOfElements();
+        }
+        if (result instanceof Integer count) {
+            // MyBatis update/insert/delete 의 영향 행 수 (배치 실행 시 음수 반환)
+            return count >= 0 ? (long) count : null;
+        }
+        if (result instanceof Number || result instanceof Boolean) {
+            return 1L;
+        }
+        return null;
+    }
+}
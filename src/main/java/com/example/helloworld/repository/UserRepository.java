@@ -1,16 +1,24 @@
 package com.example.helloworld.repository;
 
 import com.example.helloworld.entity.User;
+import com.example.helloworld.service.EmailDomainCount;
+import com.example.helloworld.service.UserDeactivationCriteria;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     
     // 사용자명으로 사용자 찾기
     Optional<User> findByUsername(String username);
@@ -18,21 +26,78 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // 이메일로 사용자 찾기
     Optional<User> findByEmail(String email);
     
+    // 행 잠금(SELECT ... FOR UPDATE)으로 조회 (version 없는 수정이 다른 수정과 충돌하지 않고 덮어쓰도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+    
+    // 사용자명 존재 여부 (엔티티 로딩 없이 id 한 건만 조회)
+    boolean existsByUsername(String username);
+    
+    // 이메일 존재 여부 (엔티티 로딩 없이 id 한 건만 조회)
+    boolean existsByEmail(String email);
+    
+    // 사용자명 또는 이메일이 일치하는 사용자 찾기 (대량 생성 중복 검사용)
+    List<User> findByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
+    
+    // 주어진 ID 중 존재하는 ID만 조회 (엔티티 로딩 없음)
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+    
     // 활성 사용자만 조회
     List<User> findByIsActiveTrue();
     
     // 사용자명에 특정 문자열이 포함된 사용자 찾기
     List<User> findByUsernameContainingIgnoreCase(String username);
     
-    // 이메일에 특정 도메인이 포함된 사용자 찾기
-    @Query("SELECT u FROM User u WHERE u.email LIKE %:domain%")
+    // 이메일 도메인이 일치하는 사용자 찾기 (email_domain 인덱스 조회, email_domain 은 소문자로 저장)
+    @Query("SELECT u FROM User u WHERE u.emailDomain = lower(:domain) ORDER BY u.email")
     List<User> findByEmailDomain(@Param("domain") String domain);
     
+    // 이메일 도메인별 사용자 수 (사용자 수 내림차순, pageable 의 크기가 SQL LIMIT 으로 적용됨)
+    @Query("SELECT new com.example.helloworld.service.EmailDomainCount(u.emailDomain, COUNT(u)) FROM User u "
+            + "WHERE u.emailDomain IS NOT NULL GROUP BY u.emailDomain ORDER BY COUNT(u) DESC, u.emailDomain")
+    List<EmailDomainCount> countByEmailDomain(Pageable pageable);
+    
     // 활성 사용자 수 조회
     @Query("SELECT COUNT(u) FROM User u WHERE u.isActive = true")
     Long countActiveUsers();
     
-    // 최근 생성된 사용자 조회 (상위 N개)
-    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC")
-    List<User> findRecentUsers();
+    // 최근 생성된 사용자 조회 (상위 N개, pageable 의 크기가 SQL LIMIT 으로 적용됨)
+    @Query("SELECT u FROM User u ORDER BY u.createdAt DESC, u.id DESC")
+    List<User> findRecentUsers(Pageable pageable);
+    
+    // id 범위 조회 [fromId, toId) (JPA/MyBatis 비교의 말단 구간)
+    @Query("SELECT u FROM User u WHERE u.id >= :fromId AND u.id < :toId ORDER BY u.id")
+    List<User> findByIdRange(@Param("fromId") long fromId, @Param("toId") long toId);
+    
+    // 최소/최대 id (비어 있으면 null)
+    @Query("SELECT MIN(u.id) FROM User u")
+    Long findMinId();
+    
+    @Query("SELECT MAX(u.id) FROM User u")
+    Long findMaxId();
+    
+    // [fromId, toId) 의 활성 사용자 중 조건에 맞는 행을 한 문장으로 비활성화 (영향 행 수 반환)
+    // 선택 조건은 (:p IS NULL OR ...) 형태라 인덱스를 쓰지 못하므로, is_active 도 <> false 로 써서
+    // (is_active, created_at) 인덱스로 구간마다 전체 활성 사용자를 읽지 않고 id 구간(PK)만 읽게 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE User u SET u.isActive = false, u.updatedAt = :updatedAt, u.version = u.version + 1 "
+            + "WHERE u.id >= :fromId AND u.id < :toId AND u.isActive <> false "
+            + "AND (:#{#criteria.username} IS NULL OR u.username LIKE CONCAT('%', :#{#criteria.username}, '%')) "
+            + "AND (:#{#criteria.email} IS NULL OR u.email LIKE CONCAT('%', :#{#criteria.email}, '%')) "
+            + "AND (:#{#criteria.fullName} IS NULL OR u.fullName LIKE CONCAT('%', :#{#criteria.fullName}, '%')) "
+            + "AND (:#{#criteria.domain} IS NULL OR u.emailDomain = :#{#criteria.domain}) "
+            + "AND (:#{#criteria.createdAtFrom} IS NULL OR u.createdAt >= :#{#criteria.createdAtFrom}) "
+            + "AND (:#{#criteria.createdAtBefore} IS NULL OR u.createdAt < :#{#criteria.createdAtBefore}) "
+            + "AND (:#{#criteria.updatedAtFrom} IS NULL OR u.updatedAt >= :#{#criteria.updatedAtFrom}) "
+            + "AND (:#{#criteria.updatedAtBefore} IS NULL OR u.updatedAt < :#{#criteria.updatedAtBefore})")
+    int deactivateMatching(@Param("criteria") UserDeactivationCriteria criteria, @Param("fromId") long fromId,
+                           @Param("toId") long toId, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // [fromId, toId) 에서 updatedAt 시각에 비활성화된 행 (deactivateMatching 직후 같은 트랜잭션에서 변경 행 조회)
+    @Query("SELECT u FROM User u WHERE u.id >= :fromId AND u.id < :toId AND u.isActive = false "
+            + "AND u.updatedAt = :updatedAt ORDER BY u.id")
+    List<User> findDeactivatedInRange(@Param("fromId") long fromId, @Param("toId") long toId,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.helloworld.repository;
+
+import com.example.helloworld.consistency.IdRangeDigest;
+import com.example.helloworld.entity.User;
+import com.example.helloworld.service.UserCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public interface UserRepositoryCustom {
+    
+    // 오프셋 방식 페이지 내용 조회 (COUNT 없음, 정렬은 findAllAfterCursor 와 같음)
+    List<User> findPage(long offset, int limit, String sortBy);
+    
+    // 키셋(커서) 방식 페이징 조회 (OFFSET/COUNT 없음)
+    List<User> findAllAfterCursor(UserCursor cursor, int limit, String sortBy);
+    
+    // 전체 사용자를 fetchSize 단위 스트림으로 조회 (각 엔티티는 처리 후 detach)
+    void streamAll(int fetchSize, Consumer<User> consumer);
+    
+    // 비활성화 후 변경된 행을 반환 (H2/PostgreSQL 은 한 문장, expectedVersion 이 있으면 일치할 때만 수정)
+    Optional<User> deactivateReturning(Long id, Long expectedVersion, LocalDateTime updatedAt);
+    
+    // [fromId, toId) 를 width 폭의 하위 구간으로 나눈 구간별 행 수/행 해시 합 (H2/PostgreSQL 전용, 행이 있는 구간만)
+    List<IdRangeDigest> digestIdRanges(long fromId, long toId, long width);
+}
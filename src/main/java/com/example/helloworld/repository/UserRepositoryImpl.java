@@ -0,0 +1,196 @@
+package com.example.helloworld.repository;
+
+import com.example.helloworld.consistency.IdRangeDigest;
+import com.example.helloworld.entity.User;
+import com.example.helloworld.service.UserCursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.AvailableHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * UserRepository 의 사용자 정의 구현 (Spring Data 가 Impl 접미사로 자동 연결)
+ */
+public class UserRepositoryImpl implements UserRepositoryCustom {
+    
+    private static final String USER_COLUMNS = "id, username, email, email_domain, full_name, created_at, updated_at, is_active, version";
+    
+    // 행 해시 입력 (UserMapper.xml 의 rowHashInput 과 같은 문자열이 되어야 한다)
+    private static final String ROW_HASH_INPUT = "concat(cast(u.id as String), '|', u.username, '|', u.email, '|', "
+            + "coalesce(u.fullName, ''), '|', cast(u.createdAt as String), '|', coalesce(cast(u.updatedAt as String), ''), '|', "
+            + "case when u.isActive = true then '1' else '0' end, '|', cast(u.version as String))";
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    /**
+     * 오프셋 방식 페이징 조회
+     * 정렬 순서는 키셋 조회(findAllAfterCursor)와 같으므로 두 모드를 바꿔도 순서가 같다.
+     */
+    @Override
+    public List<User> findPage(long offset, int limit, String sortBy) {
+        String sort = UserCursor.normalizeSortBy(sortBy);
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        query.orderBy(order(cb, root, sort));
+        
+        return entityManager.createQuery(query.select(root))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    /**
+     * 키셋(커서) 방식 페이징 조회
+     * 정렬 순서는 UserMapper.xml 의 findAllAfterCursor 와 동일하다.
+     */
+    @Override
+    public List<User> findAllAfterCursor(UserCursor cursor, int limit, String sortBy) {
+        String sort = UserCursor.normalizeSortBy(sortBy);
+        HibernateCriteriaBuilder cb = entityManager.unwrap(Session.class).getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> root = query.from(User.class);
+        Path<Long> id = root.get("id");
+        
+        if (UserCursor.isTimeSort(sort)) {
+            Path<LocalDateTime> key = root.get(sort);
+            if (cursor != null && cursor.getTimeKey() == null) {
+                // updatedAt 이 null 인 행은 맨 뒤이므로 null 행 안에서 id 로만 이어 간다
+                query.where(cb.isNull(key), cb.lessThan(id, cursor.getId()));
+            } else if (cursor != null) {
+                // (key, id) < (cursorKey, cursorId), 그 뒤의 null 행 포함
+                Predicate after = cb.or(
+                        cb.lessThan(key, cursor.getTimeKey()),
+                        cb.and(cb.equal(key, cursor.getTimeKey()), cb.lessThan(id, cursor.getId())),
+                        cb.isNull(key));
+                query.where(after);
+            }
+        } else if (cursor != null) {
+            Expression<String> key = stringKey(cb, root, sort);
+            // (key, id) > (cursorKey, cursorId)
+            Predicate after = cb.or(
+                    cb.greaterThan(key, cursor.getStringKey()),
+                    cb.and(cb.equal(key, cursor.getStringKey()), cb.greaterThan(id, cursor.getId())));
+            query.where(after);
+        }
+        query.orderBy(order(cb, root, sort));
+        
+        return entityManager.createQuery(query.select(root))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    /**
+     * 전체 사용자 스트림 조회
+     * 영속성 컨텍스트에 엔티티가 쌓이지 않도록 처리한 엔티티는 바로 detach 한다.
+     */
+    @Override
+    public void streamAll(int fetchSize, Consumer<User> consumer) {
+        try (Stream<User> stream = entityManager.createQuery("SELECT u FROM User u ORDER BY u.id", User.class)
+                .setHint(AvailableHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(AvailableHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            stream.forEach(user -> {
+                consumer.accept(user);
+                entityManager.detach(user);
+            });
+        }
+    }
+    
+    /**
+     * 비활성화 후 변경된 행 반환
+     * H2 는 FINAL TABLE (UPDATE ...), PostgreSQL 은 UPDATE ... RETURNING 으로 조회 없이 한 문장으로 처리하고,
+     * 그 외 DB 는 JPQL 일괄 UPDATE 후 find 로 조회한다. 수정마다 version 이 1 증가한다.
+     * 반환된 엔티티는 영속성 컨텍스트에 이미 로딩된 같은 사용자가 없을 때만 최신 값이므로
+     * 해당 사용자를 먼저 로딩하지 않은 트랜잭션에서 호출해야 한다.
+     * @return 비활성화된 사용자 (대상이 없거나 version 이 다르면 empty)
+     */
+    @Override
+    public Optional<User> deactivateReturning(Long id, Long expectedVersion, LocalDateTime updatedAt) {
+        String where = expectedVersion != null ? " WHERE id = :id AND version = :version" : " WHERE id = :id";
+        String update = "UPDATE users SET is_active = FALSE, updated_at = :updatedAt, version = version + 1" + where;
+        
+        Dialect dialect = dialect();
+        Query query;
+        if (dialect instanceof H2Dialect) {
+            query = entityManager.createNativeQuery("SELECT " + USER_COLUMNS + " FROM FINAL TABLE (" + update + ")", User.class);
+        } else if (dialect instanceof PostgreSQLDialect) {
+            query = entityManager.createNativeQuery(update + " RETURNING " + USER_COLUMNS, User.class);
+        } else {
+            Query fallback = entityManager.createQuery("UPDATE User u SET u.isActive = false, u.updatedAt = :updatedAt, "
+                    + "u.version = u.version + 1 WHERE u.id = :id" + (expectedVersion != null ? " AND u.version = :version" : ""));
+            bindDeactivateParameters(fallback, id, expectedVersion, updatedAt);
+            return fallback.executeUpdate() > 0 ? Optional.ofNullable(entityManager.find(User.class, id)) : Optional.empty();
+        }
+        bindDeactivateParameters(query, id, expectedVersion, updatedAt);
+        List<?> rows = query.getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of((User) rows.get(0));
+    }
+    
+    /**
+     * 구간별 행 수/행 해시 합 (엔티티 매핑을 거친 JPQL, 행 해시는 DB 함수로 계산)
+     * 구간 번호 식은 GROUP BY 와 SELECT 가 같은 식이어야 하므로 파라미터 대신 long 값을 그대로 넣는다.
+     */
+    @Override
+    public List<IdRangeDigest> digestIdRanges(long fromId, long toId, long width) {
+        String hashFunction = dialect() instanceof PostgreSQLDialect ? "hashtext" : dialect() instanceof H2Dialect ? "ORA_HASH" : null;
+        if (hashFunction == null) {
+            throw new IllegalStateException("구간 해시 비교는 H2/PostgreSQL 에서만 지원합니다.");
+        }
+        String bucket = "(u.id - " + fromId + ") / " + width;
+        return entityManager.createQuery("SELECT new com.example.helloworld.consistency.IdRangeDigest(" + bucket + ", COUNT(u), "
+                        + "SUM(cast(function('" + hashFunction + "', " + ROW_HASH_INPUT + ") as Long))) "
+                        + "FROM User u WHERE u.id >= :fromId AND u.id < :toId GROUP BY " + bucket, IdRangeDigest.class)
+                .setParameter("fromId", fromId)
+                .setParameter("toId", toId)
+                .getResultList();
+    }
+    
+    /**
+     * 페이징 정렬 (문자열 키는 오름차순, 시간 키는 내림차순 NULLS LAST, 같은 키는 id 로 같은 방향)
+     */
+    private static List<Order> order(HibernateCriteriaBuilder cb, Root<User> root, String sort) {
+        Path<Long> id = root.get("id");
+        if (UserCursor.isTimeSort(sort)) {
+            return List.of(cb.desc(root.get(sort), false), cb.desc(id));
+        }
+        return List.of(cb.asc(stringKey(cb, root, sort)), cb.asc(id));
+    }
+    
+    // fullName 은 null 을 빈 문자열로 정렬 (UserMapper.xml 의 full_name_sort 와 동일)
+    private static Expression<String> stringKey(HibernateCriteriaBuilder cb, Root<User> root, String sort) {
+        return UserCursor.SORT_FULL_NAME.equals(sort) ? cb.coalesce(root.get("fullName"), "") : root.get(sort);
+    }
+    
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+    }
+    
+    private static void bindDeactivateParameters(Query query, Long id, Long expectedVersion, LocalDateTime updatedAt) {
+        query.setParameter("id", id);
+        query.setParameter("updatedAt", updatedAt);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.example.helloworld.schema;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.service.UserCursor;
+import com.example.helloworld.service.UserDeactivationCriteria;
+import com.example.helloworld.service.UserSearchCriteria;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * UserMapper.xml 문장별 실행 계획(EXPLAIN) 검사
+ * 등록된 모든 문장(INSERT 제외)을 샘플 파라미터로 바인딩해 EXPLAIN 하고, users 전체 스캔이 있으면 실패로 표시한다.
+ * 동적 SQL 은 정렬 기준/조건별 변형마다 따로 검사하며, 샘플 파라미터가 없는 새 문장도 실패로 표시해
+ * 인덱스 검토 없이 문장이 추가되지 않도록 한다.
+ *
+ * H2 는 계획의 tableScan, PostgreSQL 은 enable_seqscan = off 에서도 남는 Seq Scan 을 전체 스캔으로 본다.
+ * (작은 테이블에서는 PostgreSQL 이 인덱스가 있어도 Seq Scan 을 고르므로 비용 대신 사용 가능 여부를 본다.)
+ * 그 외 DB 는 검사하지 않는다. EXPLAIN 은 트랜잭션 안에서 실행하고 항상 롤백한다.
+ */
+@Component
+public class QueryPlanChecker implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryPlanChecker.class);
+
+    private static final String NAMESPACE = UserMapper.class.getName() + ".";
+    // FROM FINAL TABLE (UPDATE ...) 의 delta 테이블은 항상 table scan 으로 표시되므로 안쪽 UPDATE 를 검사한다
+    private static final Pattern FINAL_TABLE = Pattern.compile("FROM\\s+FINAL\\s+TABLE\\s*\\((.*)\\)\\s*$",
+            Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final String[] SORTS = {
+            UserCursor.SORT_USERNAME, UserCursor.SORT_EMAIL, UserCursor.SORT_FULL_NAME,
+            UserCursor.SORT_UPDATED_AT, UserCursor.SORT_CREATED_AT
+    };
+
+    private final SqlSessionFactory sqlSessionFactory;
+    private final DataSource dataSource;
+    private final boolean onStartup;
+    private final boolean failOnFullScan;
+
+    public QueryPlanChecker(SqlSessionFactory sqlSessionFactory,
+                            DataSource dataSource,
+                            @Value("${schema.plan-check.on-startup:false}") boolean onStartup,
+                            @Value("${schema.plan-check.fail-on-full-scan:false}") boolean failOnFullScan) {
+        this.sqlSessionFactory = sqlSessionFactory;
+        this.dataSource = dataSource;
+        this.onStartup = onStartup;
+        this.failOnFullScan = failOnFullScan;
+    }
+
+    /**
+     * 설정 시 기동 중 검사 (fail-on-full-scan 이면 실패 문장이 있을 때 기동 중단)
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!onStartup) {
+            return;
+        }
+        List<StatementPlan> failed = check().stream().filter(StatementPlan::isFailed).toList();
+        if (failed.isEmpty()) {
+            log.info("실행 계획 검사 통과: 전체 스캔 문장 없음");
+            return;
+        }
+        for (StatementPlan plan : failed) {
+            log.warn("실행 계획 검사 실패: {} [{}] {}", plan.getStatement(), plan.getVariant(),
+                    plan.getError() != null ? plan.getError() : plan.getPlan());
+        }
+        if (failOnFullScan) {
+            throw new IllegalStateException("전체 스캔 또는 검사 실패 문장 " + failed.size() + "건");
+        }
+    }
+
+    /**
+     * 모든 UserMapper 문장 검사
+     * @return 문장/변형별 결과 (DB 가 H2/PostgreSQL 이 아니면 빈 목록)
+     */
+    public List<StatementPlan> check() {
+        Configuration configuration = sqlSessionFactory.getConfiguration();
+        String databaseId = configuration.getDatabaseId();
+        if (!"h2".equals(databaseId) && !"postgresql".equals(databaseId)) {
+            log.info("실행 계획 검사 건너뜀: 지원하지 않는 DB ({})", databaseId);
+            return List.of();
+        }
+        Set<String> ids = new TreeSet<>();
+        for (MappedStatement ms : configuration.getMappedStatements()) {
+            if (ms.getId().startsWith(NAMESPACE) && ms.getSqlCommandType() != SqlCommandType.INSERT) {
+                ids.add(ms.getId());
+            }
+        }
+        List<StatementPlan> results = new ArrayList<>();
+        for (String id : ids) {
+            MappedStatement ms = configuration.getMappedStatement(id);
+            String name = id.substring(NAMESPACE.length());
+            Map<String, Object> variants = sampleParameters(name);
+            if (variants.isEmpty()) {
+                results.add(new StatementPlan(name, "-", null, null, false, "샘플 파라미터가 없습니다."));
+                continue;
+            }
+            for (Map.Entry<String, Object> variant : variants.entrySet()) {
+                results.add(explain(ms, name, variant.getKey(), variant.getValue(), databaseId));
+            }
+        }
+        return results;
+    }
+
+    private StatementPlan explain(MappedStatement ms, String name, String variant, Object parameter, String databaseId) {
+        BoundSql boundSql = ms.getBoundSql(parameter);
+        String sql = boundSql.getSql().trim();
+        Matcher matcher = FINAL_TABLE.matcher(sql);
+        if (matcher.find()) {
+            sql = matcher.group(1).trim();
+        }
+        boolean postgres = "postgresql".equals(databaseId);
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                if (postgres) {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("SET LOCAL enable_seqscan = off");
+                    }
+                }
+                StringBuilder plan = new StringBuilder();
+                try (PreparedStatement ps = connection.prepareStatement("EXPLAIN " + sql)) {
+                    new DefaultParameterHandler(ms, parameter, boundSql).setParameters(ps);
+                    try (ResultSet rs = ps.executeQuery()) {
+                        while (rs.next()) {
+                            if (plan.length() > 0) {
+                                plan.append('\n');
+                            }
+                            plan.append(rs.getString(1));
+                        }
+                    }
+                }
+                String text = plan.toString();
+                boolean fullScan = postgres ? text.contains("Seq Scan") : text.contains(".tableScan");
+                return new StatementPlan(name, variant, sql, text, fullScan, null);
+            } finally {
+                connection.rollback();
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException | RuntimeException e) {
+            return new StatementPlan(name, variant, sql, null, false, e.getMessage());
+        }
+    }
+
+    /**
+     * 문장별 샘플 파라미터 (변형 이름 -> 파라미터)
+     * 동적 SQL 의 분기마다 변형을 둔다. 새 문장을 추가하면 여기에도 추가해야 한다.
+     */
+    private static Map<String, Object> sampleParameters(String statement) {
+        Map<String, Object> variants = new LinkedHashMap<>();
+        switch (statement) {
+            case "findAll", "streamAll", "findByIsActiveTrue", "countActiveUsers", "countAll" ->
+                    variants.put("default", null);
+            case "findById", "deleteById" -> variants.put("default", params("id", 1L));
+            case "findByIds" -> {
+                variants.put("orderBy=username", params("ids", List.of(1L, 2L), "isActive", null, "orderBy", "username"));
+                variants.put("isActive,orderBy=createdAt", params("ids", List.of(1L, 2L), "isActive", true, "orderBy", null));
+            }
+            case "findByUsernameContaining" -> variants.put("default", params("username", "user"));
+            case "findByEmailDomain" -> variants.put("default", params("domain", "example.com"));
+            case "countByEmailDomain" -> variants.put("default", params("limit", 20));
+            case "findRecentUsers" -> variants.put("default", params("limit", 10));
+            case "existsByUsername" -> variants.put("default", params("username", "user1"));
+            case "existsByEmail" -> variants.put("default", params("email", "user1@example.com"));
+            case "findByUsernameInOrEmailIn" -> {
+                variants.put("usernames,emails", params("usernames", List.of("user1", "user2"),
+                        "emails", List.of("user1@example.com", "user2@example.com")));
+                variants.put("usernames", params("usernames", List.of("user1"), "emails", List.of()));
+                variants.put("emails", params("usernames", List.of(), "emails", List.of("user1@example.com")));
+            }
+            case "update", "updateReturning" -> {
+                variants.put("version", sampleUser(1L));
+                variants.put("no version", sampleUser(null));
+            }
+            case "findMinId", "findMaxId" -> variants.put("default", null);
+            case "findByIdRange" -> variants.put("default", params("fromId", 1L, "toId", 65L));
+            case "digestIdRanges" -> variants.put("default", params("fromId", 1L, "toId", 1025L, "width", 64L));
+            case "findAllWithPagination" -> {
+                for (String sortBy : SORTS) {
+                    variants.put("sortBy=" + sortBy, params("offset", 0, "size", 20, "sortBy", sortBy));
+                }
+            }
+            case "findAllAfterCursor" -> {
+                for (String sortBy : SORTS) {
+                    variants.put("sortBy=" + sortBy, params("cursor", null, "limit", 20, "sortBy", sortBy));
+                    variants.put("sortBy=" + sortBy + ",cursor",
+                            params("cursor", UserCursor.of(sampleUser(1L), sortBy), "limit", 20, "sortBy", sortBy));
+                }
+            }
+            case "searchUsers" -> {
+                variants.put("none", params("criteria", criteria(null, null), "offset", null, "limit", null));
+                variants.put("isActive", params("criteria", criteria(true, null), "offset", null, "limit", null));
+                variants.put("all", params("criteria", new UserSearchCriteria("user", "example", "User", true,
+                        "example.com", LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)), "offset", null, "limit", null));
+                variants.put("isActive,page", params("criteria", criteria(true, null), "offset", 20L, "limit", 20));
+            }
+            case "countSearchUsers" -> {
+                variants.put("isActive", params("criteria", criteria(true, null)));
+                variants.put("domain", params("criteria", criteria(null, "example.com")));
+            }
+            case "deactivateMatching", "deactivateMatchingReturning" -> {
+                variants.put("domain", params("criteria", new UserDeactivationCriteria(null, null, null, "example.com",
+                        null, null, null, null), "fromId", 1L, "toId", 10001L, "updatedAt", LocalDateTime.now()));
+                variants.put("all", params("criteria", new UserDeactivationCriteria("user", "example", "User", "example.com",
+                        LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31), LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)),
+                        "fromId", 1L, "toId", 10001L, "updatedAt", LocalDateTime.now()));
+            }
+            case "findDeactivatedInRange" ->
+                    variants.put("default", params("fromId", 1L, "toId", 10001L, "updatedAt", LocalDateTime.now()));
+            default -> { }
+        }
+        return variants;
+    }
+
+    private static UserSearchCriteria criteria(Boolean isActive, String domain) {
+        return new UserSearchCriteria(null, null, null, isActive, domain, null, null);
+    }
+
+    private static Map<String, Object> params(Object... keyValues) {
+        Map<String, Object> params = new HashMap<>();
+        for (int i = 0; i < keyValues.length; i += 2) {
+            params.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return params;
+    }
+
+    private static User sampleUser(Long version) {
+        User user = new User("user1", "user1@example.com", "User 1");
+        user.setId(1L);
+        user.setCreatedAt(LocalDateTime.now());
+        user.setUpdatedAt(LocalDateTime.now());
+        user.setIsActive(true);
+        user.setVersion(version);
+        return user;
+    }
+}
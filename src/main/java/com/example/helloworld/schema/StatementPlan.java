@@ -0,0 +1,36 @@
+package com.example.helloworld.schema;
+
+/**
+ * UserMapper 문장 하나(동적 SQL 변형 하나)의 실행 계획 검사 결과
+ */
+public class StatementPlan {
+    private final String statement;
+    private final String variant;
+    private final String sql;
+    private final String plan;
+    private final boolean fullScan;
+    private final String error;
+
+    public StatementPlan(String statement, String variant, String sql, String plan, boolean fullScan, String error) {
+        this.statement = statement;
+        this.variant = variant;
+        this.sql = sql;
+        this.plan = plan;
+        this.fullScan = fullScan;
+        this.error = error;
+    }
+
+    /**
+     * 전체 스캔이거나 EXPLAIN 을 실행하지 못한 경우 (샘플 파라미터 누락 포함)
+     */
+    public boolean isFailed() {
+        return fullScan || error != null;
+    }
+
+    public String getStatement() { return statement; }
+    public String getVariant() { return variant; }
+    public String getSql() { return sql; }
+    public String getPlan() { return plan; }
+    public boolean isFullScan() { return fullScan; }
+    public String getError() { return error; }
+}
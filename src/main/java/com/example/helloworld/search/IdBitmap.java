@@ -0,0 +1,382 @@
+package com.example.helloworld.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Roaring 방식의 압축 ID 비트맵
+ * ID 의 상위 비트(id >>> 16)별로 컨테이너를 두고, 컨테이너는 원소 수에 따라
+ * 정렬된 char 배열(ARRAY_MAX 개 이하) 또는 65536 비트 비트맵으로 저장한다.
+ * 교집합/차집합은 같은 키의 컨테이너끼리만 계산하므로 ID 하나씩 비교하지 않고
+ * 비트맵 컨테이너는 64개 단위 AND 로 처리한다.
+ *
+ * ID 는 0 이상이어야 하며, 동기화는 호출하는 인덱스가 담당한다.
+ */
+final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private long[] keys = new long[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    /**
+     * 오름차순 ID 목록으로 생성
+     */
+    static IdBitmap of(List<Long> sortedIds) {
+        IdBitmap bitmap = new IdBitmap();
+        for (Long id : sortedIds) {
+            bitmap.add(id);
+        }
+        return bitmap;
+    }
+
+    void add(long id) {
+        long key = id >>> 16;
+        int index = findKey(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        containers[index].add((char) id);
+    }
+
+    void remove(long id) {
+        int index = findKey(id >>> 16);
+        if (index >= 0 && containers[index].remove((char) id) && containers[index].cardinality == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        }
+    }
+
+    boolean contains(long id) {
+        int index = findKey(id >>> 16);
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    long cardinality() {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            count += containers[i].cardinality;
+        }
+        return count;
+    }
+
+    /**
+     * 오름차순으로 모든 ID 순회
+     */
+    void forEach(LongConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    /**
+     * 교집합
+     */
+    static IdBitmap and(IdBitmap a, IdBitmap b) {
+        IdBitmap result = new IdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = Container.and(a.containers[i], b.containers[j]);
+                if (container.cardinality > 0) {
+                    result.insertContainer(result.size, a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 차집합 (a 에만 있는 ID)
+     */
+    static IdBitmap andNot(IdBitmap a, IdBitmap b) {
+        IdBitmap result = new IdBitmap();
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            Container container = j < b.size && b.keys[j] == a.keys[i]
+                    ? Container.andNot(a.containers[i], b.containers[j])
+                    : a.containers[i].copy();
+            if (container.cardinality > 0) {
+                result.insertContainer(result.size, a.keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 교집합 크기 (결과 비트맵을 만들지 않음)
+     */
+    static long andCardinality(IdBitmap a, IdBitmap b) {
+        long count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                count += Container.andCardinality(a.containers[i], b.containers[j]);
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private int findKey(long key) {
+        // 새 ID 는 대부분 마지막 컨테이너에 들어간다
+        if (size > 0 && keys[size - 1] == key) {
+            return size - 1;
+        }
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertContainer(int index, long key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    /**
+     * 하위 16비트 값의 집합 (values 또는 words 중 하나만 사용)
+     */
+    private static final class Container {
+
+        private char[] values;
+        private long[] words;
+        private int cardinality;
+
+        Container() {
+            values = new char[4];
+        }
+
+        private Container(char[] values, long[] words, int cardinality) {
+            this.values = values;
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        boolean add(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before | (1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality++;
+                return true;
+            }
+            int position = cardinality > 0 && values[cardinality - 1] < value
+                    ? -cardinality - 1
+                    : Arrays.binarySearch(values, 0, cardinality, value);
+            if (position >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                return add(value);
+            }
+            int insertAt = -position - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(Math.max(cardinality * 2, 4), ARRAY_MAX));
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+            values[insertAt] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                words[value >>> 6] = before & ~(1L << value);
+                if (before == words[value >>> 6]) {
+                    return false;
+                }
+                cardinality--;
+                return true;
+            }
+            int position = Arrays.binarySearch(values, 0, cardinality, value);
+            if (position < 0) {
+                return false;
+            }
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+            return true;
+        }
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        void forEach(long base, LongConsumer action) {
+            if (words != null) {
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    long word = words[w];
+                    while (word != 0) {
+                        action.accept(base + (w << 6) + Long.numberOfTrailingZeros(word));
+                        word &= word - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(base + values[i]);
+                }
+            }
+        }
+
+        Container copy() {
+            return new Container(values != null ? Arrays.copyOf(values, cardinality) : null,
+                    words != null ? words.clone() : null, cardinality);
+        }
+
+        private void toBitmap() {
+            words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            values = null;
+        }
+
+        static Container and(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                long[] words = new long[BITMAP_WORDS];
+                int cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    words[w] = a.words[w] & b.words[w];
+                    cardinality += Long.bitCount(words[w]);
+                }
+                return fromWords(words, cardinality);
+            }
+            if (a.words != null) {
+                return filter(b, a, true);
+            }
+            if (b.words != null) {
+                return filter(a, b, true);
+            }
+            Container small = a.cardinality <= b.cardinality ? a : b;
+            Container large = small == a ? b : a;
+            if (small.cardinality * 8 < large.cardinality) {
+                return filter(small, large, true);
+            }
+            char[] values = new char[small.cardinality];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < a.cardinality && j < b.cardinality) {
+                if (a.values[i] < b.values[j]) {
+                    i++;
+                } else if (a.values[i] > b.values[j]) {
+                    j++;
+                } else {
+                    values[count++] = a.values[i];
+                    i++;
+                    j++;
+                }
+            }
+            return new Container(values, null, count);
+        }
+
+        static Container andNot(Container a, Container b) {
+            if (a.words == null) {
+                return filter(a, b, false);
+            }
+            long[] words = a.words.clone();
+            int cardinality = a.cardinality;
+            if (b.words != null) {
+                cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    words[w] &= ~b.words[w];
+                    cardinality += Long.bitCount(words[w]);
+                }
+            } else {
+                for (int i = 0; i < b.cardinality; i++) {
+                    char value = b.values[i];
+                    if ((words[value >>> 6] & (1L << value)) != 0) {
+                        words[value >>> 6] &= ~(1L << value);
+                        cardinality--;
+                    }
+                }
+            }
+            return fromWords(words, cardinality);
+        }
+
+        static int andCardinality(Container a, Container b) {
+            if (a.words != null && b.words != null) {
+                int cardinality = 0;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    cardinality += Long.bitCount(a.words[w] & b.words[w]);
+                }
+                return cardinality;
+            }
+            // 배열 쪽(둘 다 배열이면 작은 쪽)의 값을 다른 쪽에서 찾는다
+            Container array = b.words != null || (a.words == null && a.cardinality <= b.cardinality) ? a : b;
+            Container other = array == a ? b : a;
+            int count = 0;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (other.contains(array.values[i])) {
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        /**
+         * 배열 컨테이너 중 other 에 있는(keep=true) 또는 없는(keep=false) 값만 남긴다
+         */
+        private static Container filter(Container array, Container other, boolean keep) {
+            char[] values = new char[array.cardinality];
+            int count = 0;
+            for (int i = 0; i < array.cardinality; i++) {
+                if (other.contains(array.values[i]) == keep) {
+                    values[count++] = array.values[i];
+                }
+            }
+            return new Container(values, null, count);
+        }
+
+        /**
+         * 원소 수가 ARRAY_MAX 이하이면 배열 컨테이너로 변환
+         */
+        private static Container fromWords(long[] words, int cardinality) {
+            if (cardinality > ARRAY_MAX) {
+                return new Container(null, words, cardinality);
+            }
+            char[] values = new char[cardinality];
+            int count = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new Container(values, null, cardinality);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.helloworld.search;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.snapshot.UserSnapshot;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자명/이메일 중복 확인용 Bloom 필터
+ * mightContain 이 false 이면 DB 를 조회하지 않고 "없음"으로 판단하고, true 이면 EXISTS 쿼리로 확인한다.
+ *
+ * 애플리케이션 기동 시 UserSnapshotRebuilder 의 스캔으로 구축하며, 쓰기 이벤트는 커밋 전(발행 즉시)과 커밋 후에 한 번 더 추가한다.
+ * 커밋 후 추가는 재구축 스캔 이후에 커밋된 쓰기가 교체 전 필터에만 남아 사라지는 것을 막는다.
+ * 애플리케이션 밖에서 추가된 값은 다음 재구축 전까지 "없음"으로 판단될 수 있으므로 생성 시 유니크 제약 위반은 409 로 처리한다.
+ * 롤백되거나 변경·삭제된 값은 남아 있어도 거짓 양성일 뿐 결과는 틀리지 않는다.
+ * 추가 건수가 용량을 넘으면 거짓 양성률이 올라가므로 재구축 확인 주기마다 확인해 더 큰 크기로 다시 구축한다.
+ */
+@Component
+public class UserExistenceFilter implements UserSnapshotTarget {
+
+    private static final Logger log = LoggerFactory.getLogger(UserExistenceFilter.class);
+
+    private final UserMapper userMapper;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    // 필터는 AtomicLongArray 라 잠금 없이 조회한다 (추가와 교체만 UserSnapshot 의 쓰기 잠금 안에서)
+    private final UserSnapshot<Filters> snapshot;
+    // 교체 직전 필터: 재구축 시작 전에 발행되고 스캔 이후 커밋된 쓰기를 놓치지 않도록 다음 확인 주기까지 함께 조회
+    private volatile Filters retired;
+    private volatile boolean ready;
+    private final AtomicLong definiteMisses = new AtomicLong();
+    private final AtomicLong databaseChecks = new AtomicLong();
+
+    public UserExistenceFilter(UserMapper userMapper,
+                               @Value("${user-bloom-filter.enabled:true}") boolean enabled,
+                               @Value("${user-bloom-filter.expected-insertions:100000}") long expectedInsertions,
+                               @Value("${user-bloom-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userMapper = userMapper;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        // 구축 전에는 조회하지 않으므로 최소 크기로 시작
+        this.snapshot = new UserSnapshot<>(new Filters(1, falsePositiveRate));
+    }
+
+    /**
+     * 쓰기 이벤트 발행 즉시 추가 (커밋 직후 확인에서 "없음"으로 잘못 판단하지 않도록 커밋 전에 반영)
+     */
+    @EventListener
+    public void onUserChange(UserChangeEvent event) {
+        add(event);
+    }
+
+    /**
+     * 커밋 후 다시 추가
+     * 발행 시점에 재구축 스캔이 이미 시작돼 있었고 스캔이 이 행을 읽지 못했으면 발행 시 추가는 교체 전 필터에만 남으므로,
+     * 커밋된 뒤 현재 필터(재구축 중이면 다시 반영할 목록)에 넣는다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserCommitted(UserChangeEvent event) {
+        add(event);
+    }
+
+    private void add(UserChangeEvent event) {
+        if (enabled && event.getUser() != null && event.getType() != UserChangeEvent.Type.DELETED) {
+            snapshot.apply(event);
+        }
+    }
+
+    /**
+     * 추가 건수가 용량을 넘었으면 재구축 대상 (쓰기 요청 스레드가 아닌 재구축 확인 주기에 수행)
+     * 확인 주기마다 호출되므로 지난 교체의 이전 필터도 여기서 놓는다.
+     */
+    @Override
+    public boolean isRebuildDue(long now) {
+        retired = null;
+        Filters current = snapshot.current();
+        return enabled && ready && current.insertions > current.capacity;
+    }
+
+    /**
+     * 전체 테이블로 필터 재구축 시작 (기동 시 expected-insertions, 포화 시 추가 건수의 두 배와 현재 행 수의 두 배 중 큰 크기)
+     */
+    @Override
+    public UserSnapshot<?>.Rebuild startRebuild() {
+        if (!enabled) {
+            return null;
+        }
+        long capacity = ready ? snapshot.current().insertions * 2 : expectedInsertions;
+        long size = Math.max(capacity, userMapper.countAll() * 2);
+        return snapshot.startRebuild(new Filters(size, falsePositiveRate), this::swapped);
+    }
+
+    /**
+     * 새 필터로 교체된 직후 (쓰기 잠금 안)
+     */
+    private void swapped(Filters previous, Filters rebuilt) {
+        if (ready) {
+            retired = previous;
+        }
+        ready = true;
+        log.info("사용자명/이메일 Bloom 필터 구축 완료: {}건, 용량 {}, 비트 {}, 해시 {}개",
+                rebuilt.insertions, rebuilt.capacity, rebuilt.usernames.getBitCount(), rebuilt.usernames.getHashCount());
+    }
+
+    /**
+     * 사용자명이 존재할 수 있는지 확인 (필터를 사용할 수 없으면 true)
+     */
+    public boolean mightContainUsername(String username) {
+        if (!ready || username == null) {
+            return true;
+        }
+        Filters current = snapshot.current();
+        Filters previous = retired;
+        return record(current.usernames.mightContain(username)
+                || (previous != null && previous.usernames.mightContain(username)));
+    }
+
+    /**
+     * 이메일이 존재할 수 있는지 확인 (필터를 사용할 수 없으면 true)
+     */
+    public boolean mightContainEmail(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        Filters current = snapshot.current();
+        Filters previous = retired;
+        return record(current.emails.mightContain(email)
+                || (previous != null && previous.emails.mightContain(email)));
+    }
+
+    public long getDefiniteMisses() {
+        return definiteMisses.get();
+    }
+
+    public long getDatabaseChecks() {
+        return databaseChecks.get();
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? databaseChecks : definiteMisses).incrementAndGet();
+        return mightContain;
+    }
+
+    private static class Filters implements UserSnapshot.Rows {
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        private final long capacity;
+        private long insertions;
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+            this.capacity = capacity;
+        }
+
+        @Override
+        public void put(User user) {
+            boolean changed = false;
+            if (user.getUsername() != null) {
+                changed |= usernames.put(user.getUsername());
+            }
+            if (user.getEmail() != null) {
+                changed |= emails.put(user.getEmail());
+            }
+            // 발행 시와 커밋 후 두 번 추가되는 같은 사용자는 한 번만 센다
+            if (changed) {
+                insertions++;
+            }
+        }
+
+        // 변경·삭제된 값은 지우지 않는다 (거짓 양성일 뿐 결과는 틀리지 않음)
+        @Override
+        public void remove(Long id) {
+        }
+
+        @Override
+        public void apply(UserChangeEvent event) {
+            if (event.getType() != UserChangeEvent.Type.DELETED && event.getUser() != null) {
+                put(event.getUser());
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.example.helloworld.search;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.service.UserSearchCriteria;
+import com.example.helloworld.snapshot.UserSnapshot;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 고급 검색(advanced-search) 조건별 비트맵 색인
+ * 활성 상태, 이메일 도메인, 생성일(created_at 의 날짜) 버킷마다 ID 비트맵(IdBitmap)을 두고
+ * 조건 비트맵의 교집합으로 정확한 ID 집합을 구한다. 문자열(부분 일치) 조건은 UserNgramIndex 결과를 비트맵으로 바꿔 교집합한다.
+ *
+ * 정렬(created_at 내림차순, 같으면 id 내림차순)은 최신 생성일 버킷부터 교집합 크기만 세어 앞 페이지를 건너뛰고,
+ * 요청한 페이지가 걸친 버킷의 ID 만 꺼내 정렬하므로 비용이 테이블 크기가 아니라 페이지 앞쪽 일치 건수에 비례한다.
+ * 애플리케이션 기동 시(웹 요청 수신 전) 전체 테이블로 구축하고 JPA/MyBatis 쓰기의 UserChangeEvent 로 커밋 후 갱신한다.
+ * 애플리케이션을 거치지 않은 변경(H2 콘솔, 다른 인스턴스, JDBC 일괄 적재 등)은 이벤트가 없어 색인에서 빠지고 전체 건수가
+ * 틀리므로 rebuild-interval-ms 마다 다시 구축해 맞춘다. 기본 주기가 n-gram 색인과 같아 두 색인은 같은 스캔(UserSnapshotRebuilder)으로
+ * 함께 재구축된다.
+ */
+@Component
+public class UserFilterIndex implements UserSnapshotTarget {
+
+    private static final Logger log = LoggerFactory.getLogger(UserFilterIndex.class);
+
+    // created_at 이 없는 행의 버킷 (가장 마지막 순서, 생성일 조건이 있으면 제외)
+    private static final long NO_DAY = Long.MIN_VALUE;
+    // {created_at(µs), id} 내림차순
+    private static final Comparator<long[]> NEWEST_FIRST =
+            Comparator.<long[]>comparingLong(entry -> entry[0]).thenComparingLong(entry -> entry[1]).reversed();
+
+    private final UserSnapshotRebuilder rebuilder;
+    private final UserNgramIndex ngramIndex;
+    private final boolean enabled;
+    private final int maxResults;
+    private final long rebuildIntervalMs;
+
+    private final UserSnapshot<Bitmaps> snapshot = new UserSnapshot<>(new Bitmaps());
+    private volatile boolean ready;
+
+    public UserFilterIndex(UserSnapshotRebuilder rebuilder,
+                           UserNgramIndex ngramIndex,
+                           @Value("${filter-index.enabled:true}") boolean enabled,
+                           @Value("${search-index.max-results:5000}") int maxResults,
+                           @Value("${filter-index.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.rebuilder = rebuilder;
+        this.ngramIndex = ngramIndex;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    @Override
+    public boolean isRebuildDue(long now) {
+        return enabled && now - snapshot.getLastRebuiltAt() >= rebuildIntervalMs;
+    }
+
+    @Override
+    public UserSnapshot<?>.Rebuild startRebuild() {
+        return enabled ? snapshot.startRebuild(new Bitmaps(), this::swapped) : null;
+    }
+
+    /**
+     * DB 전체를 다시 읽어 색인만 즉시 재구축 (애플리케이션 밖에서 추가/변경/삭제된 행 반영)
+     */
+    public void rebuild() {
+        rebuilder.rebuild(this);
+    }
+
+    private void swapped(Bitmaps previous, Bitmaps rebuilt) {
+        if (!ready) {
+            ready = true;
+            log.info("사용자 필터 비트맵 색인 구축 완료: {}건, 도메인 {}개, 생성일 {}일",
+                    rebuilt.rows.size(), rebuilt.byDomain.size(), rebuilt.byCreatedDay.size());
+        }
+    }
+
+    /**
+     * JPA/MyBatis 쓰기 커밋 후 색인 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        if (enabled) {
+            snapshot.apply(event);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return snapshot.read(bitmaps -> bitmaps.rows.size());
+    }
+
+    /**
+     * 마지막 (재)구축 완료 시각 (epoch millis, 구축 전이면 0)
+     */
+    public long getLastRebuiltAt() {
+        return snapshot.getLastRebuiltAt();
+    }
+
+    /**
+     * 조건에 맞는 ID 한 페이지 (created_at 내림차순, 같으면 id 내림차순)
+     * @param criteria 검색 조건
+     * @param offset 건너뛸 건수
+     * @param limit 최대 건수
+     * @return 페이지 ID 와 전체 일치 건수 (색인을 사용할 수 없거나 문자열 조건을 n-gram 색인으로 처리할 수 없으면 empty)
+     */
+    public Optional<Hits> search(UserSearchCriteria criteria, long offset, int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        IdBitmap candidates = null;
+        if (criteria.hasTextTerms()) {
+            Map<UserNgramIndex.Field, String> terms = new EnumMap<>(UserNgramIndex.Field.class);
+            terms.put(UserNgramIndex.Field.USERNAME, criteria.getUsername());
+            terms.put(UserNgramIndex.Field.EMAIL, criteria.getEmail());
+            terms.put(UserNgramIndex.Field.FULL_NAME, criteria.getFullName());
+            Optional<List<Long>> ids = ngramIndex.search(terms, false, Integer.MAX_VALUE);
+            if (ids.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates = IdBitmap.of(ids.get());
+        }
+        IdBitmap textMatches = candidates;
+        return Optional.of(snapshot.read(index -> find(index, textMatches, criteria, offset, limit)));
+    }
+
+    /**
+     * 조건 비트맵 교집합 후 한 페이지 (읽기 잠금 안에서 호출)
+     */
+    private static Hits find(Bitmaps index, IdBitmap candidates, UserSearchCriteria criteria, long offset, int limit) {
+        IdBitmap filter = candidates != null ? IdBitmap.and(candidates, index.live) : index.live;
+        if (criteria.getIsActive() != null) {
+            filter = criteria.getIsActive() ? IdBitmap.and(filter, index.active) : IdBitmap.andNot(filter, index.active);
+        }
+        if (criteria.getDomain() != null) {
+            IdBitmap domain = index.byDomain.get(criteria.getDomain());
+            if (domain == null) {
+                return new Hits(List.of(), 0);
+            }
+            filter = IdBitmap.and(filter, domain);
+        }
+
+        boolean ranged = criteria.getCreatedFrom() != null || criteria.getCreatedTo() != null;
+        long fromDay = criteria.getCreatedFrom() != null ? criteria.getCreatedFrom().toEpochDay()
+                : ranged ? NO_DAY + 1 : NO_DAY;
+        long toDay = criteria.getCreatedTo() != null ? criteria.getCreatedTo().toEpochDay() : Long.MAX_VALUE;
+        NavigableMap<Long, IdBitmap> days = index.byCreatedDay.subMap(fromDay, true, toDay, true);
+
+        // 날짜 버킷을 훑을 때 확인할 행 수(범위 조건이면 범위 전체, 아니면 페이지를 채우는 데 필요한 비율만큼)보다
+        // 일치 건수가 적으면 일치 ID 를 모두 꺼내 정렬한다
+        long matches = filter.cardinality();
+        double scanRows = 0;
+        if (ranged) {
+            for (IdBitmap day : days.values()) {
+                scanRows += day.cardinality();
+            }
+        } else if (matches > 0) {
+            scanRows = (double) (offset + limit) * index.rows.size() / matches;
+        }
+        return matches <= scanRows
+                ? sortMatches(index.rows, filter, fromDay, toDay, offset, limit)
+                : walkDays(index.rows, filter, days, ranged ? -1 : matches, offset, limit);
+    }
+
+    /**
+     * 조건에 맞는 모든 ID (일치 건수가 max-results 를 넘으면 empty, IN 조회보다 스캔이 유리)
+     */
+    public Optional<Hits> searchAll(UserSearchCriteria criteria) {
+        return search(criteria, 0, maxResults)
+                .filter(hits -> hits.getTotal() <= maxResults);
+    }
+
+    /**
+     * 일치 ID 를 모두 꺼내 생성 시각 순으로 정렬 (일치 건수가 적은 경우)
+     */
+    private static Hits sortMatches(Map<Long, Row> rows, IdBitmap filter, long fromDay, long toDay, long offset, int limit) {
+        List<long[]> matched = new ArrayList<>();
+        filter.forEach(id -> {
+            Row row = rows.get(id);
+            if (row.createdDay >= fromDay && row.createdDay <= toDay) {
+                matched.add(new long[]{row.createdMicros, id});
+            }
+        });
+        matched.sort(NEWEST_FIRST);
+        List<Long> ids = new ArrayList<>();
+        addPage(matched, offset, limit, ids);
+        return new Hits(ids, matched.size());
+    }
+
+    /**
+     * 최신 날짜 버킷부터 교집합 크기만 세어 건너뛰고, 페이지가 걸친 버킷만 꺼내 정렬
+     * @param total 전체 일치 건수 (모르면 -1, 범위 안 버킷의 교집합 크기 합으로 구함)
+     */
+    private static Hits walkDays(Map<Long, Row> rows, IdBitmap filter, NavigableMap<Long, IdBitmap> days, long total, long offset, int limit) {
+        if (total < 0) {
+            total = 0;
+            for (IdBitmap day : days.values()) {
+                total += IdBitmap.andCardinality(filter, day);
+            }
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        long skip = offset;
+        for (IdBitmap day : days.descendingMap().values()) {
+            if (ids.size() >= limit || skip >= total) {
+                break;
+            }
+            long count = IdBitmap.andCardinality(filter, day);
+            if (skip >= count) {
+                skip -= count;
+                continue;
+            }
+            List<long[]> matched = new ArrayList<>((int) count);
+            IdBitmap.and(filter, day).forEach(id -> matched.add(new long[]{rows.get(id).createdMicros, id}));
+            matched.sort(NEWEST_FIRST);
+            addPage(matched, skip, limit - ids.size(), ids);
+            skip = 0;
+        }
+        return new Hits(ids, total);
+    }
+
+    private static void addPage(List<long[]> sorted, long skip, int count, List<Long> ids) {
+        long end = Math.min(sorted.size(), skip + count);
+        for (long i = skip; i < end; i++) {
+            ids.add(sorted.get((int) i)[1]);
+        }
+    }
+
+    /**
+     * 조건별 비트맵과 행별 색인 값 (잠금은 UserSnapshot 이 관리)
+     */
+    private static class Bitmaps implements UserSnapshot.Rows {
+        final IdBitmap live = new IdBitmap();
+        final IdBitmap active = new IdBitmap();
+        final Map<String, IdBitmap> byDomain = new HashMap<>();
+        final TreeMap<Long, IdBitmap> byCreatedDay = new TreeMap<>();
+        final Map<Long, Row> rows = new HashMap<>();
+
+        @Override
+        public void put(User user) {
+            if (user.getId() == null) {
+                return;
+            }
+            long id = user.getId();
+            Row row = new Row(user.getCreatedAt(), User.emailDomainOf(user.getEmail()),
+                    Boolean.TRUE.equals(user.getIsActive()));
+            Row previous = rows.put(id, row);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+            live.add(id);
+            if (row.active) {
+                active.add(id);
+            }
+            if (row.domain != null) {
+                byDomain.computeIfAbsent(row.domain, d -> new IdBitmap()).add(id);
+            }
+            byCreatedDay.computeIfAbsent(row.createdDay, d -> new IdBitmap()).add(id);
+        }
+
+        @Override
+        public void remove(Long id) {
+            if (id == null) {
+                return;
+            }
+            Row previous = rows.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        }
+
+        void unindex(long id, Row row) {
+            live.remove(id);
+            active.remove(id);
+            if (row.domain != null) {
+                removeFrom(byDomain, row.domain, id);
+            }
+            removeFrom(byCreatedDay, row.createdDay, id);
+        }
+
+        private static <K> void removeFrom(Map<K, IdBitmap> buckets, K key, long id) {
+            IdBitmap bitmap = buckets.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.cardinality() == 0) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * 갱신/삭제 시 이전 버킷을 찾기 위한 행별 색인 값
+     */
+    private static final class Row {
+        private final long createdMicros;
+        private final long createdDay;
+        private final String domain;
+        private final boolean active;
+
+        Row(LocalDateTime createdAt, String domain, boolean active) {
+            this.createdMicros = createdAt != null
+                    ? createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1000
+                    : Long.MIN_VALUE;
+            this.createdDay = createdAt != null ? createdAt.toLocalDate().toEpochDay() : NO_DAY;
+            this.domain = domain;
+            this.active = active;
+        }
+    }
+
+    /**
+     * 검색 결과 (페이지 ID 와 전체 일치 건수)
+     */
+    public static class Hits {
+        private final List<Long> ids;
+        private final long total;
+
+        public Hits(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() { return ids; }
+        public long getTotal() { return total; }
+    }
+}
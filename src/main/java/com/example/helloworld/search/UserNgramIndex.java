@@ -0,0 +1,305 @@
+package com.example.helloworld.search;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.snapshot.UserSnapshot;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * username, email, full_name 에 대한 트라이그램(3-gram) 역색인
+ * LIKE '%x%' 전체 스캔 대신 포스팅 리스트 교집합으로 후보 ID 를 구한 뒤,
+ * 보관 중인 원본 값으로 부분 문자열 일치를 확인해 정확한 ID 목록을 만든다.
+ * 애플리케이션 기동 시(웹 요청 수신 전) 전체 테이블로 구축하고 UserChangeEvent 로 커밋 후 갱신한다.
+ * 애플리케이션을 거치지 않은 변경(H2 콘솔, 다른 인스턴스, JDBC 일괄 적재 등)은 이벤트가 없으므로
+ * rebuild-interval-ms 마다 다시 구축해 반영한다 (UserSnapshotRebuilder 의 스캔을 다른 메모리 구조와 함께 사용).
+ *
+ * 다음 경우에는 empty 를 반환하며 호출자는 기존 DB 쿼리를 사용한다.
+ * - 인덱스 비활성화 또는 구축 전
+ * - 모든 검색어가 3글자 미만이거나 LIKE 와일드카드(%, _)를 포함
+ * - 일치 건수가 max-results 를 넘는 경우 (IN 조회보다 스캔이 유리)
+ */
+@Component
+public class UserNgramIndex implements UserSnapshotTarget {
+
+    private static final Logger log = LoggerFactory.getLogger(UserNgramIndex.class);
+
+    private static final int GRAM = 3;
+
+    public enum Field {
+        USERNAME, EMAIL, FULL_NAME
+    }
+
+    private final UserSnapshotRebuilder rebuilder;
+    private final boolean enabled;
+    private final int maxResults;
+    private final long rebuildIntervalMs;
+
+    private final UserSnapshot<Postings> snapshot = new UserSnapshot<>(new Postings());
+    private volatile boolean ready;
+
+    public UserNgramIndex(UserSnapshotRebuilder rebuilder,
+                          @Value("${search-index.enabled:true}") boolean enabled,
+                          @Value("${search-index.max-results:5000}") int maxResults,
+                          @Value("${search-index.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.rebuilder = rebuilder;
+        this.enabled = enabled;
+        this.maxResults = maxResults;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+    }
+
+    @Override
+    public boolean isRebuildDue(long now) {
+        return enabled && now - snapshot.getLastRebuiltAt() >= rebuildIntervalMs;
+    }
+
+    @Override
+    public UserSnapshot<?>.Rebuild startRebuild() {
+        return enabled ? snapshot.startRebuild(new Postings(), this::swapped) : null;
+    }
+
+    /**
+     * DB 전체를 다시 읽어 색인만 즉시 재구축
+     */
+    public void rebuild() {
+        rebuilder.rebuild(this);
+    }
+
+    private void swapped(Postings previous, Postings rebuilt) {
+        if (!ready) {
+            ready = true;
+            log.info("사용자 n-gram 색인 구축 완료: {}건", rebuilt.values.size());
+        }
+    }
+
+    /**
+     * JPA/MyBatis 쓰기 커밋 후 색인 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        if (enabled) {
+            snapshot.apply(event);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return snapshot.read(postings -> postings.values.size());
+    }
+
+    /**
+     * 마지막 (재)구축 완료 시각 (epoch millis, 구축 전이면 0)
+     */
+    public long getLastRebuiltAt() {
+        return snapshot.getLastRebuiltAt();
+    }
+
+    /**
+     * 단일 필드 부분 문자열 검색
+     */
+    public Optional<List<Long>> search(Field field, String term, boolean ignoreCase) {
+        Map<Field, String> terms = new EnumMap<>(Field.class);
+        terms.put(field, term);
+        return search(terms, ignoreCase);
+    }
+
+    /**
+     * 여러 필드 부분 문자열 검색 (모든 조건을 만족하는 ID, 오름차순)
+     * @param terms 필드별 검색어 (null 또는 빈 문자열은 무시)
+     * @param ignoreCase 대소문자 무시 여부
+     * @return 일치하는 ID 목록 (색인으로 처리할 수 없으면 empty)
+     */
+    public Optional<List<Long>> search(Map<Field, String> terms, boolean ignoreCase) {
+        return search(terms, ignoreCase, maxResults);
+    }
+
+    /**
+     * 여러 필드 부분 문자열 검색 (결과 건수 상한 지정)
+     * 결과를 다른 색인과 교집합한 뒤 일부만 조회하는 경우(UserFilterIndex) 상한을 크게 준다.
+     * @param limit 일치 건수가 이 값을 넘으면 empty
+     */
+    public Optional<List<Long>> search(Map<Field, String> terms, boolean ignoreCase, int limit) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        Map<Field, String> criteria = new EnumMap<>(Field.class);
+        boolean indexable = false;
+        for (Map.Entry<Field, String> entry : terms.entrySet()) {
+            String term = entry.getValue();
+            if (term == null || term.isEmpty()) {
+                continue;
+            }
+            if (term.indexOf('%') >= 0 || term.indexOf('_') >= 0) {
+                return Optional.empty();
+            }
+            criteria.put(entry.getKey(), term);
+            indexable |= term.length() >= GRAM;
+        }
+        if (!indexable) {
+            return Optional.empty();
+        }
+
+        return snapshot.read(postings -> find(postings, criteria, ignoreCase, limit));
+    }
+
+    /**
+     * 포스팅 리스트 교집합 후 원본 값으로 검증 (읽기 잠금 안에서 호출)
+     */
+    private static Optional<List<Long>> find(Postings postings, Map<Field, String> criteria, boolean ignoreCase, int limit) {
+        List<LongPostingList> lists = new ArrayList<>();
+        for (Map.Entry<Field, String> entry : criteria.entrySet()) {
+            Map<String, LongPostingList> fieldPostings = postings.fields.get(entry.getKey());
+            for (String gram : grams(entry.getValue())) {
+                LongPostingList list = fieldPostings.get(gram);
+                if (list == null || list.isEmpty()) {
+                    return Optional.of(List.of());
+                }
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(LongPostingList::size));
+
+        // 가장 짧은 포스팅 리스트를 기준으로 교집합 후 원본 값으로 검증
+        LongPostingList smallest = lists.get(0);
+        List<Long> result = new ArrayList<>();
+        for (int i = 0; i < smallest.size(); i++) {
+            long id = smallest.get(i);
+            if (containsInAll(lists, id) && matches(postings.values.get(id), criteria, ignoreCase)) {
+                result.add(id);
+                if (result.size() > limit) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+
+    private static boolean containsInAll(List<LongPostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String[] fieldValues, Map<Field, String> criteria, boolean ignoreCase) {
+        if (fieldValues == null) {
+            return false;
+        }
+        for (Map.Entry<Field, String> entry : criteria.entrySet()) {
+            String value = fieldValues[entry.getKey().ordinal()];
+            if (value == null) {
+                return false;
+            }
+            String term = entry.getValue();
+            if (ignoreCase ? !value.toLowerCase(Locale.ROOT).contains(term.toLowerCase(Locale.ROOT)) : !value.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 소문자 기준 트라이그램 (3글자 미만이면 빈 집합, 해당 조건은 검증 단계에서만 확인)
+     */
+    private static Set<String> grams(String value) {
+        String normalized = value.toLowerCase(Locale.ROOT);
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    /**
+     * 필드별 포스팅 리스트와 검증용 원본 값 (잠금은 UserSnapshot 이 관리)
+     */
+    private static class Postings implements UserSnapshot.Rows {
+        final Map<Field, Map<String, LongPostingList>> fields = new EnumMap<>(Field.class);
+        final Map<Long, String[]> values = new HashMap<>();
+
+        Postings() {
+            for (Field field : Field.values()) {
+                fields.put(field, new HashMap<>());
+            }
+        }
+
+        @Override
+        public void put(User user) {
+            if (user.getId() == null) {
+                return;
+            }
+            String[] fieldValues = {user.getUsername(), user.getEmail(), user.getFullName()};
+            // 비활성화처럼 색인 대상 값이 그대로인 변경은 포스팅 리스트를 다시 만들지 않는다
+            String[] previous = values.put(user.getId(), fieldValues);
+            if (Arrays.equals(previous, fieldValues)) {
+                return;
+            }
+            if (previous != null) {
+                unindex(user.getId(), previous);
+            }
+            for (Field field : Field.values()) {
+                String value = fieldValues[field.ordinal()];
+                if (value == null) {
+                    continue;
+                }
+                Map<String, LongPostingList> fieldPostings = fields.get(field);
+                for (String gram : grams(value)) {
+                    fieldPostings.computeIfAbsent(gram, g -> new LongPostingList()).add(user.getId());
+                }
+            }
+        }
+
+        @Override
+        public void remove(Long id) {
+            if (id == null) {
+                return;
+            }
+            String[] previous = values.remove(id);
+            if (previous != null) {
+                unindex(id, previous);
+            }
+        }
+
+        private void unindex(Long id, String[] fieldValues) {
+            for (Field field : Field.values()) {
+                String value = fieldValues[field.ordinal()];
+                if (value == null) {
+                    continue;
+                }
+                Map<String, LongPostingList> fieldPostings = fields.get(field);
+                for (String gram : grams(value)) {
+                    LongPostingList list = fieldPostings.get(gram);
+                    if (list != null) {
+                        list.remove(id);
+                        if (list.isEmpty()) {
+                            fieldPostings.remove(gram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.helloworld.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JMH 벤치마크 결과(jmh-result.json) 조회 서비스
+ * 벤치마크 메서드 이름 {jpa|mybatis}{Operation} 을 기준으로 JPA/MyBatis 결과를 한 행으로 묶는다.
+ */
+@Service
+public class BenchmarkResultService {
+    
+    private static final String JPA_PREFIX = "jpa";
+    private static final String MYBATIS_PREFIX = "mybatis";
+    
+    private final ObjectMapper objectMapper;
+    private final Path resultFile;
+    
+    @Autowired
+    public BenchmarkResultService(ObjectMapper objectMapper,
+                                  @Value("${benchmark.result-file:target/jmh-result.json}") String resultFile) {
+        this.objectMapper = objectMapper;
+        this.resultFile = Paths.get(resultFile);
+    }
+    
+    public Path getResultFile() {
+        return resultFile;
+    }
+    
+    /**
+     * 벤치마크 결과 조회
+     * @return 결과 (파일이 없으면 empty)
+     */
+    public Optional<BenchmarkReport> getReport() throws IOException {
+        if (!Files.isReadable(resultFile)) {
+            return Optional.empty();
+        }
+        JsonNode root = objectMapper.readTree(resultFile.toFile());
+        Map<String, BenchmarkComparison> comparisons = new LinkedHashMap<>();
+        
+        for (JsonNode node : root) {
+            String benchmark = node.path("benchmark").asText();
+            String method = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            String dataSource;
+            String operation;
+            if (method.startsWith(MYBATIS_PREFIX)) {
+                dataSource = "MyBatis";
+                operation = decapitalize(method.substring(MYBATIS_PREFIX.length()));
+            } else if (method.startsWith(JPA_PREFIX)) {
+                dataSource = "JPA";
+                operation = decapitalize(method.substring(JPA_PREFIX.length()));
+            } else {
+                continue;
+            }
+            
+            long rowCount = node.path("params").path("rowCount").asLong(0);
+            JsonNode metric = node.path("primaryMetric");
+            BenchmarkComparison comparison = comparisons.computeIfAbsent(operation + ":" + rowCount,
+                    key -> new BenchmarkComparison(operation, rowCount, metric.path("scoreUnit").asText()));
+            if ("JPA".equals(dataSource)) {
+                comparison.jpaScore = metric.path("score").asDouble();
+            } else {
+                comparison.mybatisScore = metric.path("score").asDouble();
+            }
+        }
+        
+        Instant generatedAt = Files.getLastModifiedTime(resultFile).toInstant();
+        return Optional.of(new BenchmarkReport(generatedAt, new ArrayList<>(comparisons.values())));
+    }
+    
+    private static String decapitalize(String name) {
+        if (name.isEmpty()) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+    
+    /**
+     * 벤치마크 결과 전체
+     */
+    public static class BenchmarkReport {
+        private final Instant generatedAt;
+        private final List<BenchmarkComparison> comparisons;
+        
+        public BenchmarkReport(Instant generatedAt, List<BenchmarkComparison> comparisons) {
+            this.generatedAt = generatedAt;
+            this.comparisons = comparisons;
+        }
+        
+        public Instant getGeneratedAt() { return generatedAt; }
+        public List<BenchmarkComparison> getComparisons() { return comparisons; }
+        
+        /**
+         * JPA 대비 MyBatis 평균 시간 단축률(%) - 두 경로 모두 측정된 항목만 사용
+         */
+        public Double getMybatisAdvantagePercent() {
+            double sum = 0;
+            int count = 0;
+            for (BenchmarkComparison comparison : comparisons) {
+                if (comparison.jpaScore != null && comparison.mybatisScore != null && comparison.jpaScore > 0) {
+                    sum += (comparison.jpaScore - comparison.mybatisScore) / comparison.jpaScore * 100;
+                    count++;
+                }
+            }
+            return count > 0 ? sum / count : null;
+        }
+    }
+    
+    /**
+     * 동일 작업/행 수에 대한 JPA, MyBatis 측정값 (한쪽만 있으면 다른 쪽은 null)
+     */
+    public static class BenchmarkComparison {
+        private final String operation;
+        private final long rowCount;
+        private final String unit;
+        private Double jpaScore;
+        private Double mybatisScore;
+        
+        public BenchmarkComparison(String operation, long rowCount, String unit) {
+            this.operation = operation;
+            this.rowCount = rowCount;
+            this.unit = unit;
+        }
+        
+        public String getOperation() { return operation; }
+        public long getRowCount() { return rowCount; }
+        public String getUnit() { return unit; }
+        public Double getJpaScore() { return jpaScore; }
+        public Double getMybatisScore() { return mybatisScore; }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.helloworld.service;
+
+/**
+ * 조건 일괄 비활성화 결과
+ */
+public class BulkDeactivationResult {
+
+    private final long deactivatedCount;
+    private final int chunkCount;
+
+    public BulkDeactivationResult(long deactivatedCount, int chunkCount) {
+        this.deactivatedCount = deactivatedCount;
+        this.chunkCount = chunkCount;
+    }
+
+    /**
+     * 비활성화된 행 수 (이미 비활성 상태인 행은 제외)
+     */
+    public long getDeactivatedCount() { return deactivatedCount; }
+
+    /**
+     * 실행한 id 구간(트랜잭션) 수
+     */
+    public int getChunkCount() { return chunkCount; }
+}
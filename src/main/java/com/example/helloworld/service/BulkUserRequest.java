@@ -0,0 +1,37 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * 대량 생성/수정/삭제 요청
+ * 예: {"create": [{...}], "update": [{"id": 1, ...}], "delete": [3, 4]}
+ */
+public class BulkUserRequest {
+    private List<User> create = new ArrayList<>();
+    private List<User> update = new ArrayList<>();
+    private List<Long> delete = new ArrayList<>();
+    
+    public List<User> getCreate() { return create; }
+    public void setCreate(List<User> create) { this.create = create != null ? create : new ArrayList<>(); }
+    public List<User> getUpdate() { return update; }
+    public void setUpdate(List<User> update) { this.update = update != null ? update : new ArrayList<>(); }
+    public List<Long> getDelete() { return delete; }
+    public void setDelete(List<Long> delete) { this.delete = delete != null ? delete : new ArrayList<>(); }
+    
+    public int size() {
+        return create.size() + update.size() + delete.size();
+    }
+    
+    /**
+     * chunkSize 단위로 나누어 처리 (handler 에는 청크와 원본 목록에서의 시작 위치 전달)
+     */
+    static <T> void forEachChunk(List<T> items, int chunkSize, BiConsumer<List<T>, Integer> handler) {
+        for (int offset = 0; offset < items.size(); offset += chunkSize) {
+            handler.accept(items.subList(offset, Math.min(offset + chunkSize, items.size())), offset);
+        }
+    }
+}
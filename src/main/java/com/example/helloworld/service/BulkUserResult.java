@@ -0,0 +1,112 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 대량 처리 결과 (요청 항목별 결과 포함)
+ */
+public class BulkUserResult {
+    
+    public static final String CREATE = "create";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+    
+    private final List<Item> items = new ArrayList<>();
+    
+    public void success(String operation, int index, Long id) {
+        items.add(new Item(operation, index, id, true, null));
+    }
+    
+    public void failure(String operation, int index, Long id, String message) {
+        items.add(new Item(operation, index, id, false, message));
+    }
+    
+    public List<Item> getItems() { return items; }
+    
+    /**
+     * 요청 순서(생성 → 수정 → 삭제, 각 목록 내 인덱스)대로 정렬
+     */
+    public void sortItems() {
+        List<String> order = List.of(CREATE, UPDATE, DELETE);
+        items.sort(Comparator.comparingInt((Item item) -> order.indexOf(item.getOperation()))
+                .thenComparingInt(Item::getIndex));
+    }
+    
+    public long getSuccessCount() {
+        return items.stream().filter(Item::isSuccess).count();
+    }
+    
+    public long getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+    
+    /**
+     * 생성 대상 중 요청 내부 중복 또는 기존 데이터와의 중복을 판별
+     * @param users 생성 요청 청크
+     * @param existing 한 번의 집합 조회(username IN ... OR email IN ...)로 찾은 기존 사용자
+     * @return 항목별 중복 사유 (중복이 아니면 null)
+     */
+    static List<String> findDuplicates(List<User> users, Collection<User> existing) {
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (User user : existing) {
+            takenUsernames.add(user.getUsername());
+            takenEmails.add(user.getEmail());
+        }
+        
+        List<String> reasons = new ArrayList<>();
+        for (User user : users) {
+            if (user.getUsername() == null || user.getEmail() == null) {
+                reasons.add("사용자명과 이메일은 필수입니다.");
+            } else if (!takenUsernames.add(user.getUsername())) {
+                reasons.add("이미 존재하는 사용자명입니다: " + user.getUsername());
+            } else if (!takenEmails.add(user.getEmail())) {
+                takenUsernames.remove(user.getUsername());
+                reasons.add("이미 존재하는 이메일입니다: " + user.getEmail());
+            } else {
+                reasons.add(null);
+            }
+        }
+        return reasons;
+    }
+    
+    static List<String> usernames(List<User> users) {
+        return users.stream().map(User::getUsername).filter(u -> u != null).toList();
+    }
+    
+    static List<String> emails(List<User> users) {
+        return users.stream().map(User::getEmail).filter(e -> e != null).toList();
+    }
+    
+    /**
+     * 요청 항목별 결과
+     */
+    public static class Item {
+        private final String operation;
+        private final int index;
+        private final Long id;
+        private final boolean success;
+        private final String message;
+        
+        public Item(String operation, int index, Long id, boolean success, String message) {
+            this.operation = operation;
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+        }
+        
+        public String getOperation() { return operation; }
+        public int getIndex() { return index; }
+        public Long getId() { return id; }
+        public boolean isSuccess() { return success; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.helloworld.service;
+
+/**
+ * 이메일 도메인별 사용자 수 (도메인 facet 항목)
+ * JPA 는 JPQL 생성자 표현식, MyBatis 는 constructor 매핑으로 생성한다.
+ */
+public class EmailDomainCount {
+    private final String domain;
+    private final long count;
+
+    public EmailDomainCount(String domain, long count) {
+        this.domain = domain;
+        this.count = count;
+    }
+
+    public String getDomain() { return domain; }
+    public long getCount() { return count; }
+}
@@ -0,0 +1,240 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JPA 대량 생성/수정/삭제 서비스
+ * chunk-size 건마다 별도 트랜잭션으로 커밋하고, 청크마다 flush/clear 하여 영속성 컨텍스트 크기를 제한한다.
+ * 수정은 Hibernate JDBC 배치(hibernate.jdbc.batch_size)로, 삭제는 DELETE ... WHERE id IN (...) 한 문장으로 처리한다.
+ * ID 생성 전략이 IDENTITY 이므로 Hibernate 는 INSERT 를 배치로 묶지 않으며, 생성은 청크 트랜잭션만 공유한다.
+ * 조건 일괄 비활성화는 id 구간마다 @Modifying JPQL UPDATE 한 문장으로 처리한다.
+ */
+@Service
+public class UserBulkService {
+    
+    private static final String DATA_SOURCE = "JPA";
+    
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long idRangeSize;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Autowired
+    public UserBulkService(UserRepository userRepository,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${user-bulk.chunk-size:500}") int chunkSize,
+                           @Value("${user-bulk.id-range-size:10000}") long idRangeSize) {
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.idRangeSize = idRangeSize;
+    }
+    
+    /**
+     * 대량 처리 (생성 → 수정 → 삭제 순서)
+     */
+    public BulkUserResult apply(BulkUserRequest request) {
+        BulkUserResult result = new BulkUserResult();
+        BulkUserRequest.forEachChunk(request.getCreate(), chunkSize, (chunk, offset) -> createChunk(chunk, offset, result));
+        BulkUserRequest.forEachChunk(request.getUpdate(), chunkSize, (chunk, offset) -> updateChunk(chunk, offset, result));
+        BulkUserRequest.forEachChunk(request.getDelete(), chunkSize, (chunk, offset) -> deleteChunk(chunk, offset, result));
+        result.sortItems();
+        return result;
+    }
+    
+    /**
+     * 조건에 맞는 활성 사용자 일괄 비활성화 (논리적 삭제)
+     * [최소 id, 최대 id] 를 id-range-size 폭의 구간으로 나누어 구간마다 별도 트랜잭션으로 커밋하므로
+     * 행 잠금은 한 구간 동안만 유지된다. 변경된 행은 같은 트랜잭션에서 다시 읽어 UserChangeEvent 를 발행한다.
+     * 중간 구간이 실패하면 앞 구간의 변경은 유지되며, 활성 사용자만 대상이므로 같은 조건으로 다시 실행하면 된다.
+     * 시작할 때의 최대 id 보다 나중에 생성된 사용자는 대상이 아니다.
+     */
+    public BulkDeactivationResult deactivateMatching(UserDeactivationCriteria criteria) {
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return new BulkDeactivationResult(0, 0);
+        }
+        long deactivated = 0;
+        int chunks = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += idRangeSize) {
+            long from = fromId;
+            long to = Math.min(fromId + idRangeSize, maxId + 1);
+            Integer count = transactionTemplate.execute(status -> deactivateRange(criteria, from, to));
+            deactivated += count != null ? count : 0;
+            chunks++;
+        }
+        return new BulkDeactivationResult(deactivated, chunks);
+    }
+    
+    private int deactivateRange(UserDeactivationCriteria criteria, long fromId, long toId) {
+        // updated_at(TIMESTAMP(6)) 에 저장되는 값과 같아야 변경된 행을 다시 찾을 수 있다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int count = userRepository.deactivateMatching(criteria, fromId, toId, now);
+        if (count > 0) {
+            for (User user : userRepository.findDeactivatedInRange(fromId, toId, now)) {
+                eventPublisher.publishEvent(UserChangeEvent.deactivated(user, DATA_SOURCE));
+            }
+        }
+        return count;
+    }
+    
+    private void createChunk(List<User> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                List<String> usernames = BulkUserResult.usernames(chunk);
+                List<String> emails = BulkUserResult.emails(chunk);
+                List<User> existing = usernames.isEmpty() && emails.isEmpty()
+                        ? List.of() : userRepository.findByUsernameInOrEmailIn(usernames, emails);
+                List<String> duplicates = BulkUserResult.findDuplicates(chunk, existing);
+                
+                List<User> created = new ArrayList<>();
+                List<Integer> createdIndexes = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (duplicates.get(i) != null) {
+                        r.failure(BulkUserResult.CREATE, offset + i, null, duplicates.get(i));
+                        continue;
+                    }
+                    User user = chunk.get(i);
+                    user.setId(null);
+                    // 클라이언트가 보낸 version 무시 (persist 시 Hibernate 가 0 으로 초기화)
+                    user.setVersion(null);
+                    if (user.getIsActive() == null) {
+                        user.setIsActive(true);
+                    }
+                    entityManager.persist(user);
+                    created.add(user);
+                    createdIndexes.add(offset + i);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                
+                for (int i = 0; i < created.size(); i++) {
+                    User user = created.get(i);
+                    r.success(BulkUserResult.CREATE, createdIndexes.get(i), user.getId());
+                    eventPublisher.publishEvent(UserChangeEvent.created(user, DATA_SOURCE));
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.CREATE, offset + i, null, "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+    
+    private void updateChunk(List<User> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                Set<Long> ids = new HashSet<>();
+                for (User user : chunk) {
+                    if (user.getId() != null) {
+                        ids.add(user.getId());
+                    }
+                }
+                // 한 번의 IN 조회로 대상 엔티티 로딩
+                Map<Long, User> managed = userRepository.findAllById(ids).stream()
+                        .collect(Collectors.toMap(User::getId, Function.identity()));
+                
+                List<User> updated = new ArrayList<>();
+                List<Integer> updatedIndexes = new ArrayList<>();
+                for (int i = 0; i < chunk.size(); i++) {
+                    User source = chunk.get(i);
+                    User target = source.getId() != null ? managed.get(source.getId()) : null;
+                    if (target == null) {
+                        r.failure(BulkUserResult.UPDATE, offset + i, source.getId(),
+                                source.getId() == null ? "수정할 사용자 ID가 없습니다." : "사용자를 찾을 수 없습니다. ID: " + source.getId());
+                        continue;
+                    }
+                    if (source.getVersion() != null && !source.getVersion().equals(target.getVersion())) {
+                        r.failure(BulkUserResult.UPDATE, offset + i, source.getId(),
+                                "다른 요청이 먼저 수정했습니다. ID: " + source.getId() + ", version: " + source.getVersion());
+                        continue;
+                    }
+                    target.setUsername(source.getUsername());
+                    target.setEmail(source.getEmail());
+                    target.setFullName(source.getFullName());
+                    if (source.getIsActive() != null) {
+                        target.setIsActive(source.getIsActive());
+                    }
+                    updated.add(target);
+                    updatedIndexes.add(offset + i);
+                }
+                // dirty checking 으로 생성된 UPDATE 문이 JDBC 배치로 실행됨
+                entityManager.flush();
+                entityManager.clear();
+                
+                for (int i = 0; i < updated.size(); i++) {
+                    User user = updated.get(i);
+                    r.success(BulkUserResult.UPDATE, updatedIndexes.get(i), user.getId());
+                    eventPublisher.publishEvent(UserChangeEvent.updated(user, DATA_SOURCE));
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.UPDATE, offset + i, chunk.get(i).getId(), "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+    
+    private void deleteChunk(List<Long> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                Set<Long> existingIds = new HashSet<>(userRepository.findExistingIds(chunk));
+                if (!existingIds.isEmpty()) {
+                    userRepository.deleteAllByIdInBatch(existingIds);
+                }
+                
+                for (int i = 0; i < chunk.size(); i++) {
+                    Long id = chunk.get(i);
+                    if (existingIds.remove(id)) {
+                        r.success(BulkUserResult.DELETE, offset + i, id);
+                        eventPublisher.publishEvent(UserChangeEvent.deleted(id, DATA_SOURCE));
+                    } else {
+                        r.failure(BulkUserResult.DELETE, offset + i, id, "사용자를 찾을 수 없습니다. ID: " + id);
+                    }
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.DELETE, offset + i, chunk.get(i), "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징용 커서
+ * (정렬 키, id) 쌍을 불투명한 Base64 토큰으로 인코딩한다.
+ * 문자열 정렬(username, email, fullName)은 오름차순, 시간 정렬(updatedAt, createdAt)은 내림차순이며
+ * 동일 정렬 키는 id 로 같은 방향으로 구분한다.
+ * updatedAt 은 null 일 수 있으며 null 은 맨 뒤(NULLS LAST)로 정렬하고 토큰에는 빈 문자열로 담는다.
+ */
+public class UserCursor {
+
+    public static final String SORT_USERNAME = "username";
+    public static final String SORT_EMAIL = "email";
+    public static final String SORT_FULL_NAME = "fullName";
+    public static final String SORT_UPDATED_AT = "updatedAt";
+    public static final String SORT_CREATED_AT = "createdAt";
+
+    private static final String SEPARATOR = "\u0000";
+
+    private final String sortBy;
+    private final String stringKey;
+    private final LocalDateTime timeKey;
+    private final Long id;
+
+    private UserCursor(String sortBy, String stringKey, LocalDateTime timeKey, Long id) {
+        this.sortBy = sortBy;
+        this.stringKey = stringKey;
+        this.timeKey = timeKey;
+        this.id = id;
+    }
+
+    /**
+     * 지원하지 않는 정렬 기준은 createdAt 으로 처리 (UserMapper.xml 의 otherwise 와 동일)
+     */
+    public static String normalizeSortBy(String sortBy) {
+        if (SORT_USERNAME.equals(sortBy) || SORT_EMAIL.equals(sortBy) || SORT_FULL_NAME.equals(sortBy)
+                || SORT_UPDATED_AT.equals(sortBy)) {
+            return sortBy;
+        }
+        return SORT_CREATED_AT;
+    }
+
+    /**
+     * 시간 기준 정렬 여부 (내림차순)
+     */
+    public static boolean isTimeSort(String sortBy) {
+        return SORT_UPDATED_AT.equals(sortBy) || SORT_CREATED_AT.equals(sortBy);
+    }
+
+    /**
+     * 페이지의 마지막 사용자로부터 다음 커서 생성
+     */
+    public static UserCursor of(User user, String sortBy) {
+        String normalized = normalizeSortBy(sortBy);
+        switch (normalized) {
+            case SORT_USERNAME:
+                return new UserCursor(normalized, user.getUsername(), null, user.getId());
+            case SORT_EMAIL:
+                return new UserCursor(normalized, user.getEmail(), null, user.getId());
+            case SORT_FULL_NAME:
+                return new UserCursor(normalized, user.getFullName() != null ? user.getFullName() : "", null, user.getId());
+            case SORT_UPDATED_AT:
+                return new UserCursor(normalized, null, user.getUpdatedAt(), user.getId());
+            default:
+                return new UserCursor(normalized, null, user.getCreatedAt(), user.getId());
+        }
+    }
+
+    /**
+     * 토큰 디코딩
+     * @param token 이전 응답의 nextCursor (null 또는 빈 문자열이면 첫 페이지)
+     * @param sortBy 요청한 정렬 기준
+     * @return 커서 (첫 페이지면 null)
+     * @throws IllegalArgumentException 토큰 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static UserCursor decode(String token, String sortBy) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String normalized = normalizeSortBy(sortBy);
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            if (!normalized.equals(parts[0])) {
+                throw new IllegalArgumentException("커서의 정렬 기준이 요청과 다릅니다: " + parts[0]);
+            }
+            Long id = Long.valueOf(parts[2]);
+            if (isTimeSort(normalized)) {
+                LocalDateTime timeKey = parts[1].isEmpty() ? null : LocalDateTime.parse(parts[1]);
+                if (timeKey == null && !SORT_UPDATED_AT.equals(normalized)) {
+                    throw new IllegalArgumentException("잘못된 커서입니다.");
+                }
+                return new UserCursor(normalized, null, timeKey, id);
+            }
+            return new UserCursor(normalized, parts[1], null, id);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        String key = isTimeSort(sortBy) ? (timeKey != null ? timeKey.toString() : "") : stringKey;
+        String raw = sortBy + SEPARATOR + key + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getSortBy() { return sortBy; }
+    public String getStringKey() { return stringKey; }
+    public LocalDateTime getTimeKey() { return timeKey; }
+    public Long getId() { return id; }
+}
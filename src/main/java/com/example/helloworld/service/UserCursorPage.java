@@ -0,0 +1,41 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 페이징 결과
+ * 전체 개수(COUNT)는 조회하지 않으며 다음 페이지 존재 여부는 size + 1 건 조회로 판단한다.
+ */
+public class UserCursorPage {
+    private final List<User> content;
+    private final int size;
+    private final String sortBy;
+    private final String nextCursor;
+
+    public UserCursorPage(List<User> content, int size, String sortBy, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.sortBy = sortBy;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * size + 1 건 조회 결과로부터 페이지 생성
+     */
+    public static UserCursorPage of(List<User> fetched, int size, String sortBy) {
+        if (fetched.size() > size) {
+            List<User> content = fetched.subList(0, size);
+            String nextCursor = UserCursor.of(content.get(size - 1), sortBy).encode();
+            return new UserCursorPage(content, size, sortBy, nextCursor);
+        }
+        return new UserCursorPage(fetched, size, sortBy, null);
+    }
+
+    public List<User> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getSortBy() { return sortBy; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean hasNext() { return nextCursor != null; }
+}
@@ -0,0 +1,49 @@
+package com.example.helloworld.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 비활성화 조건
+ * 고급 검색 조건(활성 상태 제외)에 수정일 범위(updatedFrom/updatedTo, 양 끝 포함)를 더한다.
+ * 활성 사용자만 대상이므로 isActive 조건은 항상 null 이다.
+ */
+public class UserDeactivationCriteria extends UserSearchCriteria {
+    private final LocalDate updatedFrom;
+    private final LocalDate updatedTo;
+
+    /**
+     * @throws IllegalArgumentException 날짜 범위가 잘못되었거나 조건이 하나도 없는 경우 (전체 비활성화 방지)
+     */
+    public UserDeactivationCriteria(String username, String email, String fullName, String domain,
+                                    LocalDate createdFrom, LocalDate createdTo,
+                                    LocalDate updatedFrom, LocalDate updatedTo) {
+        super(username, email, fullName, null, domain, createdFrom, createdTo);
+        if (updatedFrom != null && updatedTo != null && updatedTo.isBefore(updatedFrom)) {
+            throw new IllegalArgumentException("수정일 범위가 잘못되었습니다: " + updatedFrom + " ~ " + updatedTo);
+        }
+        this.updatedFrom = updatedFrom;
+        this.updatedTo = updatedTo;
+        if (!hasTextTerms() && getDomain() == null && getCreatedFrom() == null && getCreatedTo() == null
+                && updatedFrom == null && updatedTo == null) {
+            throw new IllegalArgumentException("일괄 비활성화 조건을 하나 이상 지정해야 합니다.");
+        }
+    }
+
+    public LocalDate getUpdatedFrom() { return updatedFrom; }
+    public LocalDate getUpdatedTo() { return updatedTo; }
+
+    /**
+     * updated_at 하한 (포함, SQL 바인딩용)
+     */
+    public LocalDateTime getUpdatedAtFrom() {
+        return updatedFrom != null ? updatedFrom.atStartOfDay() : null;
+    }
+
+    /**
+     * updated_at 상한 (제외, updatedTo 다음 날 0시)
+     */
+    public LocalDateTime getUpdatedAtBefore() {
+        return updatedTo != null ? updatedTo.plusDays(1).atStartOfDay() : null;
+    }
+}
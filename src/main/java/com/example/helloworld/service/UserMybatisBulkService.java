@@ -0,0 +1,267 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.mapper.UserMapper;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MyBatis 대량 생성/수정/삭제 서비스
+ * ExecutorType.BATCH 세션으로 JDBC 배치를 사용하며, chunk-size 건마다 별도 트랜잭션으로 커밋한다.
+ * 한 청크 안에서 배치가 실패하면 해당 청크 전체가 롤백되고 모든 항목이 실패로 보고된다.
+ * 조건 일괄 비활성화는 id 구간마다 UPDATE 한 문장으로 처리한다.
+ */
+@Service
+public class UserMybatisBulkService {
+    
+    private static final String DATA_SOURCE = "MyBatis";
+    
+    private final UserMapper userMapper;
+    private final UserMapper batchMapper;
+    private final SqlSessionTemplate batchSqlSession;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final long idRangeSize;
+    // 현재 DB 에 UserMapper.deactivateMatchingReturning 문장이 등록되었는지 (H2/PostgreSQL)
+    private final boolean deactivateReturningSupported;
+    
+    @Autowired
+    public UserMybatisBulkService(UserMapper userMapper,
+                                  SqlSessionFactory sqlSessionFactory,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${user-bulk.chunk-size:500}") int chunkSize,
+                                  @Value("${user-bulk.id-range-size:10000}") long idRangeSize) {
+        this.userMapper = userMapper;
+        // 기본 SqlSessionTemplate(SIMPLE) 과 섞이지 않도록 빈으로 등록하지 않고 직접 생성
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchMapper = batchSqlSession.getMapper(UserMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.idRangeSize = idRangeSize;
+        this.deactivateReturningSupported = sqlSessionFactory.getConfiguration()
+                .hasStatement(UserMapper.class.getName() + ".deactivateMatchingReturning");
+    }
+    
+    /**
+     * 대량 처리 (생성 → 수정 → 삭제 순서)
+     * @param request 요청
+     * @return 항목별 결과
+     */
+    public BulkUserResult apply(BulkUserRequest request) {
+        BulkUserResult result = new BulkUserResult();
+        BulkUserRequest.forEachChunk(request.getCreate(), chunkSize, (chunk, offset) -> createChunk(chunk, offset, result));
+        BulkUserRequest.forEachChunk(request.getUpdate(), chunkSize, (chunk, offset) -> updateChunk(chunk, offset, result));
+        BulkUserRequest.forEachChunk(request.getDelete(), chunkSize, (chunk, offset) -> deleteChunk(chunk, offset, result));
+        result.sortItems();
+        return result;
+    }
+    
+    /**
+     * 조건에 맞는 활성 사용자 일괄 비활성화 (논리적 삭제)
+     * [최소 id, 최대 id] 를 id-range-size 폭의 구간으로 나누어 구간마다 별도 트랜잭션으로 커밋하므로
+     * 행 잠금은 한 구간 동안만 유지된다. H2/PostgreSQL 은 UPDATE 가 변경된 행을 바로 반환하고,
+     * 그 외 DB 는 같은 트랜잭션에서 다시 읽어 UserChangeEvent 를 발행한다.
+     * 중간 구간이 실패하면 앞 구간의 변경은 유지되며, 활성 사용자만 대상이므로 같은 조건으로 다시 실행하면 된다.
+     * 시작할 때의 최대 id 보다 나중에 생성된 사용자는 대상이 아니다.
+     */
+    public BulkDeactivationResult deactivateMatching(UserDeactivationCriteria criteria) {
+        Long minId = userMapper.findMinId();
+        Long maxId = userMapper.findMaxId();
+        if (minId == null || maxId == null) {
+            return new BulkDeactivationResult(0, 0);
+        }
+        long deactivated = 0;
+        int chunks = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += idRangeSize) {
+            long from = fromId;
+            long to = Math.min(fromId + idRangeSize, maxId + 1);
+            Integer count = transactionTemplate.execute(status -> deactivateRange(criteria, from, to));
+            deactivated += count != null ? count : 0;
+            chunks++;
+        }
+        return new BulkDeactivationResult(deactivated, chunks);
+    }
+    
+    private int deactivateRange(UserDeactivationCriteria criteria, long fromId, long toId) {
+        // updated_at(TIMESTAMP(6)) 에 저장되는 값과 같아야 변경된 행을 다시 찾을 수 있다
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<User> deactivated;
+        if (deactivateReturningSupported) {
+            deactivated = userMapper.deactivateMatchingReturning(criteria, fromId, toId, now);
+        } else {
+            deactivated = userMapper.deactivateMatching(criteria, fromId, toId, now) > 0
+                    ? userMapper.findDeactivatedInRange(fromId, toId, now) : List.of();
+        }
+        for (User user : deactivated) {
+            eventPublisher.publishEvent(UserChangeEvent.deactivated(user, DATA_SOURCE));
+        }
+        return deactivated.size();
+    }
+    
+    private void createChunk(List<User> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                List<String> duplicates = BulkUserResult.findDuplicates(chunk,
+                        findExisting(BulkUserResult.usernames(chunk), BulkUserResult.emails(chunk)));
+                
+                List<User> inserted = new ArrayList<>();
+                List<Integer> insertedIndexes = new ArrayList<>();
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < chunk.size(); i++) {
+                    if (duplicates.get(i) != null) {
+                        r.failure(BulkUserResult.CREATE, offset + i, null, duplicates.get(i));
+                        continue;
+                    }
+                    User user = chunk.get(i);
+                    user.setCreatedAt(now);
+                    user.setUpdatedAt(now);
+                    if (user.getIsActive() == null) {
+                        user.setIsActive(true);
+                    }
+                    user.setVersion(0L);
+                    batchMapper.insert(user);
+                    inserted.add(user);
+                    insertedIndexes.add(offset + i);
+                }
+                
+                int[] counts = flushCounts();
+                for (int i = 0; i < inserted.size(); i++) {
+                    User user = inserted.get(i);
+                    if (isSuccess(counts, i)) {
+                        r.success(BulkUserResult.CREATE, insertedIndexes.get(i), user.getId());
+                        eventPublisher.publishEvent(UserChangeEvent.created(user, DATA_SOURCE));
+                    } else {
+                        r.failure(BulkUserResult.CREATE, insertedIndexes.get(i), null, "사용자 생성에 실패했습니다.");
+                    }
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.CREATE, offset + i, null, "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+    
+    private void updateChunk(List<User> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                List<User> updated = new ArrayList<>();
+                List<Integer> updatedIndexes = new ArrayList<>();
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < chunk.size(); i++) {
+                    User user = chunk.get(i);
+                    if (user.getId() == null) {
+                        r.failure(BulkUserResult.UPDATE, offset + i, null, "수정할 사용자 ID가 없습니다.");
+                        continue;
+                    }
+                    user.setUpdatedAt(now);
+                    batchMapper.update(user);
+                    updated.add(user);
+                    updatedIndexes.add(offset + i);
+                }
+                
+                int[] counts = flushCounts();
+                for (int i = 0; i < updated.size(); i++) {
+                    User user = updated.get(i);
+                    if (isSuccess(counts, i)) {
+                        if (user.getVersion() != null) {
+                            user.setVersion(user.getVersion() + 1);
+                        }
+                        r.success(BulkUserResult.UPDATE, updatedIndexes.get(i), user.getId());
+                        eventPublisher.publishEvent(UserChangeEvent.updated(user, DATA_SOURCE));
+                    } else {
+                        r.failure(BulkUserResult.UPDATE, updatedIndexes.get(i), user.getId(), user.getVersion() != null
+                                ? "사용자를 찾을 수 없거나 version 이 다릅니다. ID: " + user.getId()
+                                : "사용자를 찾을 수 없습니다. ID: " + user.getId());
+                    }
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.UPDATE, offset + i, chunk.get(i).getId(), "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+    
+    private void deleteChunk(List<Long> chunk, int offset, BulkUserResult result) {
+        try {
+            BulkUserResult chunkResult = transactionTemplate.execute(status -> {
+                BulkUserResult r = new BulkUserResult();
+                for (Long id : chunk) {
+                    batchMapper.deleteById(id);
+                }
+                
+                int[] counts = flushCounts();
+                for (int i = 0; i < chunk.size(); i++) {
+                    Long id = chunk.get(i);
+                    if (isSuccess(counts, i)) {
+                        r.success(BulkUserResult.DELETE, offset + i, id);
+                        eventPublisher.publishEvent(UserChangeEvent.deleted(id, DATA_SOURCE));
+                    } else {
+                        r.failure(BulkUserResult.DELETE, offset + i, id, "사용자를 찾을 수 없습니다. ID: " + id);
+                    }
+                }
+                return r;
+            });
+            result.getItems().addAll(chunkResult.getItems());
+        } catch (Exception e) {
+            for (int i = 0; i < chunk.size(); i++) {
+                result.failure(BulkUserResult.DELETE, offset + i, chunk.get(i), "청크 롤백: " + e.getMessage());
+            }
+        }
+    }
+    
+    private List<User> findExisting(List<String> usernames, List<String> emails) {
+        if (usernames.isEmpty() && emails.isEmpty()) {
+            return List.of();
+        }
+        return batchMapper.findByUsernameInOrEmailIn(usernames, emails);
+    }
+    
+    /**
+     * 대기 중인 배치를 실행하고 문장별 영향 행 수를 하나의 배열로 반환
+     */
+    private int[] flushCounts() {
+        List<BatchResult> batchResults = batchSqlSession.flushStatements();
+        int total = batchResults.stream().mapToInt(b -> b.getUpdateCounts().length).sum();
+        int[] counts = new int[total];
+        int position = 0;
+        for (BatchResult batchResult : batchResults) {
+            int[] updateCounts = batchResult.getUpdateCounts();
+            System.arraycopy(updateCounts, 0, counts, position, updateCounts.length);
+            position += updateCounts.length;
+        }
+        return counts;
+    }
+    
+    private static boolean isSuccess(int[] counts, int index) {
+        // 일부 드라이버(예: PostgreSQL reWriteBatchedInserts)는 SUCCESS_NO_INFO 를 반환
+        return index < counts.length && (counts[index] > 0 || counts[index] == Statement.SUCCESS_NO_INFO);
+    }
+}
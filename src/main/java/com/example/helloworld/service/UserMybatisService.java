@@ -1,24 +1,70 @@
 package com.example.helloworld.service;
 
+import com.example.helloworld.cache.RecentUserBuffer;
+import com.example.helloworld.cache.UserCache;
+import com.example.helloworld.coalescing.Coalesced;
 import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
 import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.search.UserExistenceFilter;
+import com.example.helloworld.search.UserFilterIndex;
+import com.example.helloworld.search.UserNgramIndex;
+import com.example.helloworld.statistics.UserStatistics;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @Transactional
 public class UserMybatisService {
     
+    public static final int MAX_RECENT_LIMIT = 1000;
+    public static final int MAX_DOMAIN_FACET_LIMIT = 1000;
+    public static final int MAX_SEARCH_PAGE_SIZE = 1000;
+    
+    private static final String DATA_SOURCE = "MyBatis";
+    
     private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final UserNgramIndex ngramIndex;
+    private final UserFilterIndex filterIndex;
+    private final UserStatistics userStatistics;
+    private final UserExistenceFilter existenceFilter;
+    private final RecentUserBuffer recentUserBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    // 현재 DB 에 UserMapper.updateReturning 문장이 등록되었는지 (H2/PostgreSQL)
+    private final boolean updateReturningSupported;
     
     @Autowired
-    public UserMybatisService(UserMapper userMapper) {
+    public UserMybatisService(UserMapper userMapper, UserCache userCache, UserNgramIndex ngramIndex,
+                              UserFilterIndex filterIndex, UserStatistics userStatistics,
+                              UserExistenceFilter existenceFilter, RecentUserBuffer recentUserBuffer,
+                              ApplicationEventPublisher eventPublisher, SqlSessionFactory sqlSessionFactory) {
         this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.ngramIndex = ngramIndex;
+        this.filterIndex = filterIndex;
+        this.userStatistics = userStatistics;
+        this.existenceFilter = existenceFilter;
+        this.recentUserBuffer = recentUserBuffer;
+        this.eventPublisher = eventPublisher;
+        this.updateReturningSupported = sqlSessionFactory.getConfiguration()
+                .hasStatement(UserMapper.class.getName() + ".updateReturning");
     }
     
     /**
@@ -26,28 +72,49 @@ public class UserMybatisService {
      * @return 사용자 목록
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public List<User> getAllUsers() {
         return userMapper.findAll();
     }
     
+    /**
+     * 모든 사용자를 한 건씩 전달 (스트리밍 내보내기용)
+     * MyBatis Cursor 로 fetch size 단위로 읽으므로 전체 목록을 메모리에 올리지 않는다.
+     * @param consumer 사용자 처리기
+     */
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<User> consumer) {
+        try (Cursor<User> cursor = userMapper.streamAll()) {
+            cursor.forEach(consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     /**
      * ID로 사용자 조회
      * @param id 사용자 ID
      * @return 사용자 정보 (Optional)
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public Optional<User> getUserById(Long id) {
-        User user = userMapper.findById(id);
-        return Optional.ofNullable(user);
+        return userCache.getById(id, () -> Optional.ofNullable(userMapper.findById(id)));
     }
     
     /**
      * 사용자명으로 검색
+     * n-gram 색인으로 일치 ID 를 구한 뒤 해당 행만 조회하고, 색인으로 처리할 수 없으면 LIKE 검색을 사용한다.
      * @param username 검색할 사용자명
      * @return 검색된 사용자 목록
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public List<User> searchUsersByUsername(String username) {
+        Optional<List<Long>> ids = ngramIndex.search(UserNgramIndex.Field.USERNAME, username, false);
+        if (ids.isPresent()) {
+            return findByIds(ids.get(), null, "username");
+        }
         return userMapper.findByUsernameContaining(username);
     }
     
@@ -56,6 +123,7 @@ public class UserMybatisService {
      * @return 활성 사용자 목록
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public List<User> getActiveUsers() {
         return userMapper.findByIsActiveTrue();
     }
@@ -66,17 +134,38 @@ public class UserMybatisService {
      * @return 해당 도메인의 사용자 목록
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public List<User> getUsersByEmailDomain(String domain) {
         return userMapper.findByEmailDomain(domain);
     }
     
+    /**
+     * 이메일 도메인별 사용자 수 (email_domain 인덱스로 집계)
+     * @param limit 최대 도메인 수 (1 ~ MAX_DOMAIN_FACET_LIMIT)
+     * @return 도메인별 사용자 수 (사용자 수 내림차순)
+     */
+    @Transactional(readOnly = true)
+    @Coalesced
+    public List<EmailDomainCount> getEmailDomainCounts(int limit) {
+        if (limit < 1 || limit > MAX_DOMAIN_FACET_LIMIT) {
+            throw new IllegalArgumentException("도메인 수는 1 이상 " + MAX_DOMAIN_FACET_LIMIT + " 이하여야 합니다.");
+        }
+        return userMapper.countByEmailDomain(limit);
+    }
+    
     /**
      * 최근 생성된 사용자 조회
+     * 최근 사용자 버퍼로 응답할 수 있으면 쿼리를 실행하지 않는다.
+     * @param limit 조회 건수 (1 ~ MAX_RECENT_LIMIT)
      * @return 최근 사용자 목록
      */
     @Transactional(readOnly = true)
-    public List<User> getRecentUsers() {
-        return userMapper.findRecentUsers();
+    @Coalesced
+    public List<User> getRecentUsers(int limit) {
+        if (limit < 1 || limit > MAX_RECENT_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_RECENT_LIMIT + " 이하여야 합니다.");
+        }
+        return recentUserBuffer.getRecent(limit).orElseGet(() -> userMapper.findRecentUsers(limit));
     }
     
     /**
@@ -84,28 +173,31 @@ public class UserMybatisService {
      * @return 활성 사용자 수
      */
     @Transactional(readOnly = true)
+    @Coalesced
     public Long getActiveUserCount() {
-        return userMapper.countActiveUsers();
+        return userStatistics.getActiveCount().orElseGet(userMapper::countActiveUsers);
     }
     
     /**
      * 사용자명 존재 여부 확인
+     * Bloom 필터에서 확실히 없다고 판단되면 DB 를 조회하지 않는다.
      * @param username 확인할 사용자명
      * @return 존재 여부
      */
     @Transactional(readOnly = true)
     public boolean existsByUsername(String username) {
-        return userMapper.existsByUsername(username);
+        return existenceFilter.mightContainUsername(username) && userMapper.existsByUsername(username);
     }
     
     /**
      * 이메일 존재 여부 확인
+     * Bloom 필터에서 확실히 없다고 판단되면 DB 를 조회하지 않는다.
      * @param email 확인할 이메일
      * @return 존재 여부
      */
     @Transactional(readOnly = true)
     public boolean existsByEmail(String email) {
-        return userMapper.existsByEmail(email);
+        return existenceFilter.mightContainEmail(email) && userMapper.existsByEmail(email);
     }
     
     /**
@@ -123,10 +215,12 @@ public class UserMybatisService {
         if (user.getIsActive() == null) {
             user.setIsActive(true);
         }
+        user.setVersion(0L);
         
         // 사용자 생성
         int result = userMapper.insert(user);
         if (result > 0) {
+            eventPublisher.publishEvent(UserChangeEvent.created(user, DATA_SOURCE));
             return user; // MyBatis에서 생성된 ID가 자동으로 설정됨
         } else {
             throw new RuntimeException("사용자 생성에 실패했습니다.");
@@ -135,19 +229,33 @@ public class UserMybatisService {
     
     /**
      * 사용자 정보 수정
+     * H2/PostgreSQL 에서는 수정과 수정된 행 조회를 한 문장(updateReturning)으로 처리하고,
+     * 그 외 DB 에서는 UPDATE 후 findById 로 조회한다.
+     * version 이 주어지면 현재 버전과 같을 때만 수정하고 (낙관적 잠금), 없으면 확인 없이 덮어쓴다 (JPA 경로와 동일).
      * @param user 수정할 사용자 정보
      * @return 수정된 사용자 정보
+     * @throws OptimisticLockingFailureException 다른 요청이 먼저 수정해 version 이 다른 경우
      */
     public User updateUser(User user) {
         // 수정 시간 설정
         user.setUpdatedAt(LocalDateTime.now());
         
-        int result = userMapper.update(user);
-        if (result > 0) {
-            return getUserById(user.getId()).orElse(null);
+        User updatedUser;
+        if (updateReturningSupported) {
+            updatedUser = userMapper.updateReturning(user);
         } else {
-            throw new RuntimeException("사용자 정보 수정에 실패했습니다.");
+            // 캐시를 거치지 않고 수정된 행을 직접 조회
+            updatedUser = userMapper.update(user) > 0 ? userMapper.findById(user.getId()) : null;
+        }
+        if (updatedUser != null) {
+            eventPublisher.publishEvent(UserChangeEvent.updated(updatedUser, DATA_SOURCE));
+            return updatedUser;
+        }
+        if (user.getVersion() != null && userMapper.findById(user.getId()) != null) {
+            throw new OptimisticLockingFailureException(
+                    "다른 요청이 먼저 사용자 정보를 수정했습니다. ID: " + user.getId() + ", version: " + user.getVersion());
         }
+        throw new RuntimeException("사용자 정보 수정에 실패했습니다.");
     }
     
     /**
@@ -157,6 +265,9 @@ public class UserMybatisService {
      */
     public boolean deleteUser(Long id) {
         int result = userMapper.deleteById(id);
+        if (result > 0) {
+            eventPublisher.publishEvent(UserChangeEvent.deleted(id, DATA_SOURCE));
+        }
         return result > 0;
     }
     
@@ -171,22 +282,100 @@ public class UserMybatisService {
     public UserPageResult getAllUsers(int page, int size, String sortBy) {
         int offset = page * size;
         List<User> users = userMapper.findAllWithPagination(offset, size, sortBy);
-        Long totalElements = userMapper.countAll();
+        // 전체 개수는 메모리 통계에서 구함 (사용할 수 없으면 COUNT 쿼리)
+        Long totalElements = userStatistics.getTotalCount().orElseGet(userMapper::countAll);
         
         return new UserPageResult(users, page, size, totalElements);
     }
     
     /**
-     * 다중 조건으로 사용자 검색
-     * @param username 사용자명 (부분 일치)
-     * @param email 이메일 (부분 일치)
-     * @param fullName 전체 이름 (부분 일치)
-     * @param isActive 활성 상태
+     * 키셋(커서) 방식 페이징 조회
+     * 깊은 페이지에서도 OFFSET 스캔과 COUNT 쿼리 없이 일정한 비용으로 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     * @param size 페이지 크기
+     * @param sortBy 정렬 기준
+     * @return 커서 페이지 (다음 커서 포함)
+     */
+    @Transactional(readOnly = true)
+    public UserCursorPage getUsersAfter(String after, int size, String sortBy) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        String sort = UserCursor.normalizeSortBy(sortBy);
+        UserCursor cursor = UserCursor.decode(after, sort);
+        List<User> fetched = userMapper.findAllAfterCursor(cursor, size + 1, sort);
+        return UserCursorPage.of(fetched, size, sort);
+    }
+    
+    /**
+     * 다중 조건으로 사용자 검색 (created_at 내림차순)
+     * 문자열 조건은 n-gram 색인, 활성 상태/도메인/생성일 조건은 비트맵 색인으로 교집합을 구해 ID 로 조회한다.
+     * 색인을 사용할 수 없거나 일치 건수가 max-results 를 넘으면 DB 쿼리를 사용한다.
+     * @param criteria 검색 조건
      * @return 검색된 사용자 목록
      */
     @Transactional(readOnly = true)
-    public List<User> searchUsers(String username, String email, String fullName, Boolean isActive) {
-        return userMapper.searchUsers(username, email, fullName, isActive);
+    public List<User> searchUsers(UserSearchCriteria criteria) {
+        Optional<UserFilterIndex.Hits> hits = filterIndex.searchAll(criteria);
+        if (hits.isPresent()) {
+            return findInOrder(hits.get().getIds(), criteria.getIsActive());
+        }
+        return userMapper.searchUsers(criteria, null, null);
+    }
+    
+    /**
+     * 다중 조건 검색 한 페이지 (created_at 내림차순)
+     * 색인 교집합으로 전체 일치 건수와 요청한 페이지의 ID 만 구한 뒤 그 행만 조회한다.
+     * 색인을 사용할 수 없으면 같은 조건의 LIMIT/OFFSET 쿼리와 COUNT 쿼리를 사용한다.
+     * @param criteria 검색 조건
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (1 ~ MAX_SEARCH_PAGE_SIZE)
+     * @return 페이지 결과
+     */
+    @Transactional(readOnly = true)
+    public UserPageResult searchUsers(UserSearchCriteria criteria, int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("페이지 번호는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_SEARCH_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        long offset = (long) page * size;
+        Optional<UserFilterIndex.Hits> hits = filterIndex.search(criteria, offset, size);
+        if (hits.isPresent()) {
+            return new UserPageResult(findInOrder(hits.get().getIds(), criteria.getIsActive()), page, size,
+                    hits.get().getTotal());
+        }
+        List<User> users = userMapper.searchUsers(criteria, offset, size);
+        return new UserPageResult(users, page, size, userMapper.countSearchUsers(criteria));
+    }
+    
+    /**
+     * 색인이 정한 순서대로 행 조회 (조회 사이에 삭제/비활성화된 행은 제외)
+     */
+    private List<User> findInOrder(List<Long> ids, Boolean isActive) {
+        Map<Long, User> byId = new HashMap<>();
+        for (User user : findByIds(ids, isActive, "createdAt")) {
+            byId.put(user.getId(), user);
+        }
+        List<User> users = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            User user = byId.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+    
+    /**
+     * 색인에서 구한 ID 목록으로 행 조회 (빈 목록이면 쿼리 생략)
+     */
+    private List<User> findByIds(List<Long> ids, Boolean isActive, String orderBy) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return userMapper.findByIds(ids, isActive, orderBy);
     }
     
     /**
@@ -0,0 +1,71 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 고급 검색 조건
+ * username, email, fullName 은 부분 일치, domain 은 이메일 도메인 일치(대소문자 무시), createdFrom/createdTo 는 생성일 범위(양 끝 포함)이다.
+ * null 또는 빈 문자열 조건은 사용하지 않는다.
+ */
+public class UserSearchCriteria {
+    private final String username;
+    private final String email;
+    private final String fullName;
+    private final Boolean isActive;
+    private final String domain;
+    private final LocalDate createdFrom;
+    private final LocalDate createdTo;
+
+    /**
+     * @throws IllegalArgumentException createdTo 가 createdFrom 보다 앞인 경우
+     */
+    public UserSearchCriteria(String username, String email, String fullName, Boolean isActive,
+                              String domain, LocalDate createdFrom, LocalDate createdTo) {
+        if (createdFrom != null && createdTo != null && createdTo.isBefore(createdFrom)) {
+            throw new IllegalArgumentException("생성일 범위가 잘못되었습니다: " + createdFrom + " ~ " + createdTo);
+        }
+        this.username = emptyToNull(username);
+        this.email = emptyToNull(email);
+        this.fullName = emptyToNull(fullName);
+        this.isActive = isActive;
+        this.domain = emptyToNull(User.normalizeDomain(domain));
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+    }
+
+    public String getUsername() { return username; }
+    public String getEmail() { return email; }
+    public String getFullName() { return fullName; }
+    public Boolean getIsActive() { return isActive; }
+    public String getDomain() { return domain; }
+    public LocalDate getCreatedFrom() { return createdFrom; }
+    public LocalDate getCreatedTo() { return createdTo; }
+
+    /**
+     * 부분 일치 조건이 하나라도 있는지
+     */
+    public boolean hasTextTerms() {
+        return username != null || email != null || fullName != null;
+    }
+
+    /**
+     * created_at 하한 (포함, SQL 바인딩용)
+     */
+    public LocalDateTime getCreatedAtFrom() {
+        return createdFrom != null ? createdFrom.atStartOfDay() : null;
+    }
+
+    /**
+     * created_at 상한 (제외, createdTo 다음 날 0시)
+     */
+    public LocalDateTime getCreatedAtBefore() {
+        return createdTo != null ? createdTo.plusDays(1).atStartOfDay() : null;
+    }
+
+    private static String emptyToNull(String value) {
+        return value != null && !value.isEmpty() ? value : null;
+    }
+}
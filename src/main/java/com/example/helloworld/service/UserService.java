@@ -1,127 +1,249 @@
 package com.example.helloworld.service;
 
+import com.example.helloworld.cache.RecentUserBuffer;
+import com.example.helloworld.cache.UserCache;
+import com.example.helloworld.coalescing.Coalesced;
 import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
 import com.example.helloworld.repository.UserRepository;
+import com.example.helloworld.search.UserExistenceFilter;
+import com.example.helloworld.search.UserNgramIndex;
+import com.example.helloworld.statistics.UserStatistics;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @Transactional(readOnly = true)
 public class UserService {
     
+    public static final int MAX_RECENT_LIMIT = 1000;
+    public static final int MAX_DOMAIN_FACET_LIMIT = 1000;
+    
+    private static final String DATA_SOURCE = "JPA";
+    
     private final UserRepository userRepository;
+    private final UserCache userCache;
+    private final UserNgramIndex ngramIndex;
+    private final UserStatistics userStatistics;
+    private final UserExistenceFilter existenceFilter;
+    private final RecentUserBuffer recentUserBuffer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int exportFetchSize;
     
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, UserCache userCache, UserNgramIndex ngramIndex,
+                       UserStatistics userStatistics, UserExistenceFilter existenceFilter,
+                       RecentUserBuffer recentUserBuffer, ApplicationEventPublisher eventPublisher,
+                       @Value("${user-export.fetch-size:1000}") int exportFetchSize) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
+        this.ngramIndex = ngramIndex;
+        this.userStatistics = userStatistics;
+        this.existenceFilter = existenceFilter;
+        this.recentUserBuffer = recentUserBuffer;
+        this.eventPublisher = eventPublisher;
+        this.exportFetchSize = exportFetchSize;
     }
     
     /**
      * 모든 사용자 조회
      */
+    @Coalesced
     public List<User> getAllUsers() {
         return userRepository.findAll();
     }
     
+    /**
+     * 모든 사용자를 한 건씩 전달 (스트리밍 내보내기용)
+     * 전체 목록을 메모리에 올리지 않고 fetch size 단위로 읽는다.
+     */
+    public void streamAllUsers(Consumer<User> consumer) {
+        userRepository.streamAll(exportFetchSize, consumer);
+    }
+    
     /**
      * 페이징된 사용자 목록 조회
+     * 정렬 방향은 커서 모드와 같다 (문자열 키는 오름차순, 시간 키는 내림차순).
+     * 전체 개수는 UserStatistics 에서 구하고, 통계를 사용할 수 없으면 COUNT 쿼리를 함께 실행한다.
      */
     public Page<User> getAllUsers(int page, int size, String sortBy) {
-        Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy).descending());
-        return userRepository.findAll(pageable);
+        Pageable pageable = PageRequest.of(page, size);
+        List<User> content = userRepository.findPage(pageable.getOffset(), size, sortBy);
+        long total = userStatistics.getTotalCount().orElseGet(userRepository::count);
+        return new PageImpl<>(content, pageable, total);
+    }
+    
+    /**
+     * 키셋(커서) 방식 페이징 조회
+     * 깊은 페이지에서도 OFFSET 스캔과 COUNT 쿼리 없이 일정한 비용으로 조회한다.
+     * @param after 이전 응답의 nextCursor (첫 페이지면 null 또는 빈 문자열)
+     */
+    public UserCursorPage getUsersAfter(String after, int size, String sortBy) {
+        if (size < 1) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다.");
+        }
+        String sort = UserCursor.normalizeSortBy(sortBy);
+        UserCursor cursor = UserCursor.decode(after, sort);
+        List<User> fetched = userRepository.findAllAfterCursor(cursor, size + 1, sort);
+        return UserCursorPage.of(fetched, size, sort);
     }
     
     /**
      * ID로 사용자 조회
      */
+    @Coalesced
     public Optional<User> getUserById(Long id) {
-        return userRepository.findById(id);
+        return userCache.getById(id, () -> userRepository.findById(id));
     }
     
     /**
      * 사용자명으로 사용자 조회
      */
+    @Coalesced
     public Optional<User> getUserByUsername(String username) {
-        return userRepository.findByUsername(username);
+        return userCache.getByUsername(username, () -> userRepository.findByUsername(username));
     }
     
     /**
      * 이메일로 사용자 조회
      */
+    @Coalesced
     public Optional<User> getUserByEmail(String email) {
-        return userRepository.findByEmail(email);
+        return userCache.getByEmail(email, () -> userRepository.findByEmail(email));
     }
     
     /**
      * 활성 사용자만 조회
      */
+    @Coalesced
     public List<User> getActiveUsers() {
         return userRepository.findByIsActiveTrue();
     }
     
     /**
      * 사용자명 검색
+     * n-gram 색인으로 일치 ID 를 구한 뒤 해당 행만 조회하고, 색인으로 처리할 수 없으면 LIKE 검색을 사용한다.
      */
+    @Coalesced
     public List<User> searchUsersByUsername(String username) {
+        Optional<List<Long>> ids = ngramIndex.search(UserNgramIndex.Field.USERNAME, username, true);
+        if (ids.isPresent()) {
+            return ids.get().isEmpty() ? new ArrayList<>() : userRepository.findAllById(ids.get());
+        }
         return userRepository.findByUsernameContainingIgnoreCase(username);
     }
     
     /**
      * 이메일 도메인으로 사용자 검색
      */
+    @Coalesced
     public List<User> getUsersByEmailDomain(String domain) {
         return userRepository.findByEmailDomain(domain);
     }
     
+    /**
+     * 이메일 도메인별 사용자 수 (email_domain 인덱스로 집계)
+     * @param limit 최대 도메인 수 (1 ~ MAX_DOMAIN_FACET_LIMIT)
+     */
+    @Coalesced
+    public List<EmailDomainCount> getEmailDomainCounts(int limit) {
+        if (limit < 1 || limit > MAX_DOMAIN_FACET_LIMIT) {
+            throw new IllegalArgumentException("도메인 수는 1 이상 " + MAX_DOMAIN_FACET_LIMIT + " 이하여야 합니다.");
+        }
+        return userRepository.countByEmailDomain(PageRequest.of(0, limit));
+    }
+    
     /**
      * 활성 사용자 수 조회
      */
+    @Coalesced
     public Long getActiveUserCount() {
-        return userRepository.countActiveUsers();
+        return userStatistics.getActiveCount().orElseGet(userRepository::countActiveUsers);
     }
     
     /**
      * 최근 생성된 사용자 조회
+     * 최근 사용자 버퍼로 응답할 수 있으면 쿼리를 실행하지 않는다.
+     * @param limit 조회 건수 (1 ~ MAX_RECENT_LIMIT)
      */
-    public List<User> getRecentUsers() {
-        return userRepository.findRecentUsers();
+    @Coalesced
+    public List<User> getRecentUsers(int limit) {
+        if (limit < 1 || limit > MAX_RECENT_LIMIT) {
+            throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_RECENT_LIMIT + " 이하여야 합니다.");
+        }
+        return recentUserBuffer.getRecent(limit)
+                .orElseGet(() -> userRepository.findRecentUsers(PageRequest.of(0, limit)));
     }
     
     /**
      * 사용자 생성
+     * 클라이언트가 보낸 version 은 무시한다 (Hibernate 가 0 으로 초기화, MyBatis 경로와 동일).
      */
     @Transactional
     public User createUser(User user) {
-        return userRepository.save(user);
+        user.setVersion(null);
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangeEvent.created(savedUser, DATA_SOURCE));
+        return savedUser;
     }
     
     /**
      * 사용자 정보 업데이트
+     * version 이 있으면 @Version 으로 확인하며, 다르면 ObjectOptimisticLockingFailureException 이 발생한다.
+     * version 이 없으면 확인 없이 덮어쓴다 (MyBatis 경로와 동일한 last-writer-wins).
+     * 이때 현재 버전을 행 잠금으로 읽으므로, 읽은 뒤 다른 요청이 먼저 수정해 충돌이 나는 일은 없다.
      */
     @Transactional
     public User updateUser(User user) {
-        return userRepository.save(user);
+        if (user.getId() != null && user.getVersion() == null) {
+            userRepository.findByIdForUpdate(user.getId()).ifPresent(current -> user.setVersion(current.getVersion()));
+        }
+        User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangeEvent.updated(savedUser, DATA_SOURCE));
+        return savedUser;
     }
     
     /**
      * 사용자 삭제 (논리적 삭제)
      */
     @Transactional
-    public void deactivateUser(Long id) {
-        Optional<User> userOpt = userRepository.findById(id);
-        if (userOpt.isPresent()) {
-            User user = userOpt.get();
-            user.setIsActive(false);
-            userRepository.save(user);
+    public Optional<User> deactivateUser(Long id) {
+        return deactivateUser(id, null);
+    }
+    
+    /**
+     * 사용자 삭제 (논리적 삭제, 낙관적 잠금)
+     * 조회 → dirty checking → UPDATE 대신 UPDATE 한 문장으로 변경된 행을 받는다 (H2/PostgreSQL).
+     * @param expectedVersion 클라이언트가 알고 있는 version (null 이면 확인하지 않음)
+     * @return 비활성화된 사용자 (없으면 empty)
+     * @throws OptimisticLockingFailureException 다른 요청이 먼저 수정해 version 이 다른 경우
+     */
+    @Transactional
+    public Optional<User> deactivateUser(Long id, Long expectedVersion) {
+        Optional<User> deactivated = userRepository.deactivateReturning(id, expectedVersion, LocalDateTime.now());
+        if (deactivated.isPresent()) {
+            eventPublisher.publishEvent(UserChangeEvent.deactivated(deactivated.get(), DATA_SOURCE));
+            return deactivated;
+        }
+        if (expectedVersion != null && userRepository.existsById(id)) {
+            throw new OptimisticLockingFailureException(
+                    "다른 요청이 먼저 사용자 정보를 수정했습니다. ID: " + id + ", version: " + expectedVersion);
         }
+        return Optional.empty();
     }
     
     /**
@@ -130,6 +252,7 @@ public class UserService {
     @Transactional
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(UserChangeEvent.deleted(id, DATA_SOURCE));
     }
     
     /**
@@ -141,15 +264,17 @@ public class UserService {
     
     /**
      * 사용자명 중복 확인
+     * Bloom 필터에서 확실히 없다고 판단되면 DB 를 조회하지 않는다.
      */
     public boolean existsByUsername(String username) {
-        return userRepository.findByUsername(username).isPresent();
+        return existenceFilter.mightContainUsername(username) && userRepository.existsByUsername(username);
     }
     
     /**
      * 이메일 중복 확인
+     * Bloom 필터에서 확실히 없다고 판단되면 DB 를 조회하지 않는다.
      */
     public boolean existsByEmail(String email) {
-        return userRepository.findByEmail(email).isPresent();
+        return existenceFilter.mightContainEmail(email) && userRepository.existsByEmail(email);
     }
 }
\ No newline at end of file
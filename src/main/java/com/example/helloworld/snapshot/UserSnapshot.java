@@ -0,0 +1,180 @@
+package com.example.helloworld.snapshot;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * users 테이블로 만든 메모리 구조 하나와 그 재구축 상태
+ * 커밋된 UserChangeEvent 는 현재 구조에 바로 반영하고, 재구축 중이면 새 구조에 다시 적용할 수 있도록 보관한다.
+ * 재구축 스캔(UserSnapshotRebuilder)은 잠금 없이 새 구조를 채우고, 완료 시 보관한 이벤트를 적용한 뒤 쓰기 잠금 안에서 교체한다.
+ *
+ * @param <S> 메모리 구조 (잠금은 UserSnapshot 이 관리)
+ */
+public class UserSnapshot<S extends UserSnapshot.Rows> {
+
+    /**
+     * 행 단위로 채우고 변경 이벤트를 반영할 수 있는 메모리 구조
+     */
+    public interface Rows {
+
+        /**
+         * 사용자 추가 또는 교체
+         */
+        void put(User user);
+
+        /**
+         * 사용자 제거
+         */
+        void remove(Long id);
+
+        /**
+         * 커밋된 변경 반영 (삭제이거나 사용자 값이 없으면 제거, 그 외에는 교체)
+         */
+        default void apply(UserChangeEvent event) {
+            if (event.getType() == UserChangeEvent.Type.DELETED || event.getUser() == null) {
+                remove(event.getUserId());
+            } else {
+                put(event.getUser());
+            }
+        }
+    }
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile S current;
+    // 재구축 중 커밋된 이벤트 (재구축 중이 아니면 null)
+    private List<UserChangeEvent> pendingEvents;
+    private volatile long lastRebuiltAt;
+    private volatile long lastRebuildMillis;
+
+    public UserSnapshot(S initial) {
+        this.current = initial;
+    }
+
+    /**
+     * 커밋된 변경을 현재 구조에 반영 (재구축 중이면 새 구조에 다시 적용하도록 보관)
+     */
+    public void apply(UserChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            current.apply(event);
+            if (pendingEvents != null) {
+                pendingEvents.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 읽기 잠금 안에서 현재 구조 조회
+     */
+    public <R> R read(Function<? super S, R> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(current);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 잠금 없이 현재 구조 참조 (자체적으로 동시 읽기/쓰기가 안전한 구조만 사용)
+     */
+    public S current() {
+        return current;
+    }
+
+    /**
+     * 재구축 시작
+     * @param target 채울 빈 구조
+     * @param swapped 교체 직후 쓰기 잠금 안에서 (이전 구조, 새 구조) 로 호출 (없으면 null)
+     * @return 재구축 (이미 재구축 중이면 null)
+     */
+    public Rebuild startRebuild(S target, BiConsumer<S, S> swapped) {
+        lock.writeLock().lock();
+        try {
+            if (pendingEvents != null) {
+                return null;
+            }
+            pendingEvents = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return new Rebuild(target, swapped);
+    }
+
+    /**
+     * 마지막 재구축 완료 시각 (epoch millis, 구축 전이면 0)
+     */
+    public long getLastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    /**
+     * 마지막 재구축 소요 시간 (스캔 포함, ms)
+     */
+    public long getLastRebuildMillis() {
+        return lastRebuildMillis;
+    }
+
+    /**
+     * 진행 중인 재구축 하나 (스캔 스레드에서만 사용)
+     */
+    public class Rebuild {
+        private final S target;
+        private final BiConsumer<S, S> swapped;
+        private final long startedAt = System.currentTimeMillis();
+
+        private Rebuild(S target, BiConsumer<S, S> swapped) {
+            this.target = target;
+            this.swapped = swapped;
+        }
+
+        /**
+         * 스캔한 행 추가 (잠금 없음)
+         */
+        public void put(User user) {
+            target.put(user);
+        }
+
+        /**
+         * 스캔 중 커밋된 이벤트를 새 구조에 적용한 뒤 교체
+         */
+        public void complete() {
+            lock.writeLock().lock();
+            try {
+                for (UserChangeEvent event : pendingEvents) {
+                    target.apply(event);
+                }
+                pendingEvents = null;
+                S previous = current;
+                current = target;
+                if (swapped != null) {
+                    swapped.accept(previous, target);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            lastRebuiltAt = System.currentTimeMillis();
+            lastRebuildMillis = lastRebuiltAt - startedAt;
+        }
+
+        /**
+         * 스캔 실패 시 재구축 취소 (현재 구조 유지)
+         */
+        public void abort() {
+            lock.writeLock().lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+}
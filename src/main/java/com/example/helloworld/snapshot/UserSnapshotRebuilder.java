@@ -0,0 +1,125 @@
+package com.example.helloworld.snapshot;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.mapper.UserMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * users 테이블 스냅샷 재구축 (UserSnapshotTarget 전체가 한 번의 스캔을 함께 사용)
+ *
+ * 기동 시(웹 요청 수신 전) 모든 대상을 한 번의 MyBatis 커서 스캔으로 구축하고, 이후 check-interval-ms 마다
+ * 재구축이 필요한 대상(재구축 주기가 지났거나 Bloom 필터 포화)만 모아 다시 한 번의 스캔으로 채운다.
+ * 대상별 주기가 확인 주기의 배수이므로 주기가 겹치는 대상은 같은 스캔에 합쳐지고, 같은 시각에 여러 전체 스캔이 돌지 않는다.
+ * 스캔은 지연된 레플리카가 아니라 primary 를 읽어야 하므로 readOnly 가 아닌 트랜잭션으로 실행한다 (readOnly 는 레플리카로 라우팅됨).
+ */
+@Component
+public class UserSnapshotRebuilder implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(UserSnapshotRebuilder.class);
+
+    private final UserMapper userMapper;
+    private final TransactionTemplate scanTransaction;
+    private final ObjectProvider<UserSnapshotTarget> targets;
+    private final long checkIntervalMs;
+
+    private volatile long scanCount;
+
+    public UserSnapshotRebuilder(UserMapper userMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectProvider<UserSnapshotTarget> targets,
+                                 @Value("${user-snapshot.check-interval-ms:60000}") long checkIntervalMs) {
+        this.userMapper = userMapper;
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.targets = targets;
+        this.checkIntervalMs = checkIntervalMs;
+    }
+
+    /**
+     * 모든 싱글톤 생성 후, 웹 서버가 요청을 받기 전에 모든 대상을 한 번의 스캔으로 구축
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild(targets.orderedStream().toList());
+    }
+
+    /**
+     * 재구축이 필요한 대상을 모아 한 번의 스캔으로 재구축
+     */
+    @Scheduled(initialDelayString = "${user-snapshot.check-interval-ms:60000}",
+            fixedDelayString = "${user-snapshot.check-interval-ms:60000}")
+    public void rebuildDue() {
+        long now = System.currentTimeMillis() + checkIntervalMs / 2;
+        List<UserSnapshotTarget> due = targets.orderedStream().filter(target -> target.isRebuildDue(now)).toList();
+        if (!due.isEmpty()) {
+            rebuild(due);
+        }
+    }
+
+    /**
+     * 지정한 대상만 즉시 재구축 (한 번의 스캔)
+     * @return 재구축을 마친 대상 수 (사용하지 않거나 이미 재구축 중인 대상은 제외)
+     */
+    public int rebuild(UserSnapshotTarget... targets) {
+        return rebuild(Arrays.asList(targets));
+    }
+
+    /**
+     * 대상 목록을 한 번의 스캔으로 재구축
+     * 스캔 중 오류가 나면 모든 대상의 재구축을 취소하고 현재 구조를 유지한다.
+     */
+    public int rebuild(List<UserSnapshotTarget> targets) {
+        List<UserSnapshot<?>.Rebuild> rebuilds = new ArrayList<>();
+        for (UserSnapshotTarget target : targets) {
+            UserSnapshot<?>.Rebuild rebuild = target.startRebuild();
+            if (rebuild != null) {
+                rebuilds.add(rebuild);
+            }
+        }
+        if (rebuilds.isEmpty()) {
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            scanTransaction.executeWithoutResult(status -> {
+                try (Cursor<User> cursor = userMapper.streamAll()) {
+                    for (User user : cursor) {
+                        for (UserSnapshot<?>.Rebuild rebuild : rebuilds) {
+                            rebuild.put(user);
+                        }
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (RuntimeException e) {
+            rebuilds.forEach(UserSnapshot.Rebuild::abort);
+            throw e;
+        }
+        rebuilds.forEach(UserSnapshot.Rebuild::complete);
+        scanCount++;
+        log.debug("users 스냅샷 재구축 완료: 대상 {}개, {}ms", rebuilds.size(), System.currentTimeMillis() - start);
+        return rebuilds.size();
+    }
+
+    /**
+     * 기동 후 실행한 전체 스캔 수
+     */
+    public long getScanCount() {
+        return scanCount;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.helloworld.snapshot;
+
+/**
+ * users 테이블 전체 스캔으로 재구축하는 메모리 구조 (통계, Bloom 필터, 색인, 분석 스냅샷)
+ * UserSnapshotRebuilder 가 기동 시와 재구축이 필요한 주기마다 한 번의 스캔으로 여러 구조를 함께 채운다.
+ */
+public interface UserSnapshotTarget {
+
+    /**
+     * 재구축 확인 주기마다 호출
+     * @param now 기준 시각 (다음 확인 전에 도래하는 재구축도 이번 스캔에 합치도록 확인 주기의 절반만큼 앞선 시각)
+     * @return 이번 스캔에 포함할지 여부
+     */
+    boolean isRebuildDue(long now);
+
+    /**
+     * 재구축 시작
+     * @return 재구축 (사용하지 않거나 이미 재구축 중이면 null)
+     */
+    UserSnapshot<?>.Rebuild startRebuild();
+}
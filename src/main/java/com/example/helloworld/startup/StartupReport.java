@@ -0,0 +1,44 @@
+package com.example.helloworld.startup;
+
+import java.util.List;
+
+/**
+ * 기동 시간 보고서
+ * phases 는 기동 단계(컨텍스트 refresh 는 하위 단계로 나눔)별 시간, slowestBeans 는 자기 시간이 긴 빈 순서이다.
+ */
+public class StartupReport {
+    private final double readyMs;
+    private final boolean aotEnabled;
+    private final boolean lazyInitialization;
+    private final int stepCount;
+    private final List<StartupStepTiming> phases;
+    private final List<StartupStepTiming> slowestBeans;
+
+    public StartupReport(double readyMs, boolean aotEnabled, boolean lazyInitialization, int stepCount,
+                         List<StartupStepTiming> phases, List<StartupStepTiming> slowestBeans) {
+        this.readyMs = readyMs;
+        this.aotEnabled = aotEnabled;
+        this.lazyInitialization = lazyInitialization;
+        this.stepCount = stepCount;
+        this.phases = phases;
+        this.slowestBeans = slowestBeans;
+    }
+
+    /**
+     * JVM 시작부터가 아니라 SpringApplication.run 시작부터 요청 처리 준비(ApplicationReadyEvent)까지의 시간
+     */
+    public double getReadyMs() { return readyMs; }
+
+    /**
+     * AOT 생성 코드(spring.aot.enabled=true)로 기동했는지 여부
+     */
+    public boolean isAotEnabled() { return aotEnabled; }
+    public boolean isLazyInitialization() { return lazyInitialization; }
+
+    /**
+     * 기록된 기동 단계 수 (버퍼가 차면 이후 단계는 기록되지 않음)
+     */
+    public int getStepCount() { return stepCount; }
+    public List<StartupStepTiming> getPhases() { return phases; }
+    public List<StartupStepTiming> getSlowestBeans() { return slowestBeans; }
+}
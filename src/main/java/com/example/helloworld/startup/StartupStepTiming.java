@@ -0,0 +1,36 @@
+package com.example.helloworld.startup;
+
+/**
+ * 기동 단계 하나의 소요 시간
+ * 단계 이름별 합계(phase)이거나 빈 하나의 생성/초기화(beanName 포함)이다.
+ */
+public class StartupStepTiming {
+    private final String name;
+    private final String beanName;
+    private final double durationMs;
+    private final double selfMs;
+
+    public StartupStepTiming(String name, String beanName, double durationMs, double selfMs) {
+        this.name = name;
+        this.beanName = beanName;
+        this.durationMs = durationMs;
+        this.selfMs = selfMs;
+    }
+
+    public String getName() { return name; }
+
+    /**
+     * 빈 단계의 빈 이름 (단계 합계이면 null)
+     */
+    public String getBeanName() { return beanName; }
+
+    /**
+     * 하위 단계를 포함한 시간
+     */
+    public double getDurationMs() { return durationMs; }
+
+    /**
+     * 하위 단계(의존 빈 생성 등)를 뺀 자기 시간
+     */
+    public double getSelfMs() { return selfMs; }
+}
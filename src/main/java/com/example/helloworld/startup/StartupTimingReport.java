@@ -0,0 +1,171 @@
+package com.example.helloworld.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 기동 시간 보고서 (ApplicationStartup 단계별 시간)
+ *
+ * HelloWorldApplication 이 BufferingApplicationStartup 으로 기동 단계(컨텍스트 준비, 빈 정의 처리, 빈 생성,
+ * SmartInitializingSingleton 초기화 등)를 기록하면, 요청 처리 준비가 끝난 시점에 단계별 시간과 자기 시간이 긴 빈을
+ * 로그로 남기고 GET /api/startup/report 로 제공한다. (원본 단계 목록은 /actuator/startup)
+ * startup.report.max-ready-ms 를 넘으면 경고해 Hibernate/MyBatis 초기화나 메모리 색인 구축의 기동 시간 회귀를 드러낸다.
+ */
+@Component
+public class StartupTimingReport {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimingReport.class);
+
+    // 빈 수 x (생성 + 후처리 단계) 를 넉넉히 담는 크기
+    private static final int BUFFER_CAPACITY = 10000;
+    private static final String APPLICATION_STEP_PREFIX = "spring.boot.application.";
+    private static final String REFRESH_STEP = "spring.context.refresh";
+    private static final String BEAN_NAME_TAG = "beanName";
+    private static final List<String> BEAN_STEPS = List.of("spring.beans.instantiate", "spring.beans.smart-initialize");
+
+    private final boolean enabled;
+    private final int topBeans;
+    private final long maxReadyMs;
+    private final boolean lazyInitialization;
+
+    private volatile StartupReport report;
+
+    public StartupTimingReport(@Value("${startup.report.enabled:true}") boolean enabled,
+                               @Value("${startup.report.top-beans:10}") int topBeans,
+                               @Value("${startup.report.max-ready-ms:0}") long maxReadyMs,
+                               @Value("${spring.main.lazy-initialization:false}") boolean lazyInitialization) {
+        this.enabled = enabled;
+        this.topBeans = topBeans;
+        this.maxReadyMs = maxReadyMs;
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    /**
+     * 기동 단계를 메모리에 기록하는 ApplicationStartup (main 과 WAR 배포 모두 사용)
+     */
+    public static ApplicationStartup newApplicationStartup() {
+        return new BufferingApplicationStartup(BUFFER_CAPACITY);
+    }
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!enabled || !(event.getApplicationContext().getApplicationStartup()
+                instanceof BufferingApplicationStartup startup)) {
+            return;
+        }
+        double readyMs = event.getTimeTaken() != null ? event.getTimeTaken().toNanos() / 1e6 : 0;
+        StartupReport created = create(startup.getBufferedTimeline(), readyMs);
+        report = created;
+        log.info(format(created));
+        if (maxReadyMs > 0 && readyMs > maxReadyMs) {
+            log.warn("기동 시간이 기준을 넘음: {}ms > {}ms (startup.report.max-ready-ms)", Math.round(readyMs), maxReadyMs);
+        }
+    }
+
+    /**
+     * 마지막 기동의 보고서 (BufferingApplicationStartup 없이 기동했으면 비어 있음)
+     */
+    public Optional<StartupReport> getReport() {
+        return Optional.ofNullable(report);
+    }
+
+    private StartupReport create(StartupTimeline timeline, double readyMs) {
+        List<StartupTimeline.TimelineEvent> events = new ArrayList<>(timeline.getEvents());
+        events.sort(Comparator.comparing(StartupTimeline.TimelineEvent::getStartTime));
+        Map<Long, Long> childNanos = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childNanos.merge(parentId, event.getDuration().toNanos(), Long::sum);
+            }
+        }
+
+        // 최상위 단계는 순서대로, 컨텍스트 refresh 는 바로 아래 단계 이름별 합계로 나눠 그 뒤에 둔다
+        Long refreshId = events.stream().map(StartupTimeline.TimelineEvent::getStartupStep)
+                .filter(step -> step.getParentId() == null && REFRESH_STEP.equals(step.getName()))
+                .map(StartupStep::getId).findFirst().orElse(null);
+        Map<String, long[]> refreshPhases = new LinkedHashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (refreshId != null && refreshId.equals(step.getParentId())) {
+                long[] sums = refreshPhases.computeIfAbsent(step.getName(), name -> new long[2]);
+                sums[0] += event.getDuration().toNanos();
+                sums[1] += event.getDuration().toNanos() - childNanos.getOrDefault(step.getId(), 0L);
+            }
+        }
+        // 기동 중 들어온 요청이 다른 스레드에서 빈을 만들면 단계의 부모가 그 빈으로 기록될 수 있으므로
+        // SpringApplication 단계는 부모와 관계없이 최상위로 본다
+        List<StartupStepTiming> phases = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (step.getParentId() == null || step.getName().startsWith(APPLICATION_STEP_PREFIX)) {
+                long nanos = event.getDuration().toNanos();
+                phases.add(new StartupStepTiming(step.getName(), null, nanos / 1e6,
+                        (nanos - childNanos.getOrDefault(step.getId(), 0L)) / 1e6));
+                if (Long.valueOf(step.getId()).equals(refreshId)) {
+                    refreshPhases.forEach((name, sums) -> phases.add(
+                            new StartupStepTiming(REFRESH_STEP + " > " + name, null, sums[0] / 1e6, sums[1] / 1e6)));
+                }
+            }
+        }
+
+        List<StartupStepTiming> beans = new ArrayList<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (BEAN_STEPS.contains(step.getName())) {
+                long nanos = event.getDuration().toNanos();
+                beans.add(new StartupStepTiming(step.getName(), beanName(step), nanos / 1e6,
+                        (nanos - childNanos.getOrDefault(step.getId(), 0L)) / 1e6));
+            }
+        }
+        beans.sort(Comparator.comparingDouble(StartupStepTiming::getSelfMs).reversed());
+        return new StartupReport(readyMs, AotDetector.useGeneratedArtifacts(), lazyInitialization, events.size(),
+                phases, List.copyOf(beans.subList(0, Math.min(topBeans, beans.size()))));
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 로그용 표 (단계별 시간, 자기 시간이 긴 빈)
+     */
+    public static String format(StartupReport report) {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("기동 시간 %.0fms (AOT %s, 지연 초기화 %s, 기록 단계 %d)%n", report.getReadyMs(),
+                report.isAotEnabled() ? "사용" : "미사용", report.isLazyInitialization() ? "사용" : "미사용",
+                report.getStepCount()));
+        text.append(String.format("  %-70s %10s %10s%n", "단계", "전체(ms)", "자기(ms)"));
+        for (StartupStepTiming phase : report.getPhases()) {
+            text.append(String.format("  %-70s %10.1f %10.1f%n", phase.getName(), phase.getDurationMs(), phase.getSelfMs()));
+        }
+        text.append(String.format("  %-70s %10s %10s%n", "빈 (자기 시간 순)", "전체(ms)", "자기(ms)"));
+        for (StartupStepTiming bean : report.getSlowestBeans()) {
+            String name = bean.getName().substring(bean.getName().lastIndexOf('.') + 1) + " " + bean.getBeanName();
+            text.append(String.format("  %-70s %10.1f %10.1f%n", name, bean.getDurationMs(), bean.getSelfMs()));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.helloworld.statistics;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.snapshot.UserSnapshot;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 사용자 통계 (전체 수, 활성 수, 이메일 도메인별 수)
+ * 요청마다 COUNT(*) 를 실행하는 대신 메모리에 유지하며, JPA/MyBatis 쓰기 경로의 UserChangeEvent 를
+ * 커밋 후에만 반영한다. 사용자별 (도메인, 활성 여부)를 보관하므로 같은 이벤트를 다시 적용해도 결과가 같다.
+ *
+ * reconcile-interval-ms 마다 UserSnapshotRebuilder 의 스캔으로 재계산(reconcile)하고, 재계산 중 커밋된 이벤트는
+ * 새 상태에 다시 적용한 뒤 교체한다. 비활성화 또는 구축 전에는 empty 를 반환하며 호출자는 기존 COUNT 쿼리를 사용한다.
+ */
+@Component
+public class UserStatistics implements UserSnapshotTarget {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatistics.class);
+
+    private final UserSnapshotRebuilder rebuilder;
+    private final boolean enabled;
+    private final long reconcileIntervalMs;
+
+    private final UserSnapshot<Counts> snapshot = new UserSnapshot<>(new Counts());
+    private volatile boolean ready;
+
+    private volatile long reconcileCount;
+    private volatile long lastDrift;
+
+    public UserStatistics(UserSnapshotRebuilder rebuilder,
+                          @Value("${user-statistics.enabled:true}") boolean enabled,
+                          @Value("${user-statistics.reconcile-interval-ms:300000}") long reconcileIntervalMs) {
+        this.rebuilder = rebuilder;
+        this.enabled = enabled;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+    }
+
+    /**
+     * JPA/MyBatis 쓰기 커밋 후 통계 갱신
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChange(UserChangeEvent event) {
+        if (enabled) {
+            snapshot.apply(event);
+        }
+    }
+
+    @Override
+    public boolean isRebuildDue(long now) {
+        return enabled && now - snapshot.getLastRebuiltAt() >= reconcileIntervalMs;
+    }
+
+    @Override
+    public UserSnapshot<?>.Rebuild startRebuild() {
+        return enabled ? snapshot.startRebuild(new Counts(), this::swapped) : null;
+    }
+
+    /**
+     * DB 전체를 다시 읽어 즉시 재계산
+     * @return 재계산 전후 전체/활성 수 차이의 합 (누락된 변경이 없으면 0, 이미 재계산 중이면 0)
+     */
+    public long reconcile() {
+        return rebuilder.rebuild(this) > 0 ? lastDrift : 0;
+    }
+
+    /**
+     * 재계산한 상태로 교체된 직후 (쓰기 잠금 안)
+     */
+    private void swapped(Counts previous, Counts rebuilt) {
+        long drift = Math.abs(rebuilt.total - previous.total) + Math.abs(rebuilt.active - previous.active);
+        reconcileCount++;
+        lastDrift = drift;
+        if (!ready) {
+            ready = true;
+            log.info("사용자 통계 구축 완료: 전체 {}건, 활성 {}건", rebuilt.total, rebuilt.active);
+        } else if (drift != 0) {
+            log.warn("사용자 통계 재계산 시 차이 발견: {} (전체 {}건, 활성 {}건)", drift, rebuilt.total, rebuilt.active);
+        }
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * 전체 사용자 수 (구축 전이면 empty)
+     */
+    public Optional<Long> getTotalCount() {
+        return isReady() ? Optional.of(snapshot.read(counts -> counts.total)) : Optional.empty();
+    }
+
+    /**
+     * 활성 사용자 수 (구축 전이면 empty)
+     */
+    public Optional<Long> getActiveCount() {
+        return isReady() ? Optional.of(snapshot.read(counts -> counts.active)) : Optional.empty();
+    }
+
+    /**
+     * 이메일 도메인의 사용자 수 (email_domain 컬럼과 같이 대소문자를 구분하지 않음, Example.COM 과 example.com 은 같은 도메인)
+     */
+    public Optional<Long> getDomainCount(String domain) {
+        if (!isReady()) {
+            return Optional.empty();
+        }
+        String normalized = User.normalizeDomain(domain);
+        return Optional.of(snapshot.read(counts -> counts.domainCount(normalized)));
+    }
+
+    public StatisticsSnapshot getSnapshot() {
+        return snapshot.read(counts -> new StatisticsSnapshot(isReady(), counts.total, counts.active,
+                counts.domainCounts(), reconcileCount, lastDrift, snapshot.getLastRebuiltAt()));
+    }
+
+    /**
+     * 사용자별 상태와 집계 값
+     * 사용자 상태는 (도메인 번호 + 1) * 2 + 활성 여부 로 인코딩한 int 로 보관한다.
+     */
+    private static class Counts implements UserSnapshot.Rows {
+        private final Map<Long, Integer> states = new HashMap<>();
+        private final Map<String, Integer> domainIds = new HashMap<>();
+        private final List<String> domains = new ArrayList<>();
+        private long[] domainTotals = new long[16];
+        private long total;
+        private long active;
+
+        @Override
+        public void put(User user) {
+            if (user.getId() == null) {
+                return;
+            }
+            int state = encode(domainId(User.emailDomainOf(user.getEmail())), Boolean.TRUE.equals(user.getIsActive()));
+            Integer previous = states.put(user.getId(), state);
+            if (previous != null) {
+                add(previous, -1);
+            }
+            add(state, 1);
+        }
+
+        @Override
+        public void remove(Long id) {
+            if (id == null) {
+                return;
+            }
+            Integer previous = states.remove(id);
+            if (previous != null) {
+                add(previous, -1);
+            }
+        }
+
+        long domainCount(String domain) {
+            Integer id = domainIds.get(domain);
+            return id != null ? domainTotals[id] : 0;
+        }
+
+        Map<String, Long> domainCounts() {
+            Map<String, Long> result = new TreeMap<>();
+            for (int i = 0; i < domains.size(); i++) {
+                if (domainTotals[i] > 0) {
+                    result.put(domains.get(i), domainTotals[i]);
+                }
+            }
+            return result;
+        }
+
+        private void add(int state, int delta) {
+            total += delta;
+            if ((state & 1) == 1) {
+                active += delta;
+            }
+            int domainId = (state >> 1) - 1;
+            if (domainId >= 0) {
+                domainTotals[domainId] += delta;
+            }
+        }
+
+        private int domainId(String domain) {
+            if (domain == null) {
+                return -1;
+            }
+            Integer id = domainIds.get(domain);
+            if (id == null) {
+                id = domains.size();
+                domains.add(domain);
+                domainIds.put(domain, id);
+                if (id == domainTotals.length) {
+                    domainTotals = Arrays.copyOf(domainTotals, id * 2);
+                }
+            }
+            return id;
+        }
+
+        private static int encode(int domainId, boolean active) {
+            return ((domainId + 1) << 1) | (active ? 1 : 0);
+        }
+    }
+
+    /**
+     * 통계 조회 결과
+     */
+    public static class StatisticsSnapshot {
+        private final boolean ready;
+        private final long totalCount;
+        private final long activeCount;
+        private final Map<String, Long> domainCounts;
+        private final long reconcileCount;
+        private final long lastDrift;
+        private final long lastReconciledAt;
+
+        public StatisticsSnapshot(boolean ready, long totalCount, long activeCount, Map<String, Long> domainCounts,
+                                  long reconcileCount, long lastDrift, long lastReconciledAt) {
+            this.ready = ready;
+            this.totalCount = totalCount;
+            this.activeCount = activeCount;
+            this.domainCounts = domainCounts;
+            this.reconcileCount = reconcileCount;
+            this.lastDrift = lastDrift;
+            this.lastReconciledAt = lastReconciledAt;
+        }
+
+        public boolean isReady() { return ready; }
+        public long getTotalCount() { return totalCount; }
+        public long getActiveCount() { return activeCount; }
+        public long getInactiveCount() { return totalCount - activeCount; }
+        public Map<String, Long> getDomainCounts() { return domainCounts; }
+        public long getReconcileCount() { return reconcileCount; }
+        public long getLastDrift() { return lastDrift; }
+        public long getLastReconciledAt() { return lastReconciledAt; }
+    }
+}
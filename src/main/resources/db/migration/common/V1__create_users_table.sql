@@ -0,0 +1,17 @@
+-- 사용자 테이블 (User 엔티티와 UserMapper.xml 의 기준 스키마, H2/PostgreSQL 공통)
+CREATE TABLE users (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username     VARCHAR(50)  NOT NULL,
+    email        VARCHAR(100) NOT NULL,
+    email_domain VARCHAR(100),
+    full_name    VARCHAR(100),
+    created_at   TIMESTAMP(6) NOT NULL,
+    updated_at   TIMESTAMP(6),
+    is_active    BOOLEAN      DEFAULT TRUE NOT NULL,
+    version      BIGINT       DEFAULT 0 NOT NULL,
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+-- findByEmailDomain (email 순 정렬 포함), countByEmailDomain
+CREATE INDEX idx_users_email_domain ON users (email_domain, email);
@@ -0,0 +1,11 @@
+-- UserMapper.xml 의 정렬/필터 컬럼 인덱스
+-- H2 는 오름차순 인덱스를 역방향으로 읽지 않으므로 DESC 정렬에 맞춰 내림차순으로 만든다.
+
+-- findAll, findRecentUsers, findAllWithPagination(createdAt), findAllAfterCursor(createdAt), searchUsers
+CREATE INDEX idx_users_created_at ON users (created_at DESC, id DESC);
+
+-- findAllWithPagination(updatedAt), findAllAfterCursor(updatedAt)
+CREATE INDEX idx_users_updated_at ON users (updated_at DESC, id DESC);
+
+-- findByIsActiveTrue, countActiveUsers, findByIds(isActive), searchUsers(isActive)
+CREATE INDEX idx_users_active_created_at ON users (is_active, created_at DESC, id DESC);
@@ -0,0 +1,7 @@
+-- 레플리카 복제 지연 측정용 heartbeat (ReplicaDataSource 가 primary 에 쓰고 레플리카에서 읽음)
+CREATE TABLE replication_heartbeat (
+    id          INT    PRIMARY KEY,
+    beat_millis BIGINT NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_millis) VALUES (1, 0);
@@ -0,0 +1,4 @@
+-- updatedAt 정렬은 null 을 맨 뒤로 보낸다 (UserMapper.xml findAllWithPagination/findAllAfterCursor)
+-- PostgreSQL 의 DESC 기본값은 NULLS FIRST 이므로 인덱스 순서를 정렬과 맞춘다.
+DROP INDEX idx_users_updated_at;
+CREATE INDEX idx_users_updated_at ON users (updated_at DESC NULLS LAST, id DESC);
@@ -0,0 +1,2 @@
+-- email_domain 을 소문자로 통일 (User.emailDomainOf 와 같은 규칙, 도메인 조회/집계가 대소문자별로 나뉘지 않도록)
+UPDATE users SET email_domain = LOWER(email_domain) WHERE email_domain <> LOWER(email_domain);
@@ -0,0 +1,5 @@
+-- full_name 정렬 키 (NULL 은 '' 로 정렬), findAllWithPagination(fullName), findAllAfterCursor(fullName)
+-- COALESCE(full_name, '') 식으로는 인덱스를 쓸 수 없어 생성 컬럼으로 저장하고 인덱스를 만든다.
+ALTER TABLE users ADD COLUMN full_name_sort VARCHAR(100) GENERATED ALWAYS AS (COALESCE(full_name, ''));
+
+CREATE INDEX idx_users_full_name_sort ON users (full_name_sort, id);
@@ -0,0 +1,146 @@
+package com.example.helloworld.analytics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 분석 스냅샷 검사
+ * users 에 직접 적재하고 재구축한 뒤 /api/users/analytics/* 결과를 같은 의미의 SQL 집계와 비교하고,
+ * JPA/MyBatis 쓰기 API 로 생성/수정/비활성화/삭제한 뒤 재구축 없이 다시 비교한다 (커밋 후 행 단위 반영 확인).
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:analytics;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class UserAnalyticsTest {
+
+    private static final int ROWS = 3000;
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private UserColumnStore store;
+
+    private final LocalDate to = LocalDate.now();
+    private final LocalDate from = to.minusDays(399);
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM users");
+        seed();
+        store.rebuild();
+    }
+
+    @Test
+    void rebuiltSnapshotMatchesSql() {
+        assertMatchesSql();
+    }
+
+    @Test
+    void committedWritesAreAppliedWithoutRebuild() {
+        long jpaId = create("/api/users", "fresh1", "fresh1@fresh.example");
+        long mybatisId = create("/api/mybatis/users", "fresh2", "fresh2@fresh.example");
+        List<Long> seeded = jdbc.queryForList("SELECT id FROM users WHERE username LIKE 'user%' ORDER BY id LIMIT 2", Long.class);
+
+        send(HttpMethod.POST, "/api/users/" + jpaId + "/deactivate", null);
+        send(HttpMethod.PUT, "/api/mybatis/users/" + mybatisId,
+                Map.of("username", "fresh2", "email", "fresh2@moved.example"));
+        send(HttpMethod.DELETE, "/api/mybatis/users/" + seeded.get(0), null);
+        send(HttpMethod.POST, "/api/users/" + seeded.get(1) + "/deactivate", null);
+
+        assertMatchesSql();
+    }
+
+    private void assertMatchesSql() {
+        JsonNode summary = get("/api/users/analytics/summary").path("data");
+        Map<String, Object> counts = jdbc.queryForMap(
+                "SELECT COUNT(*) AS total, SUM(CASE WHEN is_active THEN 1 ELSE 0 END) AS active FROM users");
+        assertThat(summary.path("totalCount").asLong()).isEqualTo(((Number) counts.get("TOTAL")).longValue());
+        assertThat(summary.path("activeCount").asLong()).isEqualTo(((Number) counts.get("ACTIVE")).longValue());
+
+        Map<String, Long> expectedDays = new HashMap<>();
+        jdbc.query("SELECT CAST(created_at AS DATE) AS d, COUNT(*) AS c FROM users "
+                        + "WHERE created_at >= ? AND created_at < ? GROUP BY CAST(created_at AS DATE)",
+                rs -> { expectedDays.put(rs.getDate("d").toLocalDate().toString(), rs.getLong("c")); },
+                from.atStartOfDay(), to.plusDays(1).atStartOfDay());
+        Map<String, Long> actualDays = new HashMap<>();
+        for (JsonNode day : get("/api/users/analytics/signups?from=" + from + "&to=" + to).path("data")) {
+            if (day.path("count").asLong() > 0) {
+                actualDays.put(day.path("date").asText(), day.path("count").asLong());
+            }
+        }
+        assertThat(actualDays).isEqualTo(expectedDays);
+
+        Map<String, Long> expectedDomains = new HashMap<>();
+        jdbc.query("SELECT email_domain, COUNT(*) AS c FROM users WHERE email_domain IS NOT NULL GROUP BY email_domain",
+                rs -> { expectedDomains.put(rs.getString("email_domain"), rs.getLong("c")); });
+        Map<String, Long> actualDomains = new HashMap<>();
+        for (JsonNode domain : get("/api/users/analytics/domains?limit=1000").path("data")) {
+            actualDomains.put(domain.path("domain").asText(), domain.path("count").asLong());
+        }
+        assertThat(actualDomains).isEqualTo(expectedDomains);
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            // 앞쪽 도메인일수록 많도록 (0..49)
+            int domain = (int) Math.floor(50 * Math.pow(random.nextDouble(), 2));
+            LocalDateTime createdAt = now.minusMinutes(random.nextInt(400 * 24 * 60));
+            LocalDateTime updatedAt = createdAt.plusMinutes(random.nextInt(60 * 24 * 30));
+            rows.add(new Object[]{"user" + i, "user" + i + "@d" + domain + ".example", "d" + domain + ".example",
+                    "User " + i, Timestamp.valueOf(createdAt),
+                    Timestamp.valueOf(updatedAt.isAfter(now) ? now : updatedAt), random.nextInt(10) < 7});
+        }
+        jdbc.batchUpdate("INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+
+    private JsonNode get(String path) {
+        ResponseEntity<JsonNode> response = rest.getForEntity(path, JsonNode.class);
+        assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private long create(String path, String username, String email) {
+        ResponseEntity<JsonNode> response = rest.postForEntity(path,
+                Map.of("username", username, "email", email), JsonNode.class);
+        assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.CREATED);
+        return response.getBody().path("data").path("id").asLong();
+    }
+
+    private void send(HttpMethod method, String path, Object body) {
+        ResponseEntity<JsonNode> response = rest.exchange(path, method, new HttpEntity<>(body), JsonNode.class);
+        assertThat(response.getStatusCode().is2xxSuccessful()).as(method + " " + path + " -> " + response.getBody()).isTrue();
+    }
+}
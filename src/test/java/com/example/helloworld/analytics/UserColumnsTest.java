@@ -0,0 +1,79 @@
+package com.example.helloworld.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserColumnsTest {
+
+    private static final long DAY = 86_400;
+
+    @Test
+    void upsertKeepsIdOrderAndCountsLiveRows() {
+        UserColumns columns = new UserColumns();
+        columns.upsert(3, 10 * DAY, 10 * DAY, "a.com", true);
+        columns.upsert(1, 10 * DAY, UserColumns.NO_TIME, "b.com", false);
+        columns.upsert(2, 11 * DAY, 12 * DAY, "a.com", true);
+        // 같은 id 는 덮어쓴다
+        columns.upsert(1, 10 * DAY, 13 * DAY, "b.com", true);
+
+        assertThat(columns.liveRows()).isEqualTo(3);
+        assertThat(columns.countActive()).isEqualTo(3);
+        assertThat(columns.countUpdatedSince(12 * DAY)).isEqualTo(2);
+    }
+
+    @Test
+    void deleteLeavesTombstoneUntilRevived() {
+        UserColumns columns = new UserColumns();
+        columns.upsert(1, 0, 0, "a.com", true);
+        columns.upsert(2, 0, 0, "a.com", true);
+
+        columns.delete(2);
+        columns.delete(2);
+        columns.delete(99);
+        assertThat(columns.liveRows()).isEqualTo(1);
+        assertThat(columns.deletedRows()).isEqualTo(1);
+        assertThat(columns.countActive()).isEqualTo(1);
+
+        columns.upsert(2, 0, 0, "a.com", false);
+        assertThat(columns.liveRows()).isEqualTo(2);
+        assertThat(columns.deletedRows()).isZero();
+        assertThat(columns.countActive()).isEqualTo(1);
+    }
+
+    @Test
+    void countsByCreatedDayAndDomain() {
+        UserColumns columns = new UserColumns();
+        columns.upsert(1, 100 * DAY + 5, 0, "a.com", true);
+        columns.upsert(2, 100 * DAY + 6, 0, "b.com", false);
+        columns.upsert(3, 102 * DAY, 0, "a.com", true);
+        columns.upsert(4, 103 * DAY, 0, null, true);
+        columns.delete(3);
+
+        long[] totals = new long[3];
+        long[] actives = new long[3];
+        columns.countByCreatedDay(100, totals, actives);
+        assertThat(totals).containsExactly(2, 0, 0);
+        assertThat(actives).containsExactly(1, 0, 0);
+
+        long[] domainTotals = new long[columns.domainCount()];
+        long[] domainActives = new long[domainTotals.length];
+        columns.countByDomain(domainTotals, domainActives);
+        assertThat(columns.domainCount()).isEqualTo(2);
+        assertThat(columns.domainName(0)).isEqualTo("a.com");
+        assertThat(domainTotals).containsExactly(1, 1);
+        assertThat(domainActives).containsExactly(1, 0);
+    }
+
+    @Test
+    void growsPastInitialCapacityWithOutOfOrderIds() {
+        UserColumns columns = new UserColumns();
+        for (long id = 5_000; id >= 1; id--) {
+            columns.upsert(id, 0, id, null, id % 2 == 0);
+        }
+        assertThat(columns.liveRows()).isEqualTo(5_000);
+        assertThat(columns.countActive()).isEqualTo(2_500);
+        assertThat(columns.countUpdatedSince(4_001)).isEqualTo(1_000);
+        assertThat(columns.offHeapBytes()).isPositive();
+    }
+}
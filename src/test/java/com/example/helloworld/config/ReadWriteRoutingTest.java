@@ -0,0 +1,159 @@
+package com.example.helloworld.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 읽기/쓰기 라우팅 검사 (H2 인스턴스 두 개)
+ * - primary: jdbc:h2:mem:routing
+ * - replica: 별도 메모리 DB (마이그레이션만 적용, 사용자 행은 복제되지 않음)
+ *
+ * 레플리카에는 테스트가 primary 의 heartbeat 만 복사해 "heartbeat 까지 복제한 레플리카" 를 흉내 내고,
+ * 지연 확인(checkLag)도 테스트가 직접 실행한다 (lag-check-interval-ms 를 크게 두어 스케줄 실행 없음).
+ * 레플리카에는 사용자가 없으므로 응답에 새 사용자가 보이면 primary 에서 읽은 것이다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=" + ReadWriteRoutingTest.PRIMARY_URL,
+        "db.routing.enabled=true",
+        "db.routing.replica-urls=" + ReadWriteRoutingTest.REPLICA_URL,
+        "db.routing.lag-check-interval-ms=3600000",
+        "db.routing.max-lag-ms=1000",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN"
+})
+class ReadWriteRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private ReplicaDataSource replicas;
+    private ReplicaDataSource.Replica replica;
+
+    @BeforeAll
+    static void migrateReplica() {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .locations("classpath:db/migration/common", "classpath:db/migration/h2")
+                .load()
+                .migrate();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException, InterruptedException {
+        replicas = ((ReadWriteRoutingDataSource) dataSource).getReplicaDataSource();
+        replica = replicas.getReplicas().get(0);
+        replicateHeartbeat();
+    }
+
+    @Test
+    void readsUseCaughtUpReplica() {
+        long before = replica.getConnections();
+
+        get("/api/users/paged?page=0&size=5");
+        get("/api/mybatis/users/paged?page=0&size=5");
+
+        assertThat(replica.getConnections() - before).isEqualTo(2);
+    }
+
+    @Test
+    void writesUsePrimaryAndFenceReplicaUntilReplicated() throws SQLException, InterruptedException {
+        long before = replica.getConnections();
+
+        create("/api/users", "fence-jpa");
+        create("/api/mybatis/users", "fence-mybatis");
+        assertThat(replica.getConnections()).isEqualTo(before);
+
+        // 커밋 직후 읽기는 쓰기를 복제하지 않은 레플리카 대신 primary 에서 읽는다
+        assertThat(get("/api/users/search?username=fence-").toString()).contains("fence-mybatis");
+        assertThat(get("/api/mybatis/users/search?username=fence-").toString()).contains("fence-jpa");
+        assertThat(replica.getConnections()).isEqualTo(before);
+        assertThat(status().get("eligible")).isEqualTo(false);
+
+        // 쓰기 이후의 heartbeat 를 복제하면 다시 레플리카에서 읽는다
+        replicateHeartbeat();
+        assertThat(status().get("eligible")).isEqualTo(true);
+        get("/api/users/paged?page=0&size=5");
+        assertThat(replica.getConnections() - before).isEqualTo(1);
+    }
+
+    @Test
+    void cacheLoadsUsePrimary() throws SQLException, InterruptedException {
+        long id = create("/api/users", "cached").path("data").path("id").asLong();
+        replicateHeartbeat();
+        long before = replica.getConnections();
+        long primaryReads = replicas.getPrimaryReads();
+
+        JsonNode jpa = get("/api/users/" + id);
+        JsonNode mybatis = get("/api/mybatis/users/" + id);
+
+        assertThat(jpa.path("data").path("username").asText()).isEqualTo("cached");
+        assertThat(mybatis.path("data").path("username").asText()).isEqualTo("cached");
+        assertThat(replicas.getPrimaryReads()).isGreaterThan(primaryReads);
+        assertThat(replica.getConnections()).isEqualTo(before);
+    }
+
+    /**
+     * primary 의 heartbeat 를 레플리카에 복사하고 지연 확인 (레플리카가 지금까지의 쓰기를 복제한 상태가 됨)
+     */
+    private void replicateHeartbeat() throws SQLException, InterruptedException {
+        // 마지막 쓰기와 같은 밀리초의 heartbeat 는 쓰기 이후로 보지 않으므로 한 틱 넘긴다
+        Thread.sleep(2);
+        replicas.checkLag();
+        try (Connection primary = DriverManager.getConnection(PRIMARY_URL, "sa", "");
+             Connection target = DriverManager.getConnection(REPLICA_URL, "sa", "");
+             PreparedStatement read = primary.prepareStatement("SELECT beat_millis FROM replication_heartbeat WHERE id = 1");
+             ResultSet rs = read.executeQuery();
+             PreparedStatement write = target.prepareStatement("UPDATE replication_heartbeat SET beat_millis = ? WHERE id = 1")) {
+            rs.next();
+            write.setLong(1, rs.getLong(1));
+            write.executeUpdate();
+        }
+        replicas.checkLag();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> status() {
+        return ((List<Map<String, Object>>) replicas.getStatus().get("replicas")).get(0);
+    }
+
+    private JsonNode get(String path) {
+        ResponseEntity<JsonNode> response = rest.getForEntity(path, JsonNode.class);
+        assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.OK);
+        return response.getBody();
+    }
+
+    private JsonNode create(String path, String username) {
+        ResponseEntity<JsonNode> response = rest.postForEntity(path,
+                Map.of("username", username, "email", username + "@example.com"), JsonNode.class);
+        assertThat(response.getStatusCode()).as(path).isEqualTo(HttpStatus.CREATED);
+        return response.getBody();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.helloworld.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * fast-startup 프로필(지연 초기화)에서도 @Scheduled 메서드가 있는 빈은 기동 중에 만들어져 예약 작업이 실행되는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:fast-startup;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+@ActiveProfiles("fast-startup")
+class StartupConfigTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void scheduledBeansAreCreatedEagerly() {
+        assertThat(beanFactory.containsSingleton("userPathComparator")).isTrue();
+        assertThat(beanFactory.containsSingleton("userChangeFeed")).isTrue();
+        // 예약 작업이 없는 빈은 여전히 첫 사용 때 생성
+        assertThat(beanFactory.containsSingleton("userMybatisController")).isFalse();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.helloworld.consistency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구간 해시가 보지 못하는 결과 매핑 차이를 말단 표본 비교가 찾는지 확인
+ * MyBatis 가 NULL 컬럼의 setter 를 호출하지 않게 하면(call-setters-on-nulls=false) updated_at 이 NULL 인 행은
+ * User 기본 생성자의 값을 유지해 JPA 결과와 달라지지만, DB 에서 계산하는 행 해시는 같다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:path-compare;DB_CLOSE_DELAY=-1",
+        "mybatis.configuration.call-setters-on-nulls=false",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class UserPathComparatorTest {
+
+    @Autowired
+    private UserPathComparator comparator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void mappedRowSampleFindsDifferenceThatDigestsMiss() {
+        String insert = "INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active, version) "
+                + "VALUES (?, ?, 'example.com', NULL, CURRENT_TIMESTAMP, %s, TRUE, 0)";
+        jdbcTemplate.update(insert.formatted("CURRENT_TIMESTAMP"), "updated", "updated@example.com");
+        jdbcTemplate.update(insert.formatted("NULL"), "never-updated", "never-updated@example.com");
+
+        // 말단 폭 1: 두 행의 구간은 해시로 비교되고, 해시가 같으면 행을 읽지 않는다
+        UserPathDiff diff = comparator.compare(UserPathComparator.DEFAULT_FANOUT, 1, 10);
+        List<UserMismatch> sampled = comparator.verifyMappedRows();
+
+        assertThat(diff.getRowsLoaded()).isZero();
+        assertThat(diff.getMismatches()).isEmpty();
+        assertThat(sampled).singleElement().satisfies(mismatch -> {
+            assertThat(mismatch.getType()).isEqualTo(UserMismatch.Type.DIFFERENT);
+            assertThat(mismatch.getFields()).extracting(UserMismatch.FieldDifference::getField).containsExactly("updatedAt");
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.helloworld.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.session.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MybatisStatementMetricsInterceptorTest {
+
+    private final Configuration configuration = new Configuration();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void batchUpdatesAreRecordedPerStatementOnFlush() throws Exception {
+        MappedStatement insert = statement("com.example.helloworld.mapper.UserMapper.insert");
+        MappedStatement deactivate = statement("com.example.helloworld.mapper.UserMapper.deactivate");
+        BatchResult inserts = new BatchResult(insert, "INSERT");
+        inserts.setUpdateCounts(new int[] {1, 1, Statement.SUCCESS_NO_INFO});
+        BatchResult deactivations = new BatchResult(deactivate, "UPDATE");
+        deactivations.setUpdateCounts(new int[] {Statement.SUCCESS_NO_INFO});
+
+        Executor target = mock(Executor.class);
+        when(target.update(any(), any())).thenReturn(BatchExecutor.BATCH_UPDATE_RETURN_VALUE);
+        when(target.flushStatements()).thenReturn(List.of(inserts, deactivations));
+        Executor executor = (Executor) Plugin.wrap(target, interceptor());
+
+        executor.update(insert, null);
+        executor.update(insert, null);
+        assertThat(registry.find("user.db.statement").timers()).isEmpty();
+
+        executor.flushStatements();
+
+        assertThat(registry.get("user.db.statement").tag("statement", "UserMapper.insert").timer().count()).isEqualTo(1);
+        assertThat(registry.get("user.db.statement").tag("statement", "UserMapper.deactivate").timer().count()).isEqualTo(1);
+        DistributionSummary rows = registry.get("user.db.statement.rows").tag("statement", "UserMapper.insert").summary();
+        assertThat(rows.totalAmount()).isEqualTo(2);
+        assertThat(registry.find("user.db.statement.rows").tag("statement", "UserMapper.deactivate").summary()).isNull();
+    }
+
+    @SuppressWarnings("unchecked")
+    private MybatisStatementMetricsInterceptor interceptor() {
+        ObjectProvider<UserStatementMetrics> metrics = mock(ObjectProvider.class);
+        when(metrics.getObject()).thenReturn(new UserStatementMetrics(registry));
+        return new MybatisStatementMetricsInterceptor(metrics);
+    }
+
+    private MappedStatement statement(String id) {
+        return new MappedStatement.Builder(configuration, id, new StaticSqlSource(configuration, "SQL"), SqlCommandType.UPDATE)
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.helloworld.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실행 계획 회귀 검사
+ * Flyway 마이그레이션을 적용한 DB 에 컨텍스트를 띄우고 QueryPlanChecker 로 UserMapper 의 모든 문장을 EXPLAIN 해
+ * 전체 스캔이나 검사 실패 문장이 있으면 실패한다 (인덱스 누락/쿼리 회귀 검출).
+ *
+ * 기본은 application.properties 의 H2 메모리 DB 이며, PostgreSQL 은 접속 정보를 시스템 프로퍼티로 넘긴다
+ * (드라이버를 클래스패스에 추가해야 함):
+ *   mvn test -Dtest=QueryPlanCheckerTest -Dspring.datasource.url=jdbc:postgresql://localhost:5432/hello \
+ *       -Dspring.datasource.username=... -Dspring.datasource.password=...
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN"
+})
+class QueryPlanCheckerTest {
+
+    @Autowired
+    private QueryPlanChecker queryPlanChecker;
+
+    @Test
+    void everyMapperStatementUsesAnIndex() {
+        List<StatementPlan> plans = queryPlanChecker.check();
+
+        List<StatementPlan> failed = plans.stream().filter(StatementPlan::isFailed).toList();
+        assertThat(plans).isNotEmpty();
+        assertThat(failed)
+                .as("전체 스캔 또는 검사 실패 문장:%n%s", failed.stream()
+                        .map(plan -> plan.getStatement() + " " + plan.getVariant() + "\n    "
+                                + (plan.getError() != null ? plan.getError() : plan.getPlan().replace("\n", "\n    ")))
+                        .collect(Collectors.joining("\n")))
+                .isEmpty();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.helloworld.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBitmapTest {
+
+    @Test
+    void addRemoveAndContainsAcrossContainers() {
+        IdBitmap bitmap = new IdBitmap();
+        bitmap.add(1);
+        bitmap.add(65_535);
+        bitmap.add(65_536);
+        bitmap.add(10_000_000_000L);
+        bitmap.add(1);
+
+        assertThat(bitmap.cardinality()).isEqualTo(4);
+        assertThat(bitmap.contains(65_536)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+
+        bitmap.remove(65_536);
+        bitmap.remove(3);
+        assertThat(bitmap.contains(65_536)).isFalse();
+        assertThat(bitmap.cardinality()).isEqualTo(3);
+        assertThat(toList(bitmap)).containsExactly(1L, 65_535L, 10_000_000_000L);
+    }
+
+    @Test
+    void denseContainerConvertsToBitmapAndBack() {
+        IdBitmap bitmap = new IdBitmap();
+        for (long id = 0; id < 10_000; id++) {
+            bitmap.add(id * 2);
+        }
+        assertThat(bitmap.cardinality()).isEqualTo(10_000);
+        assertThat(bitmap.contains(19_998)).isTrue();
+        assertThat(bitmap.contains(19_999)).isFalse();
+
+        for (long id = 0; id < 9_990; id++) {
+            bitmap.remove(id * 2);
+        }
+        assertThat(toList(bitmap)).containsExactly(19_980L, 19_982L, 19_984L, 19_986L, 19_988L,
+                19_990L, 19_992L, 19_994L, 19_996L, 19_998L);
+    }
+
+    @Test
+    void setOperationsMatchTreeSet() {
+        Random random = new Random(42);
+        TreeSet<Long> left = new TreeSet<>();
+        TreeSet<Long> right = new TreeSet<>();
+        // 희소(배열) 컨테이너와 조밀(비트맵) 컨테이너가 섞이도록 구간마다 밀도를 다르게 한다
+        for (int i = 0; i < 20_000; i++) {
+            left.add((long) random.nextInt(200_000));
+            right.add((long) random.nextInt(i < 10_000 ? 70_000 : 400_000));
+        }
+        IdBitmap a = IdBitmap.of(new ArrayList<>(left));
+        IdBitmap b = IdBitmap.of(new ArrayList<>(right));
+
+        TreeSet<Long> and = new TreeSet<>(left);
+        and.retainAll(right);
+        TreeSet<Long> andNot = new TreeSet<>(left);
+        andNot.removeAll(right);
+
+        assertThat(toList(IdBitmap.and(a, b))).containsExactlyElementsOf(and);
+        assertThat(IdBitmap.andCardinality(a, b)).isEqualTo(and.size());
+        assertThat(toList(IdBitmap.andNot(a, b))).containsExactlyElementsOf(andNot);
+        assertThat(toList(a)).containsExactlyElementsOf(left);
+    }
+
+    private static List<Long> toList(IdBitmap bitmap) {
+        List<Long> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+}
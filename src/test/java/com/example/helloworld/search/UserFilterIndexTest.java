@@ -0,0 +1,161 @@
+package com.example.helloworld.search;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.service.UserMybatisService;
+import com.example.helloworld.service.UserSearchCriteria;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 고급 검색 비트맵 색인 검사
+ * 색인 경로(UserMybatisService.searchUsers)의 페이지와 전체 건수를 같은 조건의 SQL 결과와 비교한다.
+ * 서비스 쓰기는 커밋 후 이벤트로, 애플리케이션 밖(JDBC) 변경은 재구축으로 반영되는지 확인한다.
+ * 문자열 조건은 n-gram 색인 결과와 교집합하므로 두 색인을 한 번의 스캔으로 함께 재구축한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:filter-index;DB_CLOSE_DELAY=-1",
+        "user-analytics.enabled=false",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class UserFilterIndexTest {
+
+    private static final int ROWS = 3000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private UserMybatisService service;
+
+    @Autowired
+    private UserMapper mapper;
+
+    @Autowired
+    private UserFilterIndex filterIndex;
+
+    @Autowired
+    private UserNgramIndex ngramIndex;
+
+    @Autowired
+    private UserSnapshotRebuilder rebuilder;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final Map<String, UserSearchCriteria> cases = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM users");
+        seed(ROWS);
+        // 적재는 서비스 계층을 거치지 않아 변경 이벤트가 없으므로 색인을 다시 구축한다
+        rebuilder.rebuild(ngramIndex, filterIndex);
+
+        LocalDate today = LocalDate.now();
+        cases.put("조건 없음", criteria(null, null, null, null, null));
+        cases.put("isActive", criteria(null, true, null, null, null));
+        cases.put("domain", criteria(null, null, "d3.example", null, null));
+        cases.put("isActive+domain", criteria(null, false, "d7.example", null, null));
+        cases.put("domain+생성일(90일)", criteria(null, null, "d1.example", today.minusDays(90), today));
+        cases.put("isActive+domain+생성일", criteria(null, true, "d0.example", today.minusDays(200), today.minusDays(100)));
+        cases.put("username+isActive", criteria("er12", true, null, null, null));
+        cases.put("username+domain+생성일", criteria("er1", null, "d2.example", today.minusDays(300), today));
+    }
+
+    @Test
+    void indexedSearchMatchesSql() {
+        assertThat(mismatches()).isEmpty();
+    }
+
+    @Test
+    void serviceWritesAreAppliedAfterCommit() {
+        long firstId = jdbc.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        service.createUser(new User("fresh-user", "fresh-user@d3.example", "Fresh User"));
+        User moved = service.getUserById(firstId + 1).orElseThrow();
+        moved.setEmail("moved@d7.example");
+        service.updateUser(moved);
+        service.deleteUser(firstId + 2);
+        User toggled = service.getUserById(firstId + 3).orElseThrow();
+        toggled.setIsActive(!Boolean.TRUE.equals(toggled.getIsActive()));
+        service.updateUser(toggled);
+
+        assertThat(mismatches()).isEmpty();
+    }
+
+    @Test
+    void rebuildReconcilesOutOfBandChanges() {
+        long firstId = jdbc.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        seed(50);
+        jdbc.update("UPDATE users SET email = 'moved@d7.example', email_domain = 'd7.example' WHERE id = ?", firstId);
+        jdbc.update("UPDATE users SET is_active = NOT is_active WHERE id = ?", firstId + 1);
+        jdbc.update("DELETE FROM users WHERE id = ?", firstId + 2);
+        assertThat(mismatches()).as("이벤트 없는 변경은 재구축 전까지 색인에 없음").isNotEmpty();
+
+        assertThat(rebuilder.rebuild(ngramIndex, filterIndex)).isEqualTo(2);
+
+        assertThat(mismatches()).isEmpty();
+    }
+
+    /**
+     * 조건별로 첫 페이지, 중간 페이지, 마지막 페이지의 id 순서와 전체 건수 비교
+     */
+    private List<String> mismatches() {
+        List<String> mismatches = new ArrayList<>();
+        for (Map.Entry<String, UserSearchCriteria> entry : cases.entrySet()) {
+            UserSearchCriteria criteria = entry.getValue();
+            long expectedTotal = mapper.countSearchUsers(criteria);
+            int lastPage = (int) Math.max(0, (expectedTotal - 1) / PAGE_SIZE);
+            for (int page : new int[]{0, lastPage / 2, lastPage}) {
+                UserMybatisService.UserPageResult actual = service.searchUsers(criteria, page, PAGE_SIZE);
+                List<Long> expectedIds = ids(mapper.searchUsers(criteria, (long) page * PAGE_SIZE, PAGE_SIZE));
+                if (actual.getTotalElements() != expectedTotal || !ids(actual.getContent()).equals(expectedIds)) {
+                    mismatches.add(String.format("%s page %d: total %d/%d, index=%s, sql=%s", entry.getKey(), page,
+                            actual.getTotalElements(), expectedTotal, ids(actual.getContent()), expectedIds));
+                }
+            }
+        }
+        return mismatches;
+    }
+
+    private static UserSearchCriteria criteria(String username, Boolean isActive, String domain,
+                                               LocalDate createdFrom, LocalDate createdTo) {
+        return new UserSearchCriteria(username, null, null, isActive, domain, createdFrom, createdTo);
+    }
+
+    private void seed(int rows) {
+        Random random = new Random(rows);
+        LocalDateTime now = LocalDateTime.now();
+        String prefix = "user" + System.nanoTime() + "-";
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            int domain = (int) Math.floor(10 * Math.pow(random.nextDouble(), 2));
+            // 같은 시각이 여러 건 있도록 분 단위로 자른다 (id 내림차순 보조 정렬 확인)
+            LocalDateTime createdAt = now.minusSeconds(random.nextInt(400 * 24 * 60) * 60L).withNano(0);
+            batch.add(new Object[]{prefix + i, prefix + i + "@d" + domain + ".example", "d" + domain + ".example",
+                    "User " + i, Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt), random.nextInt(10) < 7});
+        }
+        jdbc.batchUpdate("INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)", batch);
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
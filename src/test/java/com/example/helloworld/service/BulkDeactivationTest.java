@@ -0,0 +1,192 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.analytics.UserColumnStore;
+import com.example.helloworld.cache.UserChangeVersion;
+import com.example.helloworld.mapper.UserMapper;
+import com.example.helloworld.snapshot.UserSnapshotRebuilder;
+import com.example.helloworld.snapshot.UserSnapshotTarget;
+import com.example.helloworld.statistics.UserStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건 일괄 비활성화 검사 (JPA @Modifying 경로, MyBatis 경로)
+ * - 영향 행 수가 실행 전 SQL COUNT 와 같고, 실행 후 조건에 맞는 활성 사용자가 남지 않으며, 다시 실행하면 0 건인지
+ * - id 범위를 id-range-size 폭의 구간으로 나누어 실행하는지 (구간 수)
+ * - 통계(UserStatistics), 분석 스냅샷(UserColumnStore), 필터 색인(고급 검색 건수), 목록 ETag 버전이 DB 와 맞는지
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:bulk-deactivation;DB_CLOSE_DELAY=-1",
+        "user-bulk.id-range-size=" + BulkDeactivationTest.ID_RANGE_SIZE,
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class BulkDeactivationTest {
+
+    static final int ID_RANGE_SIZE = 500;
+    private static final int ROWS = 3000;
+    private static final List<String> DOMAINS = List.of("d0.example", "d1.example", "d3.example", "d7.example");
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserMybatisBulkService userMybatisBulkService;
+
+    @Autowired
+    private UserMybatisService userMybatisService;
+
+    @Autowired
+    private UserMapper mapper;
+
+    @Autowired
+    private UserStatistics statistics;
+
+    @Autowired
+    private UserColumnStore columnStore;
+
+    @Autowired
+    private UserChangeVersion changeVersion;
+
+    @Autowired
+    private UserSnapshotRebuilder rebuilder;
+
+    @Autowired
+    private List<UserSnapshotTarget> snapshotTargets;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM users");
+        seed();
+        // 적재는 서비스 계층을 거치지 않아 변경 이벤트가 없으므로 메모리 구조를 다시 구축한다
+        rebuilder.rebuild(snapshotTargets);
+    }
+
+    @Test
+    void jpaPathDeactivatesMatchingRowsInIdRangeChunks() {
+        long version = changeVersion.getVersion();
+
+        assertDeactivates(userBulkService::deactivateMatching,
+                new UserDeactivationCriteria(null, null, null, "d3.example", null, null, null, today.minusDays(200)));
+        assertDeactivates(userBulkService::deactivateMatching,
+                new UserDeactivationCriteria(null, "@d0.", null, null, today.minusDays(50), today.minusDays(20), null, null));
+
+        assertThat(changeVersion.getVersion()).isGreaterThan(version);
+        assertMemoryMatchesDatabase();
+    }
+
+    @Test
+    void mybatisPathDeactivatesMatchingRowsInIdRangeChunks() {
+        long version = changeVersion.getVersion();
+
+        assertDeactivates(userMybatisBulkService::deactivateMatching,
+                new UserDeactivationCriteria("er12", null, null, null, today.minusDays(300), null, null, null));
+        assertDeactivates(userMybatisBulkService::deactivateMatching,
+                new UserDeactivationCriteria(null, null, null, "d1.example", null, null,
+                        today.minusDays(100), today.minusDays(10)));
+
+        assertThat(changeVersion.getVersion()).isGreaterThan(version);
+        assertMemoryMatchesDatabase();
+    }
+
+    @Test
+    void criteriaWithoutConditionsIsRejected() {
+        assertThatThrownBy(() -> new UserDeactivationCriteria(null, null, null, null, null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 실행 전 조건에 맞는 활성 사용자 수와 영향 행 수, 구간 수, 실행 후 남은 수, 재실행 영향 행 수 확인
+     */
+    private void assertDeactivates(Function<UserDeactivationCriteria, BulkDeactivationResult> deactivation,
+                                   UserDeactivationCriteria criteria) {
+        long expected = countActive(criteria);
+        long minId = jdbc.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        long maxId = jdbc.queryForObject("SELECT MAX(id) FROM users", Long.class);
+        assertThat(expected).isPositive();
+
+        BulkDeactivationResult result = deactivation.apply(criteria);
+
+        assertThat(result.getDeactivatedCount()).isEqualTo(expected);
+        assertThat(result.getChunkCount()).isEqualTo((int) ((maxId - minId) / ID_RANGE_SIZE + 1));
+        assertThat(countActive(criteria)).isZero();
+        assertThat(deactivation.apply(criteria).getDeactivatedCount()).isZero();
+    }
+
+    /**
+     * 조건에 맞는 활성 사용자 수 (서비스와 별도로 WHERE 를 만들어 센다)
+     */
+    private long countActive(UserDeactivationCriteria criteria) {
+        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM users WHERE is_active = TRUE");
+        List<Object> args = new ArrayList<>();
+        condition(sql, args, "username LIKE ?", criteria.getUsername() != null ? "%" + criteria.getUsername() + "%" : null);
+        condition(sql, args, "email LIKE ?", criteria.getEmail() != null ? "%" + criteria.getEmail() + "%" : null);
+        condition(sql, args, "full_name LIKE ?", criteria.getFullName() != null ? "%" + criteria.getFullName() + "%" : null);
+        condition(sql, args, "email_domain = ?", criteria.getDomain());
+        condition(sql, args, "created_at >= ?", criteria.getCreatedAtFrom());
+        condition(sql, args, "created_at < ?", criteria.getCreatedAtBefore());
+        condition(sql, args, "updated_at >= ?", criteria.getUpdatedAtFrom());
+        condition(sql, args, "updated_at < ?", criteria.getUpdatedAtBefore());
+        return jdbc.queryForObject(sql.toString(), Long.class, args.toArray());
+    }
+
+    private static void condition(StringBuilder sql, List<Object> args, String condition, Object value) {
+        if (value != null) {
+            sql.append(" AND ").append(condition);
+            args.add(value);
+        }
+    }
+
+    /**
+     * 메모리 구조와 DB 비교: 통계와 분석 스냅샷의 활성 수, 필터 색인의 도메인별 활성 건수
+     */
+    private void assertMemoryMatchesDatabase() {
+        long active = jdbc.queryForObject("SELECT COUNT(*) FROM users WHERE is_active = TRUE", Long.class);
+        assertThat(statistics.getActiveCount()).contains(active);
+        assertThat(columnStore.getSummary(LocalDateTime.now().minusDays(1)).getActiveCount()).isEqualTo(active);
+        for (String domain : DOMAINS) {
+            UserSearchCriteria criteria = new UserSearchCriteria(null, null, null, true, domain, null, null);
+            assertThat(userMybatisService.searchUsers(criteria, 0, 20).getTotalElements())
+                    .as(domain).isEqualTo(mapper.countSearchUsers(criteria));
+        }
+    }
+
+    private void seed() {
+        Random random = new Random(42);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            int domain = (int) Math.floor(10 * Math.pow(random.nextDouble(), 2));
+            LocalDateTime createdAt = now.minusSeconds(random.nextInt(400 * 24 * 60) * 60L).withNano(0);
+            LocalDateTime updatedAt = createdAt.plusSeconds(random.nextInt(24 * 60 * 60) * 60L);
+            if (updatedAt.isAfter(now)) {
+                updatedAt = now.withNano(0);
+            }
+            rows.add(new Object[]{"user" + i, "user" + i + "@d" + domain + ".example", "d" + domain + ".example",
+                    "User " + i, Timestamp.valueOf(createdAt), Timestamp.valueOf(updatedAt), random.nextInt(10) < 7});
+        }
+        jdbc.batchUpdate("INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active, version) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)", rows);
+    }
+}
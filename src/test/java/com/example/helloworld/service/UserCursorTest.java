@@ -0,0 +1,89 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserCursorTest {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+
+    @Test
+    void roundTripsStringAndTimeKeys() {
+        User user = user(7L, TIME);
+
+        UserCursor byEmail = UserCursor.decode(UserCursor.of(user, "email").encode(), "email");
+        assertThat(byEmail.getStringKey()).isEqualTo("kim@example.com");
+        assertThat(byEmail.getId()).isEqualTo(7L);
+
+        UserCursor byUpdatedAt = UserCursor.decode(UserCursor.of(user, "updatedAt").encode(), "updatedAt");
+        assertThat(byUpdatedAt.getTimeKey()).isEqualTo(TIME);
+        assertThat(byUpdatedAt.getStringKey()).isNull();
+    }
+
+    @Test
+    void nullUpdatedAtRoundTripsAsNull() {
+        String token = UserCursor.of(user(9L, null), "updatedAt").encode();
+
+        UserCursor cursor = UserCursor.decode(token, "updatedAt");
+        assertThat(cursor.getTimeKey()).isNull();
+        assertThat(cursor.getId()).isEqualTo(9L);
+    }
+
+    @Test
+    void nullFullNameUsesEmptyKey() {
+        User user = user(3L, TIME);
+        user.setFullName(null);
+
+        assertThat(UserCursor.decode(UserCursor.of(user, "fullName").encode(), "fullName").getStringKey()).isEmpty();
+    }
+
+    @Test
+    void unsupportedSortFallsBackToCreatedAt() {
+        User user = user(5L, TIME);
+
+        UserCursor cursor = UserCursor.decode(UserCursor.of(user, "unknown").encode(), "unknown");
+        assertThat(cursor.getSortBy()).isEqualTo(UserCursor.SORT_CREATED_AT);
+        assertThat(cursor.getTimeKey()).isEqualTo(user.getCreatedAt());
+    }
+
+    @Test
+    void emptyTokenMeansFirstPage() {
+        assertThat(UserCursor.decode(null, "createdAt")).isNull();
+        assertThat(UserCursor.decode("", "createdAt")).isNull();
+    }
+
+    @Test
+    void rejectsMalformedOrMismatchedTokens() {
+        String byEmail = UserCursor.of(user(1L, TIME), "email").encode();
+
+        assertThatThrownBy(() -> UserCursor.decode(byEmail, "username"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserCursor.decode("not a cursor!", "email"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserCursor.decode(token("createdAt\u0000\u00001"), "createdAt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserCursor.decode(token("updatedAt\u0000yesterday\u00001"), "updatedAt"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> UserCursor.decode(token("email\u0000a@b.c\u0000x"), "email"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static User user(Long id, LocalDateTime updatedAt) {
+        User user = new User("kim", "kim@example.com", "Kim");
+        user.setId(id);
+        user.setCreatedAt(TIME.minusDays(1));
+        user.setUpdatedAt(updatedAt);
+        return user;
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 오프셋 모드와 커서 모드의 정렬 순서 비교 (JPA, MyBatis)
+ * 같은 정렬 기준이면 네 경로가 모두 같은 id 순서로 전체 행을 돌려줘야 한다.
+ * 같은 정렬 키, null fullName 과 빈 문자열 fullName, null updatedAt 을 섞어 적재한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:paging-order;DB_CLOSE_DELAY=-1",
+        "user-analytics.enabled=false",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class UserPagingOrderTest {
+
+    private static final int ROWS = 37;
+    private static final int PAGE_SIZE = 5;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserMybatisService userMybatisService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM users");
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            String fullName = i % 5 == 0 ? null : i % 5 == 1 ? "" : "Name " + (i % 4);
+            Timestamp updatedAt = i % 3 == 0 ? null : Timestamp.valueOf(base.plusDays(i % 4));
+            rows.add(new Object[]{"user" + (i * 7 % ROWS), "u" + i + "@example.com", fullName,
+                    Timestamp.valueOf(base.plusHours(i % 6)), updatedAt});
+        }
+        jdbc.batchUpdate("INSERT INTO users (username, email, email_domain, full_name, created_at, updated_at, is_active, version) "
+                + "VALUES (?, ?, 'example.com', ?, ?, ?, TRUE, 0)", rows);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"username", "email", "fullName", "updatedAt", "createdAt"})
+    void offsetAndCursorModesReturnSameOrder(String sortBy) {
+        List<Long> jpaOffset = new ArrayList<>();
+        List<Long> mybatisOffset = new ArrayList<>();
+        for (int page = 0; page * PAGE_SIZE < ROWS; page++) {
+            jpaOffset.addAll(ids(userService.getAllUsers(page, PAGE_SIZE, sortBy).getContent()));
+            mybatisOffset.addAll(ids(userMybatisService.getAllUsers(page, PAGE_SIZE, sortBy).getContent()));
+        }
+        List<Long> jpaCursor = new ArrayList<>();
+        List<Long> mybatisCursor = new ArrayList<>();
+        String jpaAfter = null;
+        String mybatisAfter = null;
+        do {
+            UserCursorPage jpaPage = userService.getUsersAfter(jpaAfter, PAGE_SIZE, sortBy);
+            UserCursorPage mybatisPage = userMybatisService.getUsersAfter(mybatisAfter, PAGE_SIZE, sortBy);
+            jpaCursor.addAll(ids(jpaPage.getContent()));
+            mybatisCursor.addAll(ids(mybatisPage.getContent()));
+            jpaAfter = jpaPage.getNextCursor();
+            mybatisAfter = mybatisPage.getNextCursor();
+        } while (jpaAfter != null || mybatisAfter != null);
+
+        assertThat(jpaOffset).hasSize(ROWS).doesNotHaveDuplicates();
+        assertThat(jpaCursor).as("JPA 커서").containsExactlyElementsOf(jpaOffset);
+        assertThat(mybatisOffset).as("MyBatis 오프셋").containsExactlyElementsOf(jpaOffset);
+        assertThat(mybatisCursor).as("MyBatis 커서").containsExactlyElementsOf(jpaOffset);
+    }
+
+    private static List<Long> ids(List<User> users) {
+        return users.stream().map(User::getId).toList();
+    }
+}
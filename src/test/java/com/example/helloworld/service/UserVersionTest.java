@@ -0,0 +1,106 @@
+package com.example.helloworld.service;
+
+import com.example.helloworld.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 생성/수정 시 version 처리가 JPA 와 MyBatis 경로에서 같은지 확인
+ * 생성은 클라이언트가 보낸 version 을 무시하고 0 으로 시작하며,
+ * 수정은 version 이 있으면 낙관적 잠금으로 확인하고 없으면 확인 없이 덮어쓴다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:user-version;DB_CLOSE_DELAY=-1",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class UserVersionTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserMybatisService userMybatisService;
+
+    @Autowired
+    private UserBulkService userBulkService;
+
+    @Autowired
+    private UserMybatisBulkService userMybatisBulkService;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.update("DELETE FROM users");
+    }
+
+    @Test
+    void createIgnoresClientVersion() {
+        assertThat(versionOf(userService.createUser(user("jpa", 7L)).getId())).isZero();
+        assertThat(versionOf(userMybatisService.createUser(user("mybatis", 7L)).getId())).isZero();
+        assertThat(versionOf(bulkCreate(userBulkService::apply, "jpa-bulk"))).isZero();
+        assertThat(versionOf(bulkCreate(userMybatisBulkService::apply, "mybatis-bulk"))).isZero();
+    }
+
+    @Test
+    void updateWithoutVersionOverwrites() {
+        Long id = userMybatisService.createUser(user("shared", null)).getId();
+
+        userService.updateUser(changed(id, "jpa", null));
+        userMybatisService.updateUser(changed(id, "mybatis", null));
+
+        assertThat(jdbc.queryForObject("SELECT full_name FROM users WHERE id = ?", String.class, id)).isEqualTo("mybatis");
+        assertThat(versionOf(id)).isEqualTo(2L);
+    }
+
+    @Test
+    void updateWithStaleVersionIsRejected() {
+        Long id = userMybatisService.createUser(user("stale", null)).getId();
+        userMybatisService.updateUser(changed(id, "first", 0L));
+
+        assertThatThrownBy(() -> userService.updateUser(changed(id, "jpa", 0L)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThatThrownBy(() -> userMybatisService.updateUser(changed(id, "mybatis", 0L)))
+                .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(versionOf(id)).isEqualTo(1L);
+    }
+
+    private Long bulkCreate(Function<BulkUserRequest, BulkUserResult> apply, String username) {
+        BulkUserRequest request = new BulkUserRequest();
+        request.setCreate(List.of(user(username, 7L)));
+        BulkUserResult result = apply.apply(request);
+        assertThat(result.getItems()).singleElement().satisfies(item -> assertThat(item.isSuccess()).isTrue());
+        return result.getItems().get(0).getId();
+    }
+
+    private long versionOf(Long id) {
+        return jdbc.queryForObject("SELECT version FROM users WHERE id = ?", Long.class, id);
+    }
+
+    private static User user(String username, Long version) {
+        User user = new User(username, username + "@example.com", null);
+        user.setVersion(version);
+        return user;
+    }
+
+    private static User changed(Long id, String fullName, Long version) {
+        User user = new User("shared-" + fullName, "shared-" + fullName + "@example.com", fullName);
+        user.setId(id);
+        user.setVersion(version);
+        return user;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.helloworld.snapshot;
+
+import com.example.helloworld.analytics.UserColumnStore;
+import com.example.helloworld.search.UserExistenceFilter;
+import com.example.helloworld.search.UserFilterIndex;
+import com.example.helloworld.search.UserNgramIndex;
+import com.example.helloworld.statistics.UserStatistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재구축 주기가 같은 시점에 도래한 메모리 구조가 한 번의 스캔으로 함께 재구축되는지 확인
+ * 주기는 0 으로 두어 확인 때마다 도래하게 하고, 스케줄 실행은 막은 채 rebuildDue() 를 직접 호출한다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.datasource.url=jdbc:h2:mem:snapshot-rebuild;DB_CLOSE_DELAY=-1",
+        "user-snapshot.check-interval-ms=3600000",
+        "user-statistics.reconcile-interval-ms=0",
+        "search-index.rebuild-interval-ms=0",
+        "filter-index.rebuild-interval-ms=0",
+        "user-analytics.rebuild-interval-ms=0",
+        "spring.jpa.show-sql=false",
+        "mybatis.configuration.log-impl=org.apache.ibatis.logging.nologging.NoLoggingImpl",
+        "logging.level.root=WARN",
+        "logging.level.org.hibernate.SQL=WARN"
+})
+class UserSnapshotRebuilderTest {
+
+    @Autowired
+    private UserSnapshotRebuilder rebuilder;
+
+    @Autowired
+    private UserStatistics statistics;
+
+    @Autowired
+    private UserExistenceFilter existenceFilter;
+
+    @Autowired
+    private UserNgramIndex ngramIndex;
+
+    @Autowired
+    private UserFilterIndex filterIndex;
+
+    @Autowired
+    private UserColumnStore columnStore;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Test
+    void dueTargetsShareOneScan() {
+        jdbc.update("INSERT INTO users (username, email, email_domain, full_name, created_at, is_active, version) "
+                + "VALUES ('out-of-band', 'out-of-band@example.com', 'example.com', NULL, CURRENT_TIMESTAMP, TRUE, 0)");
+        long rows = jdbc.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        long scans = rebuilder.getScanCount();
+
+        rebuilder.rebuildDue();
+
+        assertThat(rebuilder.getScanCount()).isEqualTo(scans + 1);
+        assertThat(statistics.getTotalCount()).contains(rows);
+        assertThat(ngramIndex.size()).isEqualTo(rows);
+        assertThat(filterIndex.size()).isEqualTo(rows);
+        assertThat(columnStore.getSummary(LocalDateTime.now()).getTotalCount()).isEqualTo(rows);
+        // Bloom 필터는 포화되지 않았으므로 이번 스캔에 포함되지 않는다
+        assertThat(existenceFilter.mightContainUsername("out-of-band")).isFalse();
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.helloworld.snapshot;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSnapshotTest {
+
+    private final UserSnapshot<Names> snapshot = new UserSnapshot<>(new Names());
+
+    @Test
+    void eventsCommittedDuringRebuildAreReplayedBeforeSwap() {
+        snapshot.apply(created(1L, "old"));
+        List<Names> swaps = new ArrayList<>();
+        UserSnapshot<Names>.Rebuild rebuild = snapshot.startRebuild(new Names(), (previous, rebuilt) -> swaps.add(previous));
+
+        // 스캔은 1, 2 를 읽었고 그동안 2 삭제, 3 생성이 커밋됨
+        rebuild.put(user(1L, "scanned"));
+        rebuild.put(user(2L, "scanned"));
+        snapshot.apply(UserChangeEvent.deleted(2L, "test"));
+        snapshot.apply(created(3L, "during"));
+        assertThat(names()).containsOnlyKeys(1L, 3L).containsEntry(1L, "old");
+
+        rebuild.complete();
+
+        assertThat(names()).isEqualTo(Map.of(1L, "scanned", 3L, "during"));
+        assertThat(swaps).singleElement().satisfies(previous -> assertThat(previous.byId).containsOnlyKeys(1L, 3L));
+        assertThat(snapshot.getLastRebuiltAt()).isPositive();
+    }
+
+    @Test
+    void onlyOneRebuildAtATime() {
+        UserSnapshot<Names>.Rebuild first = snapshot.startRebuild(new Names(), null);
+
+        assertThat(snapshot.startRebuild(new Names(), null)).isNull();
+        first.complete();
+        assertThat(snapshot.startRebuild(new Names(), null)).isNotNull();
+    }
+
+    @Test
+    void abortKeepsCurrentStructure() {
+        snapshot.apply(created(1L, "kept"));
+        UserSnapshot<Names>.Rebuild rebuild = snapshot.startRebuild(new Names(), null);
+        rebuild.put(user(2L, "partial"));
+
+        rebuild.abort();
+        snapshot.apply(created(3L, "after"));
+
+        assertThat(names()).containsOnlyKeys(1L, 3L);
+        assertThat(snapshot.getLastRebuiltAt()).isZero();
+        assertThat(snapshot.startRebuild(new Names(), null)).isNotNull();
+    }
+
+    private Map<Long, String> names() {
+        return snapshot.read(names -> names.byId);
+    }
+
+    private static UserChangeEvent created(Long id, String username) {
+        return UserChangeEvent.created(user(id, username), "test");
+    }
+
+    private static User user(Long id, String username) {
+        User user = new User(username, username + id + "@example.com", null);
+        user.setId(id);
+        return user;
+    }
+
+    private static class Names implements UserSnapshot.Rows {
+        private final Map<Long, String> byId = new TreeMap<>();
+
+        @Override
+        public void put(User user) {
+            byId.put(user.getId(), user.getUsername());
+        }
+
+        @Override
+        public void remove(Long id) {
+            byId.remove(id);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.helloworld.statistics;
+
+import com.example.helloworld.entity.User;
+import com.example.helloworld.event.UserChangeEvent;
+import com.example.helloworld.snapshot.UserSnapshot;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserStatisticsTest {
+
+    private final UserStatistics statistics = new UserStatistics(null, true, 0);
+
+    @Test
+    void domainLookupIgnoresCase() {
+        UserSnapshot<?>.Rebuild rebuild = statistics.startRebuild();
+        rebuild.put(user(1L, "first@Example.COM"));
+        rebuild.complete();
+        statistics.onUserChange(UserChangeEvent.created(user(2L, "second@example.com"), "test"));
+
+        assertThat(statistics.getDomainCount("example.com")).contains(2L);
+        assertThat(statistics.getDomainCount("EXAMPLE.Com")).contains(2L);
+        assertThat(statistics.getDomainCount("other.com")).contains(0L);
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User("user" + id, email, null);
+        user.setId(id);
+        return user;
+    }
+}